@@ -0,0 +1,79 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.creative.base.Writable;
+
+import java.nio.file.Path;
+
+/**
+ * Represents a {@link BuiltResourcePack} whose data is
+ * stored in a file, instead of being held in memory.
+ *
+ * <p>Servers can use the file directly (e.g. using
+ * {@link java.nio.channels.FileChannel#transferTo}) to send
+ * the resource-pack without copying it to the heap.</p>
+ *
+ * <p>The file must not be modified or deleted while this
+ * instance is in use.</p>
+ *
+ * @since 1.8.2
+ */
+@ApiStatus.NonExtendable
+public interface FileBuiltResourcePack extends BuiltResourcePack {
+    /**
+     * Creates a new {@link FileBuiltResourcePack} instance
+     * from the given zip file path and hash.
+     *
+     * @param path The resource-pack zip archive path
+     * @param hash The SHA-1 hash of the resource-pack
+     * @return The built resource-pack instance
+     * @since 1.8.2
+     */
+    static @NotNull FileBuiltResourcePack of(final @NotNull Path path, final @NotNull String hash) {
+        return new FileBuiltResourcePackImpl(path, hash);
+    }
+
+    /**
+     * Returns the path of the resource-pack zip
+     * archive.
+     *
+     * @return The resource-pack zip archive path
+     * @since 1.8.2
+     */
+    @NotNull Path path();
+
+    /**
+     * Returns the resource-pack zip archive data,
+     * read from {@link #path()} every time it's
+     * written.
+     *
+     * @return The resource-pack zip archive data
+     * @since 1.8.2
+     */
+    @Override
+    @NotNull Writable data();
+}
@@ -68,6 +68,50 @@ public interface ResourcePack extends ResourceContainer {
         return new ResourcePackImpl();
     }
 
+    /**
+     * Creates a new, empty resource-pack instance that can be
+     * populated by multiple threads at the same time, without
+     * external synchronization.
+     *
+     * <p>Resources of every kind are stored in lock-free maps sorted
+     * by key, so they are iterated (and written) in the same order
+     * no matter which thread added them first. Note that each single
+     * operation is thread-safe, but compound operations, like
+     * {@link #merge(ResourceContainer, team.unnamed.creative.resources.MergeStrategy) merge},
+     * are not atomic.
+     * Overlays added to this resource-pack keep their own
+     * thread-safety.</p>
+     *
+     * @return A new concurrent resource-pack instance
+     * @since 1.8.2
+     */
+    static @NotNull ResourcePack concurrentResourcePack() {
+        return new ResourcePackImpl(true);
+    }
+
+    /**
+     * Creates an immutable snapshot of this resource-pack, which is
+     * not affected by later modifications to this resource-pack, so
+     * it can be written while this resource-pack is still being
+     * modified.
+     *
+     * <p>Snapshots share structure with this resource-pack: taking one
+     * takes constant time and copies no resource, and modifying this
+     * resource-pack afterwards only copies the few internal nodes that
+     * the modification touches, taking time proportional to the
+     * logarithm of the amount of resources of that kind. This also
+     * applies to {@link #concurrentResourcePack() concurrent resource-packs},
+     * whose snapshots are consistent even if other threads are modifying
+     * them.</p>
+     *
+     * <p>Modifying the returned resource-pack, or its overlays, throws
+     * an {@link UnsupportedOperationException}.</p>
+     *
+     * @return The resource-pack snapshot
+     * @since 1.8.2
+     */
+    @NotNull ResourcePack snapshot();
+
     /**
      * Creates a new, empty resource-pack instance.
      *
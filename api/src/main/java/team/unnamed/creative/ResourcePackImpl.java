@@ -33,21 +33,65 @@ import team.unnamed.creative.metadata.pack.PackMeta;
 import team.unnamed.creative.overlay.Overlay;
 import team.unnamed.creative.overlay.ResourceContainer;
 import team.unnamed.creative.overlay.ResourceContainerImpl;
+import team.unnamed.creative.resources.MergeConflict;
 import team.unnamed.creative.resources.MergeStrategy;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static java.util.Objects.requireNonNull;
 
 final class ResourcePackImpl extends ResourceContainerImpl implements ResourcePack {
 
-    private final Map<String, Overlay> overlays = new LinkedHashMap<>();
+    private final Map<String, Overlay> overlays;
 
-    private @Nullable Writable icon;
-    private Metadata metadata;
+    private volatile @Nullable Writable icon;
+    private volatile Metadata metadata;
+
+    private final boolean snapshot;
+
+    ResourcePackImpl() {
+        this(false);
+    }
+
+    ResourcePackImpl(final boolean concurrent) {
+        super(concurrent);
+        this.overlays = newMap(concurrent);
+        this.snapshot = false;
+    }
+
+    private ResourcePackImpl(final @NotNull ResourcePackImpl source) {
+        super(source);
+        final Map<String, Overlay> overlays = new LinkedHashMap<>();
+        for (final Overlay overlay : source.overlays.values()) {
+            overlays.put(
+                    overlay.directory(),
+                    overlay instanceof ResourceContainerImpl
+                            ? (Overlay) ((ResourceContainerImpl) overlay).snapshot()
+                            : overlay
+            );
+        }
+        this.overlays = Collections.unmodifiableMap(overlays);
+        this.icon = source.icon;
+        this.metadata = source.metadata;
+        this.snapshot = true;
+    }
+
+    @Override
+    public @NotNull ResourcePack snapshot() {
+        return new ResourcePackImpl(this);
+    }
+
+    private void checkNotSnapshot() {
+        if (snapshot) {
+            throw new UnsupportedOperationException("Snapshots can't be modified");
+        }
+    }
 
     @Override
     public @Nullable Writable icon() {
@@ -56,6 +100,7 @@ final class ResourcePackImpl extends ResourceContainerImpl implements ResourcePa
 
     @Override
     public void icon(final @Nullable Writable icon) {
+        checkNotSnapshot();
         this.icon = icon;
     }
 
@@ -67,6 +112,7 @@ final class ResourcePackImpl extends ResourceContainerImpl implements ResourcePa
     @Override
     public void metadata(final @NotNull Metadata metadata) {
         requireNonNull(metadata, "metadata");
+        checkNotSnapshot();
         this.metadata = metadata;
     }
 
@@ -88,9 +134,14 @@ final class ResourcePackImpl extends ResourceContainerImpl implements ResourcePa
     }
 
     @Override
-    public void merge(final @NotNull ResourceContainer other, final @NotNull MergeStrategy strategy) {
-        super.merge(other, strategy);
+    protected @NotNull List<Merger> mergers() {
+        final List<Merger> mergers = super.mergers();
+        mergers.add(this::mergeResourcePack);
+        return mergers;
+    }
 
+    private void mergeResourcePack(final @NotNull ResourceContainer other, final @NotNull MergeStrategy strategy, final @Nullable Consumer<MergeConflict> conflicts) {
+        checkNotSnapshot();
         if (!(other instanceof ResourcePack)) {
             return;
         }
@@ -100,25 +151,21 @@ final class ResourcePackImpl extends ResourceContainerImpl implements ResourcePa
 
         // merge icon
         final Writable newIcon = otherPack.icon();
-        if (strategy == MergeStrategy.override()) {
-            if (newIcon != null) {
-                icon = newIcon;
-            }
-        } else if (strategy == MergeStrategy.mergeAndFailOnError()) {
-            if (newIcon != null && icon != null) {
-                throw new IllegalStateException("Can't merge resource packs, icons are already set for both packs");
-            } else if (newIcon != null) {
-                icon = newIcon;
-            }
-        } else if (strategy == MergeStrategy.mergeAndKeepFirstOnError()) {
-            if (icon == null && newIcon != null) {
-                icon = newIcon;
-            }
+        if (newIcon != null && (icon == null || resolveConflict(strategy, conflicts, other, "icon", "pack.png",
+                () -> new IllegalStateException("Can't merge resource packs, icons are already set for both packs")))) {
+            icon = newIcon;
         }
 
         // merge metadata
         final Metadata newMetadata = otherPack.metadata();
         if (metadata == null || strategy == MergeStrategy.override()) {
+            if (metadata != null) {
+                for (final MetadataPart part : newMetadata.parts()) {
+                    if (metadata.meta(part.type()) != null) {
+                        reportConflict(conflicts, other, "metadata", part.type().getSimpleName(), true);
+                    }
+                }
+            }
             metadata = newMetadata;
         } else {
             // O(n^2) :C
@@ -149,9 +196,13 @@ final class ResourcePackImpl extends ResourceContainerImpl implements ResourcePa
                         break;
                     }
                 }
-                if (duplicate && strategy == MergeStrategy.mergeAndFailOnError()) {
-                    throw new IllegalStateException("Can't merge resource packs, metadata part of type " +
-                            part.type().getSimpleName() + " is already set for both packs");
+                if (duplicate) {
+                    if (!resolveConflict(strategy, conflicts, other, "metadata", part.type().getSimpleName(),
+                            () -> new IllegalStateException("Can't merge resource packs, metadata part of type " +
+                                    part.type().getSimpleName() + " is already set for both packs"))) {
+                        continue;
+                    }
+                    oldParts.removeIf(oldPart -> oldPart.type() == part.type());
                 }
 
                 oldParts.add(part);
@@ -166,6 +217,11 @@ final class ResourcePackImpl extends ResourceContainerImpl implements ResourcePa
             final Overlay existingOverlay = overlays.get(overlay.directory());
             if (existingOverlay == null) {
                 overlays.put(overlay.directory(), overlay);
+            } else if (existingOverlay instanceof ResourceContainerImpl) {
+                // report overlay conflicts as conflicts from the merged resource-pack
+                ((ResourceContainerImpl) existingOverlay).merge(overlay, strategy, conflicts == null ? null : conflict -> conflicts.accept(
+                        MergeConflict.mergeConflict(conflict.category(), conflict.key(), conflict.overlay(), other, conflict.winner())
+                ));
             } else {
                 existingOverlay.merge(overlay, strategy);
             }
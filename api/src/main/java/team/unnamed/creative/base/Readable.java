@@ -35,6 +35,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
@@ -274,6 +275,70 @@ public interface Readable {
         };
     }
 
+    /**
+     * Creates a new {@link Readable} instance representing the
+     * remaining bytes of the given buffer, which are <b>not</b>
+     * copied, so the buffer content must not be modified after
+     * calling this method. The buffer position and limit are
+     * not modified.
+     *
+     * <p>Slices of a single big buffer (e.g. a memory-mapped
+     * file) can be used to represent many files without
+     * copying them to separate byte arrays.</p>
+     *
+     * @param buffer The wrapped buffer
+     * @return The {@link Readable} representation
+     * @since 1.8.2
+     */
+    static @NotNull Readable byteBuffer(final @NotNull ByteBuffer buffer) {
+        requireNonNull(buffer, "buffer");
+        final ByteBuffer data = buffer.slice();
+        return new Readable() {
+
+            @Override
+            public @NotNull InputStream open() {
+                return new ByteBufferInputStream(data.duplicate());
+            }
+
+            @Override
+            public void readAndWrite(final @NotNull OutputStream output) {
+                try {
+                    asWritable().write(output);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException("Failed to read and write", e);
+                }
+            }
+
+            @Override
+            public byte @NotNull [] readAsByteArray() {
+                final byte[] bytes = new byte[data.remaining()];
+                data.duplicate().get(bytes);
+                return bytes;
+            }
+
+            @Override
+            public @NotNull String readAsUTF8String() {
+                if (data.hasArray()) {
+                    return new String(data.array(), data.arrayOffset() + data.position(), data.remaining(), StandardCharsets.UTF_8);
+                } else {
+                    return new String(readAsByteArray(), StandardCharsets.UTF_8);
+                }
+            }
+
+            @Override
+            public @NotNull Writable asWritable() {
+                // same buffer, no copies
+                return Writable.byteBuffer(data);
+            }
+
+            @Override
+            public String toString() {
+                return "Readable { type='byteBuffer', length=" + data.remaining() + " }";
+            }
+
+        };
+    }
+
     /**
      * Creates a new {@link Readable} instance representing
      * the given string, which is read via a {@link ByteArrayInputStream}
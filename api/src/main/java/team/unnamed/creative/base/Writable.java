@@ -33,6 +33,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
@@ -285,6 +286,54 @@ public interface Writable {
     }
 
 
+    /**
+     * Creates a new {@link Writable} instance representing the
+     * remaining bytes of the given buffer, which are <b>not</b>
+     * copied, so the buffer content must not be modified after
+     * calling this method. The buffer position and limit are
+     * not modified.
+     *
+     * @param buffer The wrapped buffer
+     * @return The {@link Writable} representation
+     * @since 1.8.2
+     */
+    static @NotNull Writable byteBuffer(final @NotNull ByteBuffer buffer) {
+        requireNonNull(buffer, "buffer");
+        final ByteBuffer data = buffer.slice();
+        return new Writable() {
+
+            @Override
+            public void write(final @NotNull OutputStream output) throws IOException {
+                requireNonNull(output, "output");
+                if (data.hasArray()) {
+                    output.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+                } else {
+                    // direct or read-only buffer, copied in chunks
+                    final ByteBuffer source = data.duplicate();
+                    final byte[] buf = new byte[Math.min(source.remaining(), 8192)];
+                    while (source.hasRemaining()) {
+                        final int length = Math.min(buf.length, source.remaining());
+                        source.get(buf, 0, length);
+                        output.write(buf, 0, length);
+                    }
+                }
+            }
+
+            @Override
+            public byte @NotNull [] toByteArray() {
+                final byte[] bytes = new byte[data.remaining()];
+                data.duplicate().get(bytes);
+                return bytes;
+            }
+
+            @Override
+            public String toString() {
+                return "Writable { type='byteBuffer', length=" + data.remaining() + " }";
+            }
+
+        };
+    }
+
     /**
      * Creates a new {@link Writable} instance representing
      * the given string, which is written using the UTF-8
@@ -0,0 +1,481 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.overlay;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Map} whose values may be loaded
+ * when first requested, see {@link #putLazy(Object, Supplier)}.
+ *
+ * <p>Replacing or removing a value never loads it, so {@link #put}
+ * and {@link #remove} return {@code null} if the previous value was
+ * not loaded yet, use {@link #removeKey(Object)} to know whether a
+ * value was removed.</p>
+ *
+ * <p>Entries are kept in persistent (immutable, structurally shared)
+ * trees, so modifications take time proportional to {@code log(n)}
+ * and immutable snapshots take constant time, see {@link #snapshot()}.
+ * Modifications are atomic, so this map is thread-safe, and its
+ * iterators never throw {@link java.util.ConcurrentModificationException}.</p>
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+final class LazyMap<K, V> extends AbstractMap<K, V> {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LazyMap, Entries> ENTRIES
+            = AtomicReferenceFieldUpdater.newUpdater(LazyMap.class, Entries.class, "entries");
+
+    // values are either V or Lazy<V>
+    private volatile Entries<K> entries;
+    private final boolean frozen;
+
+    private LazyMap(final @NotNull Entries<K> entries, final boolean frozen) {
+        this.entries = requireNonNull(entries, "entries");
+        this.frozen = frozen;
+    }
+
+    /**
+     * Creates a new, empty lazy map that iterates
+     * in key order.
+     *
+     * @return The lazy map
+     */
+    static <K extends Comparable<? super K>, V> @NotNull LazyMap<K, V> sorted() {
+        return new LazyMap<>(new SortedEntries<>(PersistentTreeMap.empty(Comparator.<K>naturalOrder())), false);
+    }
+
+    /**
+     * Creates a new, empty lazy map that iterates
+     * in insertion order, replacing a value does not
+     * change its position.
+     *
+     * @return The lazy map
+     */
+    static <K extends Comparable<? super K>, V> @NotNull LazyMap<K, V> insertionOrdered() {
+        return new LazyMap<>(InsertionOrderedEntries.empty(Comparator.<K>naturalOrder()), false);
+    }
+
+    /**
+     * Creates an immutable snapshot of this map, the snapshot is not
+     * affected by later modifications to this map.
+     *
+     * <p>This is a constant-time operation: the snapshot shares the
+     * entries of this map as they are right now, later modifications
+     * only copy the nodes they touch, so they still take time
+     * proportional to {@code log(n)}. The snapshot is consistent even
+     * if other threads are modifying this map.</p>
+     *
+     * <p>Lazy values are shared too, so they are only loaded once.</p>
+     *
+     * @return The immutable snapshot
+     */
+    @NotNull LazyMap<K, V> snapshot() {
+        return new LazyMap<>(entries, true);
+    }
+
+    /**
+     * Creates an immutable snapshot of this map, whose values are
+     * snapshots of this map values, this map must not contain lazy
+     * values.
+     *
+     * <p>Unlike {@link #snapshot()}, this operation takes time
+     * proportional to {@code n log(n)}.</p>
+     *
+     * @param valueSnapshot The function creating value snapshots
+     * @return The immutable snapshot
+     */
+    @NotNull LazyMap<K, V> snapshot(final @NotNull UnaryOperator<V> valueSnapshot) {
+        requireNonNull(valueSnapshot, "valueSnapshot");
+        final Entries<K> source = entries;
+        Entries<K> snapshot = source.clear();
+        for (final Entry<K, Object> entry : source) {
+            snapshot = snapshot.put(entry.getKey(), valueSnapshot.apply(resolve(entry.getValue())));
+        }
+        return new LazyMap<>(snapshot, true);
+    }
+
+    // replaces the entries by the result of applying the given
+    // operation, returns the previous value for the given key
+    private @Nullable Object write(final @NotNull K key, final @NotNull UnaryOperator<Entries<K>> operation) {
+        if (frozen) {
+            throw new UnsupportedOperationException("Snapshots can't be modified");
+        }
+        while (true) {
+            final Entries<K> current = entries;
+            final Object previous = current.get(key);
+            final Entries<K> updated = operation.apply(current);
+            if (updated == current || ENTRIES.compareAndSet(this, current, updated)) {
+                return previous;
+            }
+        }
+    }
+
+    /**
+     * Puts a value that is loaded by the given loader the first time
+     * it is requested, the loaded value is then kept.
+     *
+     * @param key    The key
+     * @param loader The value loader, must not return null
+     */
+    void putLazy(final @NotNull K key, final @NotNull Supplier<? extends V> loader) {
+        final Lazy<V> lazy = new Lazy<>(requireNonNull(loader, "loader"));
+        write(requireNonNull(key, "key"), current -> current.put(key, lazy));
+    }
+
+    @Override
+    public @Nullable V get(final Object key) {
+        return resolve(find(key));
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable Object find(final @Nullable Object key) {
+        if (key == null) {
+            return null;
+        }
+        try {
+            return entries.get((K) key);
+        } catch (final ClassCastException ignored) {
+            // not comparable with our keys, so it can't be one of them
+            return null;
+        }
+    }
+
+    /**
+     * Removes the value for the given key, without loading it.
+     *
+     * @param key The key
+     * @return True if there was a value for the given key
+     */
+    boolean removeKey(final @NotNull K key) {
+        return write(requireNonNull(key, "key"), current -> current.remove(key)) != null;
+    }
+
+    @Override
+    public @Nullable V put(final @NotNull K key, final @NotNull V value) {
+        requireNonNull(value, "value");
+        return loaded(write(requireNonNull(key, "key"), current -> current.put(key, value)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable V remove(final Object key) {
+        if (find(key) == null) {
+            if (frozen) {
+                throw new UnsupportedOperationException("Snapshots can't be modified");
+            }
+            return null;
+        }
+        final K k = (K) key;
+        return loaded(write(k, current -> current.remove(k)));
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return find(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void clear() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Snapshots can't be modified");
+        }
+        while (true) {
+            final Entries<K> current = entries;
+            final Entries<K> updated = current.clear();
+            if (updated == current || ENTRIES.compareAndSet(this, current, updated)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Iterators work on the entries this map had when they were
+     * created, {@link Entry#setValue} and {@link Iterator#remove()}
+     * modify this map by key.</p>
+     */
+    @Override
+    public @NotNull Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public @NotNull Iterator<Entry<K, V>> iterator() {
+                final Iterator<Entry<K, Object>> iterator = entries.iterator();
+                return new Iterator<Entry<K, V>>() {
+                    private @Nullable K lastKey;
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        final Entry<K, Object> entry = iterator.next();
+                        final K key = entry.getKey();
+                        lastKey = key;
+                        return new Entry<K, V>() {
+                            private Object value = entry.getValue();
+
+                            @Override
+                            public K getKey() {
+                                return key;
+                            }
+
+                            @Override
+                            public V getValue() {
+                                return resolve(value);
+                            }
+
+                            @Override
+                            public V setValue(final V value) {
+                                final V previous = LazyMap.this.put(key, value);
+                                this.value = value;
+                                return previous;
+                            }
+                        };
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (lastKey == null) {
+                            throw new IllegalStateException();
+                        }
+                        final K key = lastKey;
+                        write(key, current -> current.remove(key));
+                        lastKey = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return entries.size();
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable V resolve(final @Nullable Object value) {
+        if (value instanceof Lazy) {
+            return ((Lazy<V>) value).get();
+        } else {
+            return (V) value;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable V loaded(final @Nullable Object value) {
+        if (value instanceof Lazy) {
+            return ((Lazy<V>) value).loaded();
+        } else {
+            return (V) value;
+        }
+    }
+
+    /**
+     * An immutable set of entries, modifications
+     * return new sets sharing structure with this one.
+     *
+     * @param <K> The key type
+     */
+    private interface Entries<K> extends Iterable<Entry<K, Object>> {
+        @Nullable Object get(final @NotNull K key);
+
+        @NotNull Entries<K> put(final @NotNull K key, final @NotNull Object value);
+
+        @NotNull Entries<K> remove(final @NotNull K key);
+
+        @NotNull Entries<K> clear();
+
+        int size();
+    }
+
+    private static final class SortedEntries<K> implements Entries<K> {
+        private final PersistentTreeMap<K, Object> tree;
+
+        SortedEntries(final @NotNull PersistentTreeMap<K, Object> tree) {
+            this.tree = tree;
+        }
+
+        @Override
+        public @Nullable Object get(final @NotNull K key) {
+            return tree.get(key);
+        }
+
+        @Override
+        public @NotNull Entries<K> put(final @NotNull K key, final @NotNull Object value) {
+            return new SortedEntries<>(tree.put(key, value));
+        }
+
+        @Override
+        public @NotNull Entries<K> remove(final @NotNull K key) {
+            final PersistentTreeMap<K, Object> updated = tree.remove(key);
+            return updated == tree ? this : new SortedEntries<>(updated);
+        }
+
+        @Override
+        public @NotNull Entries<K> clear() {
+            return tree.size() == 0 ? this : new SortedEntries<>(tree.clear());
+        }
+
+        @Override
+        public int size() {
+            return tree.size();
+        }
+
+        @Override
+        public @NotNull Iterator<Entry<K, Object>> iterator() {
+            return tree.iterator();
+        }
+    }
+
+    // keeps insertion order with a second tree, sorted by
+    // the sequence number each key gets when first inserted
+    private static final class InsertionOrderedEntries<K> implements Entries<K> {
+        private final PersistentTreeMap<K, Slot<K>> index;
+        private final PersistentTreeMap<Long, Slot<K>> order;
+        private final long nextSequence;
+
+        private InsertionOrderedEntries(
+                final @NotNull PersistentTreeMap<K, Slot<K>> index,
+                final @NotNull PersistentTreeMap<Long, Slot<K>> order,
+                final long nextSequence
+        ) {
+            this.index = index;
+            this.order = order;
+            this.nextSequence = nextSequence;
+        }
+
+        static <K> @NotNull InsertionOrderedEntries<K> empty(final @NotNull Comparator<? super K> comparator) {
+            return new InsertionOrderedEntries<>(PersistentTreeMap.empty(comparator), PersistentTreeMap.empty(Comparator.naturalOrder()), 0L);
+        }
+
+        @Override
+        public @Nullable Object get(final @NotNull K key) {
+            final Slot<K> slot = index.get(key);
+            return slot == null ? null : slot.value;
+        }
+
+        @Override
+        public @NotNull Entries<K> put(final @NotNull K key, final @NotNull Object value) {
+            final Slot<K> previous = index.get(key);
+            final long sequence = previous == null ? nextSequence : previous.sequence;
+            final Slot<K> slot = new Slot<>(key, sequence, value);
+            return new InsertionOrderedEntries<>(
+                    index.put(key, slot),
+                    order.put(sequence, slot),
+                    previous == null ? nextSequence + 1 : nextSequence
+            );
+        }
+
+        @Override
+        public @NotNull Entries<K> remove(final @NotNull K key) {
+            final Slot<K> previous = index.get(key);
+            if (previous == null) {
+                return this;
+            }
+            return new InsertionOrderedEntries<>(index.remove(key), order.remove(previous.sequence), nextSequence);
+        }
+
+        @Override
+        public @NotNull Entries<K> clear() {
+            return index.size() == 0 ? this : new InsertionOrderedEntries<>(index.clear(), order.clear(), 0L);
+        }
+
+        @Override
+        public int size() {
+            return index.size();
+        }
+
+        @Override
+        public @NotNull Iterator<Entry<K, Object>> iterator() {
+            final Iterator<Entry<Long, Slot<K>>> iterator = order.iterator();
+            return new Iterator<Entry<K, Object>>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Entry<K, Object> next() {
+                    return iterator.next().getValue();
+                }
+            };
+        }
+    }
+
+    private static final class Slot<K> extends SimpleImmutableEntry<K, Object> {
+        private final long sequence;
+        private final Object value;
+
+        Slot(final @NotNull K key, final long sequence, final @NotNull Object value) {
+            super(key, value);
+            this.sequence = sequence;
+            this.value = value;
+        }
+    }
+
+    private static final class Lazy<V> {
+        private @Nullable Supplier<? extends V> loader;
+        private @Nullable V value;
+
+        Lazy(final @NotNull Supplier<? extends V> loader) {
+            this.loader = loader;
+        }
+
+        synchronized @NotNull V get() {
+            if (loader != null) {
+                // if the loader fails, it is tried again next time
+                value = requireNonNull(loader.get(), "Loaded value is null");
+                loader = null;
+            }
+            return requireNonNull(value);
+        }
+
+        synchronized @Nullable V loaded() {
+            return value;
+        }
+    }
+}
@@ -35,6 +35,16 @@ final class OverlayImpl extends ResourceContainerImpl implements Overlay {
         this.directory = Objects.requireNonNull(directory, "directory");
     }
 
+    private OverlayImpl(final @NotNull OverlayImpl source) {
+        super(source);
+        this.directory = source.directory;
+    }
+
+    @Override
+    public @NotNull Overlay snapshot() {
+        return new OverlayImpl(this);
+    }
+
     @Override
     public @NotNull String directory() {
         return directory;
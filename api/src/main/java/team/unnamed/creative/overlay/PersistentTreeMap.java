@@ -0,0 +1,273 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.overlay;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable sorted map, backed by an AVL tree. Modifications
+ * return a new map that shares all the unmodified nodes with this
+ * one, so they only copy the path to the modified node and take
+ * time proportional to {@code log(n)}.
+ *
+ * <p>Keys and values must not be null.</p>
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+final class PersistentTreeMap<K, V> implements Iterable<Map.Entry<K, V>> {
+    private final Comparator<? super K> comparator;
+    private final @Nullable Node<K, V> root;
+    private final int size;
+
+    private PersistentTreeMap(final @NotNull Comparator<? super K> comparator, final @Nullable Node<K, V> root, final int size) {
+        this.comparator = comparator;
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Creates an empty map, sorted by the given comparator.
+     *
+     * @param comparator The key comparator
+     * @return The empty map
+     */
+    static <K, V> @NotNull PersistentTreeMap<K, V> empty(final @NotNull Comparator<? super K> comparator) {
+        return new PersistentTreeMap<>(requireNonNull(comparator, "comparator"), null, 0);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value for the given key.
+     *
+     * @param key The key
+     * @return The value, null if there is no value for the key
+     */
+    @Nullable V get(final @NotNull K key) {
+        Node<K, V> node = root;
+        while (node != null) {
+            final int comparison = comparator.compare(key, node.key);
+            if (comparison == 0) {
+                return node.value;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns a map with the given value for the given key,
+     * replacing the previous value, if any.
+     *
+     * @param key   The key
+     * @param value The value
+     * @return The new map
+     */
+    @NotNull PersistentTreeMap<K, V> put(final @NotNull K key, final @NotNull V value) {
+        requireNonNull(key, "key");
+        requireNonNull(value, "value");
+        final int newSize = get(key) == null ? size + 1 : size;
+        return new PersistentTreeMap<>(comparator, insert(root, key, value), newSize);
+    }
+
+    /**
+     * Returns a map without the value for the given key.
+     *
+     * @param key The key
+     * @return The new map, or this map if there was no value for the key
+     */
+    @NotNull PersistentTreeMap<K, V> remove(final @NotNull K key) {
+        if (get(key) == null) {
+            return this;
+        }
+        return new PersistentTreeMap<>(comparator, delete(root, key), size - 1);
+    }
+
+    /**
+     * Returns an empty map with the same comparator.
+     *
+     * @return The empty map
+     */
+    @NotNull PersistentTreeMap<K, V> clear() {
+        return size == 0 ? this : new PersistentTreeMap<>(comparator, null, 0);
+    }
+
+    /**
+     * Returns an iterator over the entries of this
+     * map, in ascending key order.
+     *
+     * @return The entry iterator
+     */
+    @Override
+    public @NotNull Iterator<Map.Entry<K, V>> iterator() {
+        return new Iterator<Map.Entry<K, V>>() {
+            private final Deque<Node<K, V>> stack = new ArrayDeque<>();
+
+            {
+                pushLeft(root);
+            }
+
+            private void pushLeft(@Nullable Node<K, V> node) {
+                while (node != null) {
+                    stack.push(node);
+                    node = node.left;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            public Map.Entry<K, V> next() {
+                if (stack.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                final Node<K, V> node = stack.pop();
+                pushLeft(node.right);
+                return node;
+            }
+        };
+    }
+
+    private @NotNull Node<K, V> insert(final @Nullable Node<K, V> node, final @NotNull K key, final @NotNull V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+        final int comparison = comparator.compare(key, node.key);
+        if (comparison < 0) {
+            return balance(node.key, node.value, insert(node.left, key, value), node.right);
+        } else if (comparison > 0) {
+            return balance(node.key, node.value, node.left, insert(node.right, key, value));
+        } else {
+            return new Node<>(key, value, node.left, node.right);
+        }
+    }
+
+    private @Nullable Node<K, V> delete(final @NotNull Node<K, V> node, final @NotNull K key) {
+        final int comparison = comparator.compare(key, node.key);
+        if (comparison < 0) {
+            return balance(node.key, node.value, delete(requireNonNull(node.left), key), node.right);
+        } else if (comparison > 0) {
+            return balance(node.key, node.value, node.left, delete(requireNonNull(node.right), key));
+        }
+        if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        // replace by the smallest node of the right subtree
+        Node<K, V> min = node.right;
+        while (min.left != null) {
+            min = min.left;
+        }
+        return balance(min.key, min.value, node.left, deleteMin(node.right));
+    }
+
+    private static <K, V> @Nullable Node<K, V> deleteMin(final @NotNull Node<K, V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.key, node.value, deleteMin(node.left), node.right);
+    }
+
+    private static <K, V> @NotNull Node<K, V> balance(
+            final @NotNull K key,
+            final @NotNull V value,
+            final @Nullable Node<K, V> left,
+            final @Nullable Node<K, V> right
+    ) {
+        final int leftHeight = height(left);
+        final int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            // left is never null here
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+            }
+            final Node<K, V> pivot = requireNonNull(left.right);
+            return new Node<>(pivot.key, pivot.value,
+                    new Node<>(left.key, left.value, left.left, pivot.left),
+                    new Node<>(key, value, pivot.right, right));
+        } else if (rightHeight > leftHeight + 1) {
+            // right is never null here
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+            }
+            final Node<K, V> pivot = requireNonNull(right.left);
+            return new Node<>(pivot.key, pivot.value,
+                    new Node<>(key, value, left, pivot.left),
+                    new Node<>(right.key, right.value, pivot.right, right.right));
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    private static int height(final @Nullable Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node<K, V> implements Map.Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final @Nullable Node<K, V> left;
+        private final @Nullable Node<K, V> right;
+        private final int height;
+
+        Node(final @NotNull K key, final @NotNull V value, final @Nullable Node<K, V> left, final @Nullable Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(final V value) {
+            throw new UnsupportedOperationException("Persistent map entries can't be modified");
+        }
+    }
+}
@@ -39,6 +39,7 @@ import team.unnamed.creative.metadata.Metadata;
 import team.unnamed.creative.model.Model;
 import team.unnamed.creative.part.ResourcePackPart;
 import team.unnamed.creative.resources.MergeException;
+import team.unnamed.creative.resources.MergeReport;
 import team.unnamed.creative.resources.MergeStrategy;
 import team.unnamed.creative.sound.Sound;
 import team.unnamed.creative.sound.SoundEvent;
@@ -50,6 +51,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import static java.util.Objects.requireNonNull;
 
@@ -731,4 +733,77 @@ public interface ResourceContainer {
      * @since 1.4.0
      */
     void merge(final @NotNull ResourceContainer other, final @NotNull MergeStrategy strategy);
+
+    /**
+     * Merges all the given resource containers with this resource
+     * container, in a single pass.
+     *
+     * <p>The result is the same as merging every container, in
+     * iteration order, using {@link #merge(ResourceContainer, MergeStrategy)}.
+     * Resources of different kinds (models, textures, etc.) are merged
+     * independently, as tasks executed by the given executor, so they
+     * can be merged concurrently.</p>
+     *
+     * <p>If any merge fails, the thrown exception is the one that
+     * merging the containers one by one would have thrown, other
+     * failures are {@link Throwable#addSuppressed(Throwable) suppressed}
+     * by it. This resource container is left partially merged.</p>
+     *
+     * <p>Neither this resource container nor the given containers must
+     * be modified while merging.</p>
+     *
+     * @param others   The other resource containers
+     * @param strategy The merge strategy
+     * @param executor The executor used to merge every kind of resource
+     * @throws MergeException If the merge fails
+     * @since 1.8.2
+     */
+    void merge(final @NotNull Collection<? extends ResourceContainer> others, final @NotNull MergeStrategy strategy, final @NotNull Executor executor);
+
+    /**
+     * Merges all the given resource containers with this resource
+     * container, in a single pass, in the current thread.
+     *
+     * @param others   The other resource containers
+     * @param strategy The merge strategy
+     * @throws MergeException If the merge fails
+     * @see #merge(Collection, MergeStrategy, Executor)
+     * @since 1.8.2
+     */
+    default void merge(final @NotNull Collection<? extends ResourceContainer> others, final @NotNull MergeStrategy strategy) {
+        merge(others, strategy, Runnable::run);
+    }
+
+    /**
+     * Merges all the given resource containers with this resource
+     * container, like {@link #merge(Collection, MergeStrategy, Executor)},
+     * but collecting every conflict instead of failing on the first one.
+     *
+     * <p>Conflicts are resolved as the given strategy does, except
+     * that {@link MergeStrategy#mergeAndFailOnError()} keeps the existing
+     * resources instead of failing. Resources replaced by
+     * {@link MergeStrategy#override()} are reported too.</p>
+     *
+     * @param others   The other resource containers
+     * @param strategy The merge strategy
+     * @param executor The executor used to merge every kind of resource
+     * @return The merge report, containing all the conflicts
+     * @since 1.8.2
+     */
+    @NotNull MergeReport mergeAndReport(final @NotNull Collection<? extends ResourceContainer> others, final @NotNull MergeStrategy strategy, final @NotNull Executor executor);
+
+    /**
+     * Merges all the given resource containers with this resource
+     * container, in the current thread, collecting every conflict
+     * instead of failing on the first one.
+     *
+     * @param others   The other resource containers
+     * @param strategy The merge strategy
+     * @return The merge report, containing all the conflicts
+     * @see #mergeAndReport(Collection, MergeStrategy, Executor)
+     * @since 1.8.2
+     */
+    default @NotNull MergeReport mergeAndReport(final @NotNull Collection<? extends ResourceContainer> others, final @NotNull MergeStrategy strategy) {
+        return mergeAndReport(others, strategy, Runnable::run);
+    }
 }
@@ -24,6 +24,7 @@
 package team.unnamed.creative.overlay;
 
 import net.kyori.adventure.key.Key;
+import net.kyori.adventure.key.Keyed;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -40,7 +41,10 @@ import team.unnamed.creative.item.Item;
 import team.unnamed.creative.lang.Language;
 import team.unnamed.creative.model.ItemOverride;
 import team.unnamed.creative.model.Model;
+import team.unnamed.creative.part.ResourcePackPart;
+import team.unnamed.creative.resources.MergeConflict;
 import team.unnamed.creative.resources.MergeException;
+import team.unnamed.creative.resources.MergeReport;
 import team.unnamed.creative.resources.MergeStrategy;
 import team.unnamed.creative.sound.Sound;
 import team.unnamed.creative.sound.SoundEvent;
@@ -54,25 +58,186 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
 @ApiStatus.Internal
 public class ResourceContainerImpl implements ResourceContainer {
 
-    private final Map<Key, Atlas> atlases = new LinkedHashMap<>();
-    private final Map<Key, BlockState> blockStates = new LinkedHashMap<>();
-    private final Map<Key, Equipment> equipment = new LinkedHashMap<>();
-    private final Map<Key, Font> fonts = new LinkedHashMap<>();
-    private final Map<Key, Item> items = new LinkedHashMap<>();
-    private final Map<Key, Language> languages = new LinkedHashMap<>();
-    private final Map<Key, Model> models = new LinkedHashMap<>();
-    private final Map<String, SoundRegistry> soundRegistries = new LinkedHashMap<>();
-    private final Map<Key, Sound> sounds = new LinkedHashMap<>();
-    private final Map<Key, Texture> textures = new LinkedHashMap<>();
+    private final boolean concurrent;
+
+    private final LazyMap<Key, Atlas> atlases;
+    private final LazyMap<Key, BlockState> blockStates;
+    private final LazyMap<Key, Equipment> equipment;
+    private final LazyMap<Key, Font> fonts;
+    private final LazyMap<Key, Item> items;
+    private final LazyMap<Key, Language> languages;
+    private final LazyMap<Key, Model> models;
+    // sound events by namespace, sound registries are only created when requested
+    private final LazyMap<String, LazyMap<Key, SoundEvent>> soundEvents;
+    private final LazyMap<Key, Sound> sounds;
+    private final LazyMap<Key, Texture> textures;
 
     // Unknown files we don't know how to parse
-    private final Map<String, Writable> files = new LinkedHashMap<>();
+    private final LazyMap<String, Writable> files;
+
+    public ResourceContainerImpl() {
+        this(false);
+    }
+
+    /**
+     * Creates a new resource container.
+     *
+     * <p>A concurrent container can be modified by multiple threads
+     * at the same time: its maps are lock-free and sorted by key, so
+     * the iteration order (and thus the written resource-pack) does
+     * not depend on the order resources were added in. Otherwise,
+     * resources are iterated in insertion order.</p>
+     *
+     * @param concurrent Whether the container is concurrent
+     * @since 1.8.2
+     */
+    protected ResourceContainerImpl(final boolean concurrent) {
+        this.concurrent = concurrent;
+        this.atlases = newLazyMap(concurrent);
+        this.blockStates = newLazyMap(concurrent);
+        this.equipment = newLazyMap(concurrent);
+        this.fonts = newLazyMap(concurrent);
+        this.items = newLazyMap(concurrent);
+        this.languages = newLazyMap(concurrent);
+        this.models = newLazyMap(concurrent);
+        this.soundEvents = newLazyMap(concurrent);
+        this.sounds = newLazyMap(concurrent);
+        this.textures = newLazyMap(concurrent);
+        this.files = newLazyMap(concurrent);
+    }
+
+    /**
+     * Creates an immutable snapshot of the given resource container,
+     * see {@link #snapshot()}.
+     *
+     * @param source The resource container
+     * @since 1.8.2
+     */
+    protected ResourceContainerImpl(final @NotNull ResourceContainerImpl source) {
+        requireNonNull(source, "source");
+        this.concurrent = source.concurrent;
+        this.atlases = source.atlases.snapshot();
+        this.blockStates = source.blockStates.snapshot();
+        this.equipment = source.equipment.snapshot();
+        this.fonts = source.fonts.snapshot();
+        this.items = source.items.snapshot();
+        this.languages = source.languages.snapshot();
+        this.models = source.models.snapshot();
+        this.soundEvents = source.soundEvents.snapshot(LazyMap::snapshot);
+        this.sounds = source.sounds.snapshot();
+        this.textures = source.textures.snapshot();
+        this.files = source.files.snapshot();
+    }
+
+    /**
+     * Creates a new map for resources, see {@link #ResourceContainerImpl(boolean)}.
+     *
+     * @param concurrent Whether the map must be concurrent
+     * @param <K>        The key type
+     * @param <V>        The value type
+     * @return The created map
+     * @since 1.8.2
+     */
+    protected static <K extends Comparable<? super K>, V> @NotNull Map<K, V> newMap(final boolean concurrent) {
+        return concurrent ? new ConcurrentSkipListMap<>() : new LinkedHashMap<>();
+    }
+
+    private static <K extends Comparable<? super K>, V> @NotNull LazyMap<K, V> newLazyMap(final boolean concurrent) {
+        // concurrent maps have always iterated in key order
+        return concurrent ? LazyMap.sorted() : LazyMap.insertionOrdered();
+    }
+
+    /**
+     * Determines whether this container can be modified by
+     * multiple threads at the same time.
+     *
+     * @return True if this container is concurrent
+     * @since 1.8.2
+     */
+    public boolean concurrent() {
+        return concurrent;
+    }
+
+    /**
+     * Creates an immutable snapshot of this container, which is not
+     * affected by later modifications to this container.
+     *
+     * <p>Taking a snapshot doesn't copy any resource: resources are
+     * kept in persistent trees that the snapshot shares with this
+     * container, so it takes constant time (plus one step per sound
+     * event namespace), and later modifications to this container still
+     * take logarithmic time. Snapshots of concurrent containers are
+     * consistent for each kind of resource, even if other threads are
+     * modifying this container.</p>
+     *
+     * <p>Snapshots throw {@link UnsupportedOperationException} when
+     * trying to modify them.</p>
+     *
+     * @return The snapshot
+     * @since 1.8.2
+     */
+    public @NotNull ResourceContainer snapshot() {
+        return new ResourceContainerImpl(this);
+    }
+
+    /**
+     * Adds a resource that is only loaded when it is first requested,
+     * used by readers that support lazy loading.
+     *
+     * <p>Exceptions thrown by the loader are propagated to the method
+     * that requested the resource.</p>
+     *
+     * @param type   The resource type
+     * @param key    The resource key
+     * @param loader The resource loader
+     * @param <T>    The resource type
+     * @return True if the resource will be lazily loaded, false if lazy
+     * loading is not supported for the given type, then the resource
+     * is not added
+     * @since 1.8.2
+     */
+    @ApiStatus.Internal
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T extends Keyed & ResourcePackPart> boolean lazyResource(
+            final @NotNull Class<T> type,
+            final @NotNull Key key,
+            final @NotNull Supplier<? extends T> loader
+    ) {
+        requireNonNull(type, "type");
+        requireNonNull(key, "key");
+        requireNonNull(loader, "loader");
+        final LazyMap map;
+        if (type == Atlas.class) {
+            map = atlases;
+        } else if (type == BlockState.class) {
+            map = blockStates;
+        } else if (type == Equipment.class) {
+            map = equipment;
+        } else if (type == Font.class) {
+            map = fonts;
+        } else if (type == Item.class) {
+            map = items;
+        } else if (type == Language.class) {
+            map = languages;
+        } else if (type == Model.class) {
+            map = models;
+        } else {
+            return false;
+        }
+        map.putLazy(key, loader);
+        return true;
+    }
 
     //#region Atlases (Keyed)
     @Override
@@ -90,7 +255,7 @@ public class ResourceContainerImpl implements ResourceContainer {
     @Override
     public boolean removeAtlas(final @NotNull Key key) {
         requireNonNull(key, "key");
-        return atlases.remove(key) != null;
+        return atlases.removeKey(key);
     }
 
     @Override
@@ -115,7 +280,7 @@ public class ResourceContainerImpl implements ResourceContainer {
     @Override
     public boolean removeBlockState(final @NotNull Key key) {
         requireNonNull(key, "key");
-        return blockStates.remove(key) != null;
+        return blockStates.removeKey(key);
     }
 
     @Override
@@ -140,7 +305,7 @@ public class ResourceContainerImpl implements ResourceContainer {
     @Override
     public boolean removeEquipment(final @NotNull Key key) {
         requireNonNull(key, "key");
-        return equipment.remove(key) != null;
+        return equipment.removeKey(key);
     }
 
     @Override
@@ -165,7 +330,7 @@ public class ResourceContainerImpl implements ResourceContainer {
     @Override
     public boolean removeFont(final @NotNull Key key) {
         requireNonNull(key, "key");
-        return fonts.remove(key) != null;
+        return fonts.removeKey(key);
     }
 
     @Override
@@ -190,7 +355,7 @@ public class ResourceContainerImpl implements ResourceContainer {
     @Override
     public boolean removeItem(final @NotNull Key key) {
         requireNonNull(key, "key");
-        return items.remove(key) != null;
+        return items.removeKey(key);
     }
 
     @Override
@@ -215,7 +380,7 @@ public class ResourceContainerImpl implements ResourceContainer {
     @Override
     public boolean removeLanguage(final @NotNull Key key) {
         requireNonNull(key, "key");
-        return languages.remove(key) != null;
+        return languages.removeKey(key);
     }
 
     @Override
@@ -240,7 +405,7 @@ public class ResourceContainerImpl implements ResourceContainer {
     @Override
     public boolean removeModel(final @NotNull Key key) {
         requireNonNull(key, "key");
-        return models.remove(key) != null;
+        return models.removeKey(key);
     }
 
     @Override
@@ -253,24 +418,85 @@ public class ResourceContainerImpl implements ResourceContainer {
     @Override
     public void soundRegistry(final @NotNull SoundRegistry soundRegistry) {
         requireNonNull(soundRegistry, "soundRegistry");
-        soundRegistries.put(soundRegistry.namespace(), soundRegistry);
+        final LazyMap<Key, SoundEvent> events = newLazyMap(concurrent);
+        for (final SoundEvent soundEvent : soundRegistry.sounds()) {
+            events.put(soundEvent.key(), soundEvent);
+        }
+        withSoundEvents(() -> soundEvents.put(soundRegistry.namespace(), events));
     }
 
     @Override
     public @Nullable SoundRegistry soundRegistry(final @NotNull String namespace) {
         requireNonNull(namespace, "namespace");
-        return soundRegistries.get(namespace);
+        final LazyMap<Key, SoundEvent> events = soundEvents.get(namespace);
+        return events == null ? null : SoundRegistry.soundRegistry(namespace, events.values());
     }
 
     @Override
     public boolean removeSoundRegistry(final @NotNull String namespace) {
         requireNonNull(namespace, "namespace");
-        return soundRegistries.remove(namespace) != null;
+        return withSoundEvents(() -> soundEvents.removeKey(namespace));
     }
 
     @Override
     public @NotNull Collection<SoundRegistry> soundRegistries() {
-        return soundRegistries.values();
+        final List<SoundRegistry> soundRegistries = new ArrayList<>(soundEvents.size());
+        for (final Map.Entry<String, LazyMap<Key, SoundEvent>> entry : soundEvents.entrySet()) {
+            soundRegistries.add(SoundRegistry.soundRegistry(entry.getKey(), entry.getValue().values()));
+        }
+        return soundRegistries;
+    }
+    //#endregion
+
+    //#region Sound Events (Keyed, inside Sound Registries)
+    @Override
+    public void soundEvent(final @NotNull SoundEvent soundEvent) {
+        requireNonNull(soundEvent, "soundEvent");
+        final String namespace = soundEvent.key().namespace();
+        withSoundEvents(() -> {
+            LazyMap<Key, SoundEvent> events = soundEvents.get(namespace);
+            if (events == null) {
+                events = newLazyMap(concurrent);
+                soundEvents.put(namespace, events);
+            }
+            return events.put(soundEvent.key(), soundEvent);
+        });
+    }
+
+    @Override
+    public @Nullable SoundEvent soundEvent(final @NotNull Key key) {
+        requireNonNull(key, "key");
+        final LazyMap<Key, SoundEvent> events = soundEvents.get(key.namespace());
+        return events == null ? null : events.get(key);
+    }
+
+    @Override
+    public boolean removeSoundEvent(final @NotNull Key key) {
+        requireNonNull(key, "key");
+        return withSoundEvents(() -> {
+            final LazyMap<Key, SoundEvent> events = soundEvents.get(key.namespace());
+            return events != null && events.removeKey(key);
+        });
+    }
+
+    @Override
+    public @NotNull Collection<SoundEvent> soundEvents() {
+        final List<SoundEvent> soundEvents = new ArrayList<>();
+        for (final LazyMap<Key, SoundEvent> events : this.soundEvents.values()) {
+            soundEvents.addAll(events.values());
+        }
+        return soundEvents;
+    }
+
+    private <T> T withSoundEvents(final @NotNull Supplier<T> action) {
+        if (concurrent) {
+            // adding a sound event may add its namespace too
+            synchronized (soundEvents) {
+                return action.get();
+            }
+        } else {
+            return action.get();
+        }
     }
     //#endregion
 
@@ -352,12 +578,215 @@ public class ResourceContainerImpl implements ResourceContainer {
 
     @Override
     public void merge(final @NotNull ResourceContainer other, final @NotNull MergeStrategy strategy) {
-        final boolean override = strategy == MergeStrategy.override();
+        merge(other, strategy, null);
+    }
+
+    /**
+     * Merges the given {@code other} resource container with this
+     * resource container, reporting conflicts to the given consumer
+     * instead of failing, if not null.
+     *
+     * @param other     The other resource container
+     * @param strategy  The merge strategy
+     * @param conflicts The conflict consumer, null to fail on conflicts
+     *                  according to the merge strategy
+     * @throws MergeException If the merge fails
+     * @since 1.8.2
+     */
+    @ApiStatus.Internal
+    public void merge(
+            final @NotNull ResourceContainer other,
+            final @NotNull MergeStrategy strategy,
+            final @Nullable Consumer<MergeConflict> conflicts
+    ) {
+        requireNonNull(other, "other");
+        requireNonNull(strategy, "strategy");
+        for (final Merger merger : mergers()) {
+            merger.merge(other, strategy, conflicts);
+        }
+    }
+
+    @Override
+    public void merge(
+            final @NotNull Collection<? extends ResourceContainer> others,
+            final @NotNull MergeStrategy strategy,
+            final @NotNull Executor executor
+    ) {
+        mergeAll(others, strategy, executor, false);
+    }
+
+    @Override
+    public @NotNull MergeReport mergeAndReport(
+            final @NotNull Collection<? extends ResourceContainer> others,
+            final @NotNull MergeStrategy strategy,
+            final @NotNull Executor executor
+    ) {
+        return MergeReport.mergeReport(mergeAll(others, strategy, executor, true));
+    }
+
+    private @NotNull List<MergeConflict> mergeAll(
+            final @NotNull Collection<? extends ResourceContainer> others,
+            final @NotNull MergeStrategy strategy,
+            final @NotNull Executor executor,
+            final boolean report
+    ) {
+        requireNonNull(others, "others");
+        requireNonNull(strategy, "strategy");
+        requireNonNull(executor, "executor");
+        final List<ResourceContainer> containers = new ArrayList<>(others);
+        final List<Merger> mergers = mergers();
+
+        // every merger only modifies its own kind of resources, so they
+        // can run concurrently, each one merges all the containers in order
+        final int[] failedContainers = new int[mergers.size()];
+        final RuntimeException[] failures = new RuntimeException[mergers.size()];
+        // conflicts by merger and container, only accessed by the merger task
+        final List<List<List<MergeConflict>>> conflicts = new ArrayList<>(mergers.size());
+        final CompletableFuture<?>[] tasks = new CompletableFuture<?>[mergers.size()];
+        for (int i = 0; i < mergers.size(); i++) {
+            final int index = i;
+            final Merger merger = mergers.get(i);
+            final List<List<MergeConflict>> mergerConflicts = new ArrayList<>(containers.size());
+            conflicts.add(mergerConflicts);
+            tasks[i] = CompletableFuture.runAsync(() -> {
+                for (int j = 0; j < containers.size(); j++) {
+                    final List<MergeConflict> containerConflicts = new ArrayList<>();
+                    mergerConflicts.add(containerConflicts);
+                    try {
+                        merger.merge(containers.get(j), strategy, report ? containerConflicts::add : null);
+                    } catch (final RuntimeException e) {
+                        failedContainers[index] = j;
+                        failures[index] = e;
+                        return;
+                    }
+                }
+            }, executor);
+        }
+        CompletableFuture.allOf(tasks).join();
+
+        // throw the failure that merging containers one by one would throw
+        RuntimeException failure = null;
+        int failedContainer = Integer.MAX_VALUE;
+        for (int i = 0; i < failures.length; i++) {
+            if (failures[i] != null && failedContainers[i] < failedContainer) {
+                failure = failures[i];
+                failedContainer = failedContainers[i];
+            }
+        }
+        if (failure != null) {
+            for (final RuntimeException other : failures) {
+                if (other != null && other != failure) {
+                    failure.addSuppressed(other);
+                }
+            }
+            throw failure;
+        }
+
+        // sort conflicts in the order that merging containers one by one would find them
+        final List<MergeConflict> sortedConflicts = new ArrayList<>();
+        for (int j = 0; j < containers.size(); j++) {
+            for (final List<List<MergeConflict>> mergerConflicts : conflicts) {
+                sortedConflicts.addAll(mergerConflicts.get(j));
+            }
+        }
+        return sortedConflicts;
+    }
+
+    /**
+     * Returns the functions that merge every kind of resource from
+     * another container into this container, in the order they are
+     * applied by {@link #merge(ResourceContainer, MergeStrategy)}.
+     *
+     * <p>Every merger must only modify its own kind of resources, so
+     * that different mergers can run concurrently.</p>
+     *
+     * @return The mergers
+     * @since 1.8.2
+     */
+    protected @NotNull List<Merger> mergers() {
+        final List<Merger> mergers = new ArrayList<>();
+        mergers.add(this::mergeAtlases);
+        mergers.add(this::mergeBlockStates);
+        mergers.add(this::mergeEquipment);
+        mergers.add(this::mergeFonts);
+        mergers.add(this::mergeItems);
+        mergers.add(this::mergeLanguages);
+        mergers.add(this::mergeModels);
+        mergers.add(this::mergeSoundRegistries);
+        mergers.add(this::mergeSounds);
+        mergers.add(this::mergeTextures);
+        mergers.add(this::mergeUnknownFiles);
+        return mergers;
+    }
+
+    /**
+     * Resolves a conflict between a resource in this container and
+     * a resource with the same key in the {@code source} container,
+     * according to the given merge strategy.
+     *
+     * @param strategy  The merge strategy
+     * @param conflicts The conflict consumer, if null, the error is thrown
+     *                  for {@link MergeStrategy#mergeAndFailOnError()}
+     * @param source    The container being merged
+     * @param category  The resource category, see {@link MergeConflict#category()}
+     * @param key       The resource key
+     * @param error     The error thrown if the merge fails
+     * @return True if the resource from the source container must
+     * replace the existing resource
+     * @since 1.8.2
+     */
+    protected static boolean resolveConflict(
+            final @NotNull MergeStrategy strategy,
+            final @Nullable Consumer<MergeConflict> conflicts,
+            final @NotNull ResourceContainer source,
+            final @NotNull String category,
+            final @NotNull String key,
+            final @NotNull Supplier<? extends RuntimeException> error
+    ) {
+        if (strategy == MergeStrategy.mergeAndFailOnError() && conflicts == null) {
+            throw error.get();
+        }
+        final boolean incoming = strategy == MergeStrategy.override();
+        reportConflict(conflicts, source, category, key, incoming);
+        return incoming;
+    }
+
+    /**
+     * Reports a conflict to the given consumer, if not null.
+     *
+     * @param conflicts The conflict consumer
+     * @param source    The container being merged
+     * @param category  The resource category, see {@link MergeConflict#category()}
+     * @param key       The resource key
+     * @param incoming  Whether the resource from the source container won
+     * @since 1.8.2
+     */
+    protected static void reportConflict(
+            final @Nullable Consumer<MergeConflict> conflicts,
+            final @NotNull ResourceContainer source,
+            final @NotNull String category,
+            final @NotNull String key,
+            final boolean incoming
+    ) {
+        if (conflicts != null) {
+            conflicts.accept(MergeConflict.mergeConflict(
+                    category,
+                    key,
+                    source instanceof Overlay ? ((Overlay) source).directory() : null,
+                    source,
+                    incoming ? MergeConflict.Winner.INCOMING : MergeConflict.Winner.EXISTING
+            ));
+        }
+    }
 
-        // merge atlases
+    private void mergeAtlases(final @NotNull ResourceContainer other, final @NotNull MergeStrategy strategy, final @Nullable Consumer<MergeConflict> conflicts) {
+        final boolean override = strategy == MergeStrategy.override();
         for (final Atlas atlas : other.atlases()) {
             final Atlas oldAtlas = atlases.get(atlas.key());
             if (oldAtlas == null || override) {
+                if (oldAtlas != null) {
+                    reportConflict(conflicts, other, "atlases", atlas.key().asString(), true);
+                }
                 atlases.put(atlas.key(), atlas);
                 continue;
             }
@@ -367,25 +796,26 @@ public class ResourceContainerImpl implements ResourceContainer {
             sources.addAll(atlas.sources());
             atlases.put(atlas.key(), oldAtlas.toBuilder().sources(new ArrayList<>(sources)).build());
         }
+    }
 
-        // merge block states
+    private void mergeBlockStates(final @NotNull ResourceContainer other, final @NotNull MergeStrategy strategy, final @Nullable Consumer<MergeConflict> conflicts) {
         for (final BlockState blockState : other.blockStates()) {
-            if (blockStates.containsKey(blockState.key())) {
-                if (strategy == MergeStrategy.override()) {
-                    blockStates.put(blockState.key(), blockState);
-                } else if (strategy == MergeStrategy.mergeAndFailOnError()) {
-                    throw new MergeException("Duplicate block state '" + blockState.key()
-                            + "': exists in both resource containers");
-                }
-            } else {
+            if (!blockStates.containsKey(blockState.key()) || resolveConflict(strategy, conflicts, other, "blockStates", blockState.key().asString(),
+                    () -> new MergeException("Duplicate block state '" + blockState.key()
+                            + "': exists in both resource containers"))) {
                 blockStates.put(blockState.key(), blockState);
             }
         }
+    }
 
-        // merge equipment
+    private void mergeEquipment(final @NotNull ResourceContainer other, final @NotNull MergeStrategy strategy, final @Nullable Consumer<MergeConflict> conflicts) {
+        final boolean override = strategy == MergeStrategy.override();
         for (final Equipment equipment : other.equipment()) {
             final Equipment oldEquipment = this.equipment.get(equipment.key());
             if (oldEquipment == null || override) {
+                if (oldEquipment != null) {
+                    reportConflict(conflicts, other, "equipment", equipment.key().asString(), true);
+                }
                 this.equipment.put(equipment.key(), equipment);
                 continue;
             }
@@ -406,11 +836,16 @@ public class ResourceContainerImpl implements ResourceContainer {
 
             this.equipment.put(equipment.key(), oldEquipment.layers(layersByType));
         }
+    }
 
-        // merge fonts
+    private void mergeFonts(final @NotNull ResourceContainer other, final @NotNull MergeStrategy strategy, final @Nullable Consumer<MergeConflict> conflicts) {
+        final boolean override = strategy == MergeStrategy.override();
         for (final Font font : other.fonts()) {
             final Font oldFont = fonts.get(font.key());
             if (oldFont == null || override) {
+                if (oldFont != null) {
+                    reportConflict(conflicts, other, "fonts", font.key().asString(), true);
+                }
                 fonts.put(font.key(), font);
                 continue;
             }
@@ -420,47 +855,53 @@ public class ResourceContainerImpl implements ResourceContainer {
             providers.addAll(font.providers());
             fonts.put(font.key(), oldFont.providers(providers));
         }
+    }
 
-        // merge items
+    private void mergeItems(final @NotNull ResourceContainer other, final @NotNull MergeStrategy strategy, final @Nullable Consumer<MergeConflict> conflicts) {
         for (final Item item : other.items()) {
-            if (items.containsKey(item.key())) {
-                if (override) {
-                    items.put(item.key(), item);
-                } else if (strategy == MergeStrategy.mergeAndFailOnError()) {
-                    throw new MergeException("Duplicated item '" + item.key()
-                            + "': exists in both resource containers");
-                }
-            } else {
+            if (!items.containsKey(item.key()) || resolveConflict(strategy, conflicts, other, "items", item.key().asString(),
+                    () -> new MergeException("Duplicated item '" + item.key()
+                            + "': exists in both resource containers"))) {
                 items.put(item.key(), item);
             }
         }
+    }
 
-        // merge languages
+    private void mergeLanguages(final @NotNull ResourceContainer other, final @NotNull MergeStrategy strategy, final @Nullable Consumer<MergeConflict> conflicts) {
+        final boolean override = strategy == MergeStrategy.override();
         for (final Language language : other.languages()) {
             final Language oldLanguage = languages.get(language.key());
             if (oldLanguage == null || override) {
+                if (oldLanguage != null) {
+                    reportConflict(conflicts, other, "languages", language.key().asString(), true);
+                }
                 languages.put(language.key(), language);
                 continue;
             }
 
             final Map<String, String> translations = new LinkedHashMap<>(oldLanguage.translations());
             for (final Map.Entry<String, String> translation : language.translations().entrySet()) {
-                final String replaced = translations.put(translation.getKey(), translation.getValue());
-                if (replaced != null && strategy == MergeStrategy.mergeAndFailOnError()) {
-                    throw new MergeException(
-                            "Duplicated translation keys in language " + language.key()
-                                    + ". Translation key: " + translation.getKey()
-                                    + ". Exists in both resource containers."
-                    );
+                if (!translations.containsKey(translation.getKey()) || resolveConflict(strategy, conflicts, other, "languages",
+                        language.key().asString() + '/' + translation.getKey(),
+                        () -> new MergeException(
+                                "Duplicated translation keys in language " + language.key()
+                                        + ". Translation key: " + translation.getKey()
+                                        + ". Exists in both resource containers."
+                        ))) {
+                    translations.put(translation.getKey(), translation.getValue());
                 }
             }
             languages.put(language.key(), Language.language(language.key(), translations));
         }
+    }
 
-        // merge models
+    private void mergeModels(final @NotNull ResourceContainer other, final @NotNull MergeStrategy strategy, final @Nullable Consumer<MergeConflict> conflicts) {
         for (final Model model : other.models()) {
             final Model oldModel = models.get(model.key());
             if (oldModel == null || strategy == MergeStrategy.override()) {
+                if (oldModel != null) {
+                    reportConflict(conflicts, other, "models", model.key().asString(), true);
+                }
                 models.put(model.key(), model);
                 continue;
             }
@@ -472,78 +913,77 @@ public class ResourceContainerImpl implements ResourceContainer {
             }
             models.put(model.key(), oldModelBuilder.build());
         }
+    }
 
-        // merge sound registries
+    private void mergeSoundRegistries(final @NotNull ResourceContainer other, final @NotNull MergeStrategy strategy, final @Nullable Consumer<MergeConflict> conflicts) {
+        final boolean override = strategy == MergeStrategy.override();
         for (final SoundRegistry soundRegistry : other.soundRegistries()) {
-            final SoundRegistry oldSoundRegistry = soundRegistries.get(soundRegistry.namespace());
-            if (oldSoundRegistry == null || override) {
-                soundRegistries.put(soundRegistry.namespace(), soundRegistry);
+            final LazyMap<Key, SoundEvent> oldSoundEvents = soundEvents.get(soundRegistry.namespace());
+            if (oldSoundEvents == null || override) {
+                if (oldSoundEvents != null) {
+                    reportConflict(conflicts, other, "soundRegistries", soundRegistry.namespace(), true);
+                }
+                soundRegistry(soundRegistry);
                 continue;
             }
 
-            final Map<Key, SoundEvent> soundEvents = new LinkedHashMap<>();
-            for (final SoundEvent soundEvent : oldSoundRegistry.sounds()) {
-                soundEvents.put(soundEvent.key(), soundEvent);
-            }
-
             for (final SoundEvent soundEvent : soundRegistry.sounds()) {
-                final SoundEvent replacedSoundEvent = soundEvents.put(soundEvent.key(), soundEvent);
-                if (replacedSoundEvent != null && strategy == MergeStrategy.mergeAndFailOnError()) {
-                    throw new MergeException("Duplicated sound event '" + soundEvent + "': exists" +
-                            " in both resource-packs");
+                if (!oldSoundEvents.containsKey(soundEvent.key()) || resolveConflict(strategy, conflicts, other, "soundEvents", soundEvent.key().asString(),
+                        () -> new MergeException("Duplicated sound event '" + soundEvent + "': exists" +
+                                " in both resource-packs"))) {
+                    oldSoundEvents.put(soundEvent.key(), soundEvent);
                 }
             }
-
-            soundRegistries.put(
-                    soundRegistry.namespace(),
-                    SoundRegistry.soundRegistry()
-                            .namespace(soundRegistry.namespace())
-                            .sounds(soundEvents.values())
-                            .build()
-            );
         }
+    }
 
-        // merge sounds
+    private void mergeSounds(final @NotNull ResourceContainer other, final @NotNull MergeStrategy strategy, final @Nullable Consumer<MergeConflict> conflicts) {
         for (final Sound sound : other.sounds()) {
-            if (sounds.containsKey(sound.key())) {
-                if (override) {
-                    sounds.put(sound.key(), sound);
-                } else if (strategy == MergeStrategy.mergeAndFailOnError()) {
-                    throw new MergeException("Duplicated sound '" + sound.key()
-                            + "': exists in both resource containers");
-                }
-            } else {
+            if (!sounds.containsKey(sound.key()) || resolveConflict(strategy, conflicts, other, "sounds", sound.key().asString(),
+                    () -> new MergeException("Duplicated sound '" + sound.key()
+                            + "': exists in both resource containers"))) {
                 sounds.put(sound.key(), sound);
             }
         }
+    }
 
-        // merge textures
+    private void mergeTextures(final @NotNull ResourceContainer other, final @NotNull MergeStrategy strategy, final @Nullable Consumer<MergeConflict> conflicts) {
         // todo: should we merge metadata?
         for (final Texture texture : other.textures()) {
-            if (textures.containsKey(texture.key())) {
-                if (override) {
-                    textures.put(texture.key(), texture);
-                } else if (strategy == MergeStrategy.mergeAndFailOnError()) {
-                    throw new MergeException("Duplicated texture '" + texture.key()
-                            + "': exists in both resource containers");
-                }
-            } else {
+            if (!textures.containsKey(texture.key()) || resolveConflict(strategy, conflicts, other, "textures", texture.key().asString(),
+                    () -> new MergeException("Duplicated texture '" + texture.key()
+                            + "': exists in both resource containers"))) {
                 textures.put(texture.key(), texture);
             }
         }
+    }
 
-        // merge unknown files
+    private void mergeUnknownFiles(final @NotNull ResourceContainer other, final @NotNull MergeStrategy strategy, final @Nullable Consumer<MergeConflict> conflicts) {
         for (final Map.Entry<String, Writable> entry : other.unknownFiles().entrySet()) {
-            if (files.containsKey(entry.getKey())) {
-                if (override) {
-                    files.put(entry.getKey(), entry.getValue());
-                } else if (strategy == MergeStrategy.mergeAndFailOnError()) {
-                    throw new MergeException("Duplicated unknown file: '" + entry.getKey()
-                            + "': exists in both resource containers");
-                }
-            } else {
+            if (!files.containsKey(entry.getKey()) || resolveConflict(strategy, conflicts, other, "unknownFiles", entry.getKey(),
+                    () -> new MergeException("Duplicated unknown file: '" + entry.getKey()
+                            + "': exists in both resource containers"))) {
                 files.put(entry.getKey(), entry.getValue());
             }
         }
     }
+
+    /**
+     * Merges a kind of resource from another container into
+     * this container, see {@link #mergers()}.
+     *
+     * @since 1.8.2
+     */
+    @FunctionalInterface
+    protected interface Merger {
+        /**
+         * Merges a kind of resource from the given container.
+         *
+         * @param other     The other resource container
+         * @param strategy  The merge strategy
+         * @param conflicts The conflict consumer, null to fail on conflicts
+         *                  according to the merge strategy
+         */
+        void merge(final @NotNull ResourceContainer other, final @NotNull MergeStrategy strategy, final @Nullable Consumer<MergeConflict> conflicts);
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.resources;
+
+import net.kyori.examination.Examinable;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.overlay.ResourceContainer;
+
+/**
+ * Represents a conflict found while merging resource containers,
+ * i.e. a resource that exists in both containers and can't be merged.
+ *
+ * @see MergeReport
+ * @since 1.8.2
+ */
+@ApiStatus.NonExtendable
+public interface MergeConflict extends Examinable {
+    /**
+     * Creates a new merge conflict.
+     *
+     * @param category The conflicting resource category
+     * @param key      The conflicting resource key
+     * @param overlay  The overlay directory containing the resource, null
+     *                 if the resource is not inside an overlay
+     * @param source   The container that was merged
+     * @param winner   The resource that was kept
+     * @return The merge conflict
+     * @since 1.8.2
+     */
+    static @NotNull MergeConflict mergeConflict(
+            final @NotNull String category,
+            final @NotNull String key,
+            final @Nullable String overlay,
+            final @NotNull ResourceContainer source,
+            final @NotNull Winner winner
+    ) {
+        return new MergeConflictImpl(category, key, overlay, source, winner);
+    }
+
+    /**
+     * Gets the category of the conflicting resource, named after the
+     * {@link ResourceContainer} methods returning them, e.g. {@code "textures"},
+     * {@code "unknownFiles"}, or {@code "icon"} and {@code "metadata"} for
+     * resource-pack properties.
+     *
+     * @return The resource category
+     * @since 1.8.2
+     */
+    @NotNull String category();
+
+    /**
+     * Gets the key of the conflicting resource, e.g. the resource
+     * location of a texture or the path of an unknown file.
+     *
+     * <p>For translations it is the language key and the translation key,
+     * separated by a slash, e.g. {@code "minecraft:en_us/item.sword"}.</p>
+     *
+     * @return The resource key
+     * @since 1.8.2
+     */
+    @NotNull String key();
+
+    /**
+     * Gets the directory of the overlay containing the resource.
+     *
+     * @return The overlay directory, null if the resource is not
+     * inside an overlay
+     * @since 1.8.2
+     */
+    @Nullable String overlay();
+
+    /**
+     * Gets the container that was merged into the target container
+     * when the conflict was found.
+     *
+     * @return The source container
+     * @since 1.8.2
+     */
+    @NotNull ResourceContainer source();
+
+    /**
+     * Gets the resource that was kept in the target container.
+     *
+     * @return The winner resource
+     * @since 1.8.2
+     */
+    @NotNull Winner winner();
+
+    /**
+     * Represents the side of a conflict that was kept.
+     *
+     * @since 1.8.2
+     */
+    enum Winner {
+        /**
+         * The resource that already was in the target container was kept.
+         *
+         * @since 1.8.2
+         */
+        EXISTING,
+
+        /**
+         * The resource from the source container replaced the existing one.
+         *
+         * @since 1.8.2
+         */
+        INCOMING
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.resources;
+
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.string.StringExaminer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.overlay.ResourceContainer;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+final class MergeConflictImpl implements MergeConflict {
+    private final String category;
+    private final String key;
+    private final @Nullable String overlay;
+    private final ResourceContainer source;
+    private final Winner winner;
+
+    MergeConflictImpl(
+            final @NotNull String category,
+            final @NotNull String key,
+            final @Nullable String overlay,
+            final @NotNull ResourceContainer source,
+            final @NotNull Winner winner
+    ) {
+        this.category = requireNonNull(category, "category");
+        this.key = requireNonNull(key, "key");
+        this.overlay = overlay;
+        this.source = requireNonNull(source, "source");
+        this.winner = requireNonNull(winner, "winner");
+    }
+
+    @Override
+    public @NotNull String category() {
+        return category;
+    }
+
+    @Override
+    public @NotNull String key() {
+        return key;
+    }
+
+    @Override
+    public @Nullable String overlay() {
+        return overlay;
+    }
+
+    @Override
+    public @NotNull ResourceContainer source() {
+        return source;
+    }
+
+    @Override
+    public @NotNull Winner winner() {
+        return winner;
+    }
+
+    @Override
+    public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+        // the source container is not examined, it may be huge
+        return Stream.of(
+                ExaminableProperty.of("category", category),
+                ExaminableProperty.of("key", key),
+                ExaminableProperty.of("overlay", overlay),
+                ExaminableProperty.of("winner", winner)
+        );
+    }
+
+    @Override
+    public String toString() {
+        return examine(StringExaminer.simpleEscaping());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final MergeConflictImpl that = (MergeConflictImpl) o;
+        return category.equals(that.category)
+                && key.equals(that.key)
+                && Objects.equals(overlay, that.overlay)
+                && source == that.source
+                && winner == that.winner;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(category, key, overlay, System.identityHashCode(source), winner);
+    }
+}
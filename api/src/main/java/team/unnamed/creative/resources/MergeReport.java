@@ -0,0 +1,73 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.resources;
+
+import net.kyori.examination.Examinable;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+import team.unnamed.creative.overlay.ResourceContainer;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Represents the result of merging resource containers while
+ * collecting conflicts instead of failing on the first one.
+ *
+ * @see ResourceContainer#mergeAndReport(Collection, MergeStrategy, java.util.concurrent.Executor)
+ * @since 1.8.2
+ */
+@ApiStatus.NonExtendable
+public interface MergeReport extends Examinable {
+    /**
+     * Creates a new merge report with the given conflicts.
+     *
+     * @param conflicts The merge conflicts
+     * @return The merge report
+     * @since 1.8.2
+     */
+    static @NotNull MergeReport mergeReport(final @NotNull List<MergeConflict> conflicts) {
+        return new MergeReportImpl(conflicts);
+    }
+
+    /**
+     * Gets all the conflicts found while merging, in the order
+     * that merging the containers one by one would find them.
+     *
+     * @return The merge conflicts
+     * @since 1.8.2
+     */
+    @Unmodifiable @NotNull List<MergeConflict> conflicts();
+
+    /**
+     * Determines whether any conflict was found while merging.
+     *
+     * @return True if there are conflicts
+     * @since 1.8.2
+     */
+    default boolean hasConflicts() {
+        return !conflicts().isEmpty();
+    }
+}
@@ -111,7 +111,7 @@ final class SoundEventImpl implements SoundEvent {
 
     @Override
     public int hashCode() {
-        return Objects.hash(replace, subtitle, sounds);
+        return Objects.hash(key, replace, subtitle, sounds);
     }
 
     static final class BuilderImpl implements Builder {
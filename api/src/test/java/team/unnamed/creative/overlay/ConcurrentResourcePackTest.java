@@ -0,0 +1,105 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.overlay;
+
+import net.kyori.adventure.key.Key;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.ResourcePack;
+import team.unnamed.creative.base.Writable;
+import team.unnamed.creative.model.Model;
+import team.unnamed.creative.sound.SoundEvent;
+import team.unnamed.creative.texture.Texture;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentResourcePackTest {
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 500;
+
+    @Test
+    void test_concurrent_population() throws Exception {
+        final ResourcePack resourcePack = ResourcePack.concurrentResourcePack();
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                final int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        final Key key = Key.key("test", "item/" + thread + "_" + i);
+                        resourcePack.model(Model.model().key(key).parent(Model.ITEM_GENERATED).build());
+                        resourcePack.texture(Texture.texture(Key.key("test", "item/" + thread + "_" + i + ".png"), Writable.EMPTY));
+                        resourcePack.soundEvent(SoundEvent.soundEvent().key(key).build());
+                        // iterating while others write must not fail
+                        assertNotNull(resourcePack.models().iterator().next());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(THREADS * PER_THREAD, resourcePack.models().size());
+        assertEquals(THREADS * PER_THREAD, resourcePack.textures().size());
+        assertEquals(THREADS * PER_THREAD, resourcePack.soundEvents().size());
+    }
+
+    @Test
+    void test_iteration_order_does_not_depend_on_insertion_order() {
+        final List<Key> keys = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            keys.add(Key.key("test", "model_" + i));
+        }
+
+        final ResourcePack a = ResourcePack.concurrentResourcePack();
+        for (final Key key : keys) {
+            a.model(Model.model().key(key).build());
+        }
+        Collections.shuffle(keys);
+        final ResourcePack b = ResourcePack.concurrentResourcePack();
+        for (final Key key : keys) {
+            b.model(Model.model().key(key).build());
+        }
+
+        assertEquals(new ArrayList<>(a.models()), new ArrayList<>(b.models()));
+        assertTrue(((ResourceContainerImpl) a).concurrent());
+    }
+}
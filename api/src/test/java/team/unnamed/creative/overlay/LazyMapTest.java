@@ -0,0 +1,134 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.overlay;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LazyMapTest {
+    @Test
+    void test_insertion_ordered_matches_linked_hash_map() {
+        assertMatches(LazyMap.insertionOrdered(), new LinkedHashMap<>());
+    }
+
+    @Test
+    void test_sorted_matches_tree_map() {
+        assertMatches(LazyMap.sorted(), new TreeMap<>());
+    }
+
+    private static void assertMatches(final LazyMap<Integer, String> map, final Map<Integer, String> expected) {
+        final Random random = new Random(42L);
+        final List<LazyMap<Integer, String>> snapshots = new ArrayList<>();
+        final List<Map<Integer, String>> expectedSnapshots = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            final int key = random.nextInt(500);
+            final int operation = random.nextInt(10);
+            if (operation < 6) {
+                assertEquals(expected.put(key, "v" + i), map.put(key, "v" + i));
+            } else if (operation < 9) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else if (i % 100 == 9) {
+                snapshots.add(map.snapshot());
+                expectedSnapshots.add(new LinkedHashMap<>(expected));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(map.entrySet()));
+        for (int i = 0; i < snapshots.size(); i++) {
+            assertEquals(new ArrayList<>(expectedSnapshots.get(i).entrySet()), new ArrayList<>(snapshots.get(i).entrySet()));
+        }
+    }
+
+    @Test
+    void test_replacing_keeps_position() {
+        final LazyMap<String, String> map = LazyMap.insertionOrdered();
+        map.put("b", "1");
+        map.put("a", "2");
+        map.put("c", "3");
+        map.put("b", "4");
+        assertEquals(Arrays.asList("b", "a", "c"), new ArrayList<>(map.keySet()));
+        assertEquals("4", map.get("b"));
+    }
+
+    @Test
+    void test_lazy_values_are_shared_with_snapshots() {
+        final int[] loads = { 0 };
+        final LazyMap<String, String> map = LazyMap.insertionOrdered();
+        map.putLazy("a", () -> "loaded " + (++loads[0]));
+        final LazyMap<String, String> snapshot = map.snapshot();
+
+        // replacing doesn't load the previous value
+        assertNull(map.put("a", "eager"));
+        assertEquals(0, loads[0]);
+        assertEquals("loaded 1", snapshot.get("a"));
+        assertEquals("loaded 1", snapshot.get("a"));
+        assertEquals("eager", map.get("a"));
+    }
+
+    @Test
+    void test_iterator_writes_to_map() {
+        final LazyMap<String, String> map = LazyMap.sorted();
+        map.put("a", "1");
+        map.put("b", "2");
+        map.put("c", "3");
+        final LazyMap<String, String> snapshot = map.snapshot();
+
+        final Iterator<Map.Entry<String, String>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<String, String> entry = iterator.next();
+            if (entry.getKey().equals("b")) {
+                iterator.remove();
+            } else {
+                assertEquals(entry.getValue(), entry.setValue(entry.getValue() + "!"));
+            }
+        }
+        assertEquals(Arrays.asList("1!", "3!"), new ArrayList<>(map.values()));
+        assertEquals(Arrays.asList("1", "2", "3"), new ArrayList<>(snapshot.values()));
+    }
+
+    @Test
+    void test_snapshots_are_immutable() {
+        final LazyMap<String, String> map = LazyMap.insertionOrdered();
+        map.put("a", "1");
+        final LazyMap<String, String> snapshot = map.snapshot();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.put("b", "2"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.remove("a"));
+        assertThrows(UnsupportedOperationException.class, snapshot::clear);
+        assertFalse(snapshot.containsKey(1));
+        assertFalse(snapshot.containsKey(null));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.overlay;
+
+import net.kyori.adventure.key.Key;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.ResourcePack;
+import team.unnamed.creative.sound.SoundEvent;
+import team.unnamed.creative.sound.SoundRegistry;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourceContainerSoundEventTest {
+    private static final int SOUND_EVENTS = 20_000;
+
+    @Test
+    void test_many_sound_events() {
+        final ResourcePack resourcePack = ResourcePack.resourcePack();
+        for (int i = 0; i < SOUND_EVENTS; i++) {
+            resourcePack.soundEvent(SoundEvent.soundEvent().key(Key.key("test", "sound_" + i)).build());
+        }
+        assertEquals(SOUND_EVENTS, resourcePack.soundEvents().size());
+        assertEquals(1, resourcePack.soundRegistries().size());
+
+        for (int i = 0; i < SOUND_EVENTS; i += 2) {
+            assertTrue(resourcePack.removeSoundEvent(Key.key("test", "sound_" + i)));
+        }
+        assertFalse(resourcePack.removeSoundEvent(Key.key("test", "sound_0")));
+
+        final SoundRegistry registry = resourcePack.soundRegistry("test");
+        assertNotNull(registry);
+        assertEquals(SOUND_EVENTS / 2, registry.sounds().size());
+        // insertion order is kept
+        assertEquals(Key.key("test", "sound_1"), registry.sounds().iterator().next().key());
+    }
+
+    @Test
+    void test_sound_registries_and_events() {
+        final ResourcePack resourcePack = ResourcePack.resourcePack();
+        final SoundEvent a = SoundEvent.soundEvent().key(Key.key("test", "a")).build();
+        final SoundEvent b = SoundEvent.soundEvent().key(Key.key("test", "b")).build();
+        final SoundEvent c = SoundEvent.soundEvent().key(Key.key("other", "c")).build();
+
+        resourcePack.soundRegistry(SoundRegistry.soundRegistry("test", Collections.singletonList(a)));
+        resourcePack.soundEvent(b);
+        resourcePack.soundEvent(c);
+
+        assertEquals(a, resourcePack.soundEvent(Key.key("test", "a")));
+        assertEquals(SoundRegistry.soundRegistry("test", Arrays.asList(a, b)), resourcePack.soundRegistry("test"));
+        assertEquals(2, resourcePack.soundRegistries().size());
+
+        // replacing the registry replaces its sound events
+        resourcePack.soundRegistry(SoundRegistry.soundRegistry("test", Collections.singletonList(b)));
+        assertNull(resourcePack.soundEvent(Key.key("test", "a")));
+        assertEquals(b, resourcePack.soundEvent(Key.key("test", "b")));
+
+        // snapshots are not affected by sound event changes
+        final ResourcePack snapshot = resourcePack.snapshot();
+        resourcePack.removeSoundEvent(Key.key("test", "b"));
+        assertTrue(resourcePack.removeSoundRegistry("other"));
+        assertEquals(b, snapshot.soundEvent(Key.key("test", "b")));
+        assertEquals(c, snapshot.soundEvent(Key.key("other", "c")));
+        assertNull(resourcePack.soundEvent(Key.key("test", "b")));
+        assertNull(resourcePack.soundRegistry("other"));
+    }
+}
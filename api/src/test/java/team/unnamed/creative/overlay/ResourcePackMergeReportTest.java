@@ -0,0 +1,145 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.overlay;
+
+import net.kyori.adventure.key.Key;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.ResourcePack;
+import team.unnamed.creative.base.Writable;
+import team.unnamed.creative.lang.Language;
+import team.unnamed.creative.resources.MergeConflict;
+import team.unnamed.creative.resources.MergeReport;
+import team.unnamed.creative.resources.MergeStrategy;
+import team.unnamed.creative.texture.Texture;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ResourcePackMergeReportTest {
+    private static final Key TEXTURE = Key.key("test", "texture.png");
+    private static final Key LANGUAGE = Key.key("test", "en_us");
+
+    @Test
+    void test_report_collects_all_conflicts() throws Exception {
+        final ResourcePack target = target();
+        final List<ResourcePack> others = others();
+
+        final MergeReport report = target.mergeAndReport(others, MergeStrategy.mergeAndFailOnError());
+
+        assertEquals(Arrays.asList(
+                MergeConflict.mergeConflict("languages", "test:en_us/greeting", null, others.get(0), MergeConflict.Winner.EXISTING),
+                MergeConflict.mergeConflict("textures", "test:texture.png", null, others.get(0), MergeConflict.Winner.EXISTING),
+                MergeConflict.mergeConflict("icon", "pack.png", null, others.get(0), MergeConflict.Winner.EXISTING),
+                MergeConflict.mergeConflict("textures", "test:texture.png", null, others.get(1), MergeConflict.Winner.EXISTING),
+                MergeConflict.mergeConflict("unknownFiles", "credits.txt", null, others.get(1), MergeConflict.Winner.EXISTING),
+                MergeConflict.mergeConflict("textures", "test:texture.png", "overlay", others.get(1), MergeConflict.Winner.EXISTING)
+        ), report.conflicts());
+
+        // existing resources are kept, the rest is merged
+        assertEquals("target", target.texture(TEXTURE).data().toUTF8String());
+        assertEquals("Hello", target.language(LANGUAGE).translation("greeting"));
+        assertEquals("Bye", target.language(LANGUAGE).translation("farewell"));
+        assertEquals("target", target.icon().toUTF8String());
+    }
+
+    @Test
+    void test_report_with_override() throws Exception {
+        final ResourcePack target = target();
+        final List<ResourcePack> others = others();
+
+        final MergeReport report = target.mergeAndReport(others, MergeStrategy.override());
+
+        assertEquals(6, report.conflicts().size());
+        for (final MergeConflict conflict : report.conflicts()) {
+            assertEquals(MergeConflict.Winner.INCOMING, conflict.winner());
+        }
+        assertSame(others.get(1), report.conflicts().get(report.conflicts().size() - 1).source());
+        assertEquals("other 1", target.texture(TEXTURE).data().toUTF8String());
+    }
+
+    @Test
+    void test_concurrent_report_is_the_same() {
+        final ResourcePack sequentialTarget = target();
+        final ResourcePack concurrentTarget = target();
+        final List<ResourcePack> others = others();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final MergeReport concurrent;
+        try {
+            concurrent = concurrentTarget.mergeAndReport(others, MergeStrategy.mergeAndKeepFirstOnError(), executor);
+        } finally {
+            executor.shutdown();
+        }
+        final MergeReport sequential = sequentialTarget.mergeAndReport(others, MergeStrategy.mergeAndKeepFirstOnError());
+        assertEquals(sequential, concurrent);
+    }
+
+    @Test
+    void test_no_conflicts() {
+        final ResourcePack target = ResourcePack.resourcePack();
+        final MergeReport report = target.mergeAndReport(others(), MergeStrategy.mergeAndFailOnError());
+        // only the texture in both of the other resource-packs
+        assertEquals(1, report.conflicts().size());
+        assertFalse(ResourcePack.resourcePack().mergeAndReport(Collections.singletonList(target), MergeStrategy.mergeAndFailOnError()).hasConflicts());
+    }
+
+    private static ResourcePack target() {
+        final ResourcePack target = ResourcePack.resourcePack();
+        target.icon(Writable.stringUtf8("target"));
+        target.texture(Texture.texture(TEXTURE, Writable.stringUtf8("target")));
+        target.language(Language.language(LANGUAGE, Collections.singletonMap("greeting", "Hello")));
+        target.unknownFile("credits.txt", Writable.stringUtf8("target"));
+        final Overlay overlay = Overlay.overlay("overlay");
+        overlay.texture(Texture.texture(TEXTURE, Writable.stringUtf8("target")));
+        target.overlay(overlay);
+        return target;
+    }
+
+    private static List<ResourcePack> others() {
+        final ResourcePack first = ResourcePack.resourcePack();
+        first.icon(Writable.stringUtf8("other 0"));
+        first.texture(Texture.texture(TEXTURE, Writable.stringUtf8("other 0")));
+        final Map<String, String> translations = new LinkedHashMap<>();
+        translations.put("greeting", "Hi");
+        translations.put("farewell", "Bye");
+        first.language(Language.language(LANGUAGE, translations));
+
+        final ResourcePack second = ResourcePack.resourcePack();
+        second.texture(Texture.texture(TEXTURE, Writable.stringUtf8("other 1")));
+        second.unknownFile("credits.txt", Writable.stringUtf8("other 1"));
+        final Overlay overlay = Overlay.overlay("overlay");
+        overlay.texture(Texture.texture(TEXTURE, Writable.stringUtf8("other 1")));
+        second.overlay(overlay);
+        return Arrays.asList(first, second);
+    }
+}
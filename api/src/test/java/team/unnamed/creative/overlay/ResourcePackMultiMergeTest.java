@@ -0,0 +1,128 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.overlay;
+
+import net.kyori.adventure.key.Key;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.ResourcePack;
+import team.unnamed.creative.base.Writable;
+import team.unnamed.creative.lang.Language;
+import team.unnamed.creative.model.Model;
+import team.unnamed.creative.resources.MergeException;
+import team.unnamed.creative.resources.MergeStrategy;
+import team.unnamed.creative.texture.Texture;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourcePackMultiMergeTest {
+    private static final int PACKS = 8;
+
+    @Test
+    void test_merge_all_is_the_same_as_merging_one_by_one() {
+        for (final MergeStrategy strategy : Arrays.asList(MergeStrategy.override(), MergeStrategy.mergeAndKeepFirstOnError())) {
+            final List<ResourcePack> packs = new ArrayList<>();
+            for (int i = 0; i < PACKS; i++) {
+                packs.add(pack(i));
+            }
+
+            final ResourcePack oneByOne = pack(-1);
+            for (final ResourcePack pack : packs) {
+                oneByOne.merge(pack, strategy);
+            }
+
+            final ResourcePack sequential = pack(-1);
+            sequential.merge(packs, strategy);
+
+            final ExecutorService executor = Executors.newFixedThreadPool(4);
+            final ResourcePack concurrent = pack(-1);
+            try {
+                concurrent.merge(packs, strategy, executor);
+            } finally {
+                executor.shutdown();
+            }
+
+            // writables don't implement equals, so compare their string representation
+            for (final ResourcePack merged : Arrays.asList(sequential, concurrent)) {
+                assertEquals(new ArrayList<>(oneByOne.models()), new ArrayList<>(merged.models()));
+                assertEquals(oneByOne.textures().toString(), merged.textures().toString());
+                assertEquals(new ArrayList<>(oneByOne.languages()), new ArrayList<>(merged.languages()));
+                assertEquals(oneByOne.unknownFiles().toString(), merged.unknownFiles().toString());
+                assertEquals(String.valueOf(oneByOne.icon()), String.valueOf(merged.icon()));
+            }
+        }
+    }
+
+    @Test
+    void test_merge_all_reports_first_failure() {
+        final ResourcePack first = ResourcePack.resourcePack();
+        first.texture(Texture.texture(Key.key("test", "first.png"), Writable.EMPTY));
+
+        // duplicated texture in the second pack, duplicated translation
+        // (languages are merged before textures) in the third pack
+        final ResourcePack second = ResourcePack.resourcePack();
+        second.texture(Texture.texture(Key.key("test", "base.png"), Writable.EMPTY));
+        final ResourcePack third = ResourcePack.resourcePack();
+        third.language(Language.language(Key.key("test", "en_us"), Collections.singletonMap("base", "Duplicated")));
+
+        final ResourcePack target = ResourcePack.resourcePack();
+        target.texture(Texture.texture(Key.key("test", "base.png"), Writable.EMPTY));
+        target.language(Language.language(Key.key("test", "en_us"), Collections.singletonMap("base", "Base")));
+
+        final MergeException failure = assertThrows(
+                MergeException.class,
+                () -> target.merge(Arrays.asList(first, second, third), MergeStrategy.mergeAndFailOnError())
+        );
+        assertTrue(failure.getMessage().contains("texture"), failure.getMessage());
+        assertEquals(1, failure.getSuppressed().length);
+    }
+
+    private static ResourcePack pack(final int index) {
+        final ResourcePack resourcePack = ResourcePack.resourcePack();
+        resourcePack.icon(Writable.stringUtf8("icon " + index));
+        for (int i = 0; i < 20; i++) {
+            // half of the resources are shared with other packs
+            final String name = i % 2 == 0 ? "shared_" + i : "pack_" + index + "_" + i;
+            resourcePack.model(Model.model()
+                    .key(Key.key("test", name))
+                    .parent(Key.key("test", "parent_" + index))
+                    .build());
+            resourcePack.texture(Texture.texture(Key.key("test", name + ".png"), Writable.stringUtf8(name + index)));
+            resourcePack.unknownFile(name + ".txt", Writable.stringUtf8(name + index));
+        }
+        resourcePack.language(Language.language(
+                Key.key("test", "en_us"),
+                Collections.singletonMap("pack_" + index, "Pack " + index)
+        ));
+        return resourcePack;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.overlay;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.key.Keyed;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.ResourcePack;
+import team.unnamed.creative.base.Writable;
+import team.unnamed.creative.model.Model;
+import team.unnamed.creative.texture.Texture;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourcePackSnapshotTest {
+    private static final Key A = Key.key("test", "a");
+    private static final Key B = Key.key("test", "b");
+    private static final Key C = Key.key("test", "c");
+
+    @Test
+    void test_snapshot_is_not_affected_by_modifications() {
+        final ResourcePack resourcePack = ResourcePack.resourcePack();
+        resourcePack.icon(Writable.stringUtf8("icon"));
+        resourcePack.model(Model.model().key(A).build());
+        resourcePack.model(Model.model().key(B).build());
+        resourcePack.texture(Texture.texture(A, Writable.EMPTY));
+        resourcePack.unknownFile("credits.txt", Writable.stringUtf8("Unnamed Team"));
+        resourcePack.overlay(Overlay.overlay("dir"));
+        resourcePack.overlay("dir").model(Model.model().key(A).build());
+
+        final ResourcePack snapshot = resourcePack.snapshot();
+
+        resourcePack.icon(null);
+        resourcePack.removeModel(A);
+        resourcePack.model(Model.model().key(C).build());
+        resourcePack.texture(Texture.texture(B, Writable.EMPTY));
+        resourcePack.unknownFiles().clear();
+        resourcePack.overlay("dir").removeModel(A);
+
+        assertNotNull(snapshot.icon());
+        assertEquals(Arrays.asList(A, B), keys(snapshot.models().iterator()));
+        assertEquals(Arrays.asList(A), keys(snapshot.textures().iterator()));
+        assertEquals(1, snapshot.unknownFiles().size());
+        assertNotNull(snapshot.overlay("dir").model(A));
+
+        assertNull(resourcePack.icon());
+        assertEquals(Arrays.asList(B, C), keys(resourcePack.models().iterator()));
+        assertEquals(Arrays.asList(A, B), keys(resourcePack.textures().iterator()));
+        assertTrue(resourcePack.unknownFiles().isEmpty());
+        assertNull(resourcePack.overlay("dir").model(A));
+    }
+
+    @Test
+    void test_snapshot_is_immutable() {
+        final ResourcePack resourcePack = ResourcePack.resourcePack();
+        resourcePack.model(Model.model().key(A).build());
+        resourcePack.overlay(Overlay.overlay("dir"));
+
+        final ResourcePack snapshot = resourcePack.snapshot();
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.model(Model.model().key(B).build()));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.removeModel(A));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.models().clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.icon(Writable.EMPTY));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.packMeta(9, "Description"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.overlay(Overlay.overlay("other")));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.overlay("dir").texture(Texture.texture(A, Writable.EMPTY)));
+        assertEquals(1, snapshot.models().size());
+    }
+
+    @Test
+    void test_removing_while_iterating_after_snapshot() {
+        final ResourcePack resourcePack = ResourcePack.resourcePack();
+        resourcePack.model(Model.model().key(A).build());
+        resourcePack.model(Model.model().key(B).build());
+        resourcePack.model(Model.model().key(C).build());
+
+        final ResourcePack snapshot = resourcePack.snapshot();
+        resourcePack.models().removeIf(model -> !model.key().equals(B));
+
+        assertEquals(Arrays.asList(B), keys(resourcePack.models().iterator()));
+        assertEquals(Arrays.asList(A, B, C), keys(snapshot.models().iterator()));
+    }
+
+    @Test
+    void test_lazy_resources_are_shared() {
+        final ResourcePack resourcePack = ResourcePack.resourcePack();
+        final AtomicInteger loads = new AtomicInteger();
+        ((ResourceContainerImpl) resourcePack).lazyResource(Model.class, A, () -> {
+            loads.incrementAndGet();
+            return Model.model().key(A).build();
+        });
+
+        final ResourcePack snapshot = resourcePack.snapshot();
+        assertNotNull(snapshot.model(A));
+        assertNotNull(resourcePack.model(A));
+        assertEquals(1, loads.get());
+    }
+
+    private static List<Key> keys(final Iterator<? extends Keyed> iterator) {
+        final List<Key> keys = new ArrayList<>();
+        iterator.forEachRemaining(keyed -> keys.add(keyed.key()));
+        return keys;
+    }
+}
@@ -0,0 +1,19 @@
+plugins {
+    id("creative.java-conventions")
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+description = "JMH benchmarks for the creative API hot paths"
+
+dependencies {
+    jmh(project(":creative-api"))
+    jmh(project(":creative-serializer-minecraft"))
+    jmh(project(":creative-server"))
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    // report allocation rates along with times
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.benchmarks;
+
+import com.google.gson.stream.JsonReader;
+import net.kyori.adventure.key.Key;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import team.unnamed.creative.lang.Language;
+import team.unnamed.creative.model.Model;
+import team.unnamed.creative.serialize.minecraft.GsonUtil;
+import team.unnamed.creative.serialize.minecraft.language.LanguageSerializer;
+import team.unnamed.creative.serialize.minecraft.model.ModelSerializer;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares deserializing big models and languages from a {@link com.google.gson.JsonElement}
+ * tree against deserializing them directly from a {@link JsonReader}.
+ *
+ * <p>Allocation rates are reported by the {@code gc} profiler
+ * ({@code gc.alloc.rate.norm} is the number of bytes allocated
+ * per operation).</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JsonDeserializationBenchmark {
+    private static final Key KEY = Key.key(SyntheticResourcePacks.NAMESPACE, "big");
+
+    @Param({"100", "2000"})
+    public int size;
+
+    private String modelJson;
+    private String languageJson;
+
+    @Setup
+    public void setup() throws IOException {
+        // 'size' elements, 'size' * 10 translations
+        final Model model = SyntheticResourcePacks.model(KEY, Key.key(SyntheticResourcePacks.NAMESPACE, "item/big"), new Random(size), size);
+        modelJson = ModelSerializer.INSTANCE.serializeToJsonString(model);
+        final Language language = SyntheticResourcePacks.language(KEY, "json", size * 10);
+        languageJson = LanguageSerializer.INSTANCE.serializeToJsonString(language);
+    }
+
+    @Benchmark
+    public Model modelTree() throws IOException {
+        return ModelSerializer.INSTANCE.deserializeFromJson(GsonUtil.parseReader(new StringReader(modelJson)), KEY);
+    }
+
+    @Benchmark
+    public Model modelStreaming() throws IOException {
+        try (JsonReader reader = new JsonReader(new StringReader(modelJson))) {
+            return ModelSerializer.INSTANCE.deserializeFromJson(reader, KEY);
+        }
+    }
+
+    @Benchmark
+    public Language languageTree() throws IOException {
+        return LanguageSerializer.INSTANCE.deserializeFromJson(GsonUtil.parseReader(new StringReader(languageJson)), KEY);
+    }
+
+    @Benchmark
+    public Language languageStreaming() throws IOException {
+        try (JsonReader reader = new JsonReader(new StringReader(languageJson))) {
+            return LanguageSerializer.INSTANCE.deserializeFromJson(reader, KEY);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import team.unnamed.creative.ResourcePack;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackReader;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackWriter;
+import team.unnamed.creative.serialize.minecraft.fs.FileTreeReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link MinecraftResourcePackReader} reading the same
+ * resource-pack from different sources.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ReadBenchmark {
+    @Param({"1000", "10000", "50000"})
+    public int models;
+
+    private final MinecraftResourcePackReader reader = MinecraftResourcePackReader.minecraft();
+    private final MinecraftResourcePackReader lazyReader = MinecraftResourcePackReader.builder()
+            .lazy(true)
+            .build();
+
+    private Path zipFile;
+    private Path directory;
+    private byte[] zipBytes;
+
+    @Setup
+    public void setup() throws IOException {
+        final ResourcePack resourcePack = SyntheticResourcePacks.generate(models, "read");
+        final MinecraftResourcePackWriter writer = MinecraftResourcePackWriter.minecraft();
+
+        zipFile = Files.createTempFile("creative-bench-read", ".zip");
+        writer.writeToZipFile(zipFile, resourcePack);
+        zipBytes = Files.readAllBytes(zipFile);
+
+        directory = Files.createTempDirectory("creative-bench-read");
+        writer.writeToDirectory(directory.toFile(), resourcePack);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(zipFile);
+        BenchmarkFiles.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public ResourcePack zipFile() {
+        return reader.readFromZipFile(zipFile);
+    }
+
+    @Benchmark
+    public ResourcePack zipInputStream() {
+        return reader.readFromInputStream(new ByteArrayInputStream(zipBytes));
+    }
+
+    @Benchmark
+    public ResourcePack directory() {
+        return reader.readFromDirectory(directory.toFile());
+    }
+
+    @Benchmark
+    public ResourcePack mappedZip() throws IOException {
+        try (FileTreeReader tree = FileTreeReader.mappedZip(zipFile)) {
+            return reader.read(tree);
+        }
+    }
+
+    @Benchmark
+    public ResourcePack lazyMappedZip() throws IOException {
+        try (FileTreeReader tree = FileTreeReader.mappedZip(zipFile)) {
+            return lazyReader.read(tree);
+        }
+    }
+}
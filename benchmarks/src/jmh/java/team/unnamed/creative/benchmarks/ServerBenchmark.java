@@ -0,0 +1,132 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackWriter;
+import team.unnamed.creative.server.ResourcePackServer;
+import team.unnamed.creative.server.handler.ResourcePackRequestHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ResourcePackServer} download throughput, with
+ * concurrent clients, for every backend and pack source.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(8)
+public class ServerBenchmark {
+    @Param({"1000", "10000"})
+    public int models;
+
+    @Param({"JDK", "NIO"})
+    public String backend;
+
+    @Param({"memory", "file", "buffered"})
+    public String source;
+
+    private Path file;
+    private ExecutorService executor;
+    private ResourcePackServer server;
+    private URL url;
+
+    @Setup
+    public void setup() throws IOException {
+        final MinecraftResourcePackWriter writer = MinecraftResourcePackWriter.minecraft();
+        final BuiltResourcePack memoryPack = writer.build(SyntheticResourcePacks.generate(models, "serve"));
+        file = Files.createTempFile("creative-bench-serve", ".zip");
+
+        final ResourcePackRequestHandler handler;
+        switch (source) {
+            case "memory":
+                handler = ResourcePackRequestHandler.fixed(memoryPack, false);
+                break;
+            case "file":
+                handler = ResourcePackRequestHandler.fixed(writer.buildToFile(file, SyntheticResourcePacks.generate(models, "serve")), false);
+                break;
+            case "buffered":
+                handler = ResourcePackRequestHandler.buffered(memoryPack, false, true);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown pack source: " + source);
+        }
+
+        executor = Executors.newFixedThreadPool(8);
+        server = ResourcePackServer.server()
+                .address("localhost", 0)
+                .backend(ResourcePackServer.Backend.valueOf(backend))
+                .executor(executor)
+                .handler(handler)
+                .build();
+        server.start();
+        url = new URL("http://localhost:" + server.address().getPort() + "/");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        server.stop(0);
+        executor.shutdownNow();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long download() throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        long read = 0;
+        final byte[] buffer = new byte[64 * 1024];
+        try (InputStream input = connection.getInputStream()) {
+            int count;
+            while ((count = input.read(buffer)) != -1) {
+                read += count;
+            }
+        }
+        return read;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.benchmarks;
+
+import net.kyori.adventure.key.Key;
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.creative.ResourcePack;
+import team.unnamed.creative.base.CubeFace;
+import team.unnamed.creative.base.Vector3Float;
+import team.unnamed.creative.base.Writable;
+import team.unnamed.creative.font.FontProvider;
+import team.unnamed.creative.lang.Language;
+import team.unnamed.creative.model.Element;
+import team.unnamed.creative.model.ElementFace;
+import team.unnamed.creative.model.Model;
+import team.unnamed.creative.model.ModelTexture;
+import team.unnamed.creative.model.ModelTextures;
+import team.unnamed.creative.sound.Sound;
+import team.unnamed.creative.texture.Texture;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates deterministic resource-packs of any size, for benchmarks.
+ */
+final class SyntheticResourcePacks {
+    static final String NAMESPACE = "bench";
+
+    private SyntheticResourcePacks() {
+    }
+
+    /**
+     * Generates a resource-pack with the given number of models, and
+     * a texture for each model, a sound for every 10 models, a font for
+     * every 100 models and a language for every 1000 models.
+     *
+     * <p>Packs with different variants share model, font and language
+     * keys (mergeable), but not texture, sound or translation keys.</p>
+     *
+     * @param models  The number of models
+     * @param variant The variant name
+     * @return The generated resource-pack
+     */
+    static @NotNull ResourcePack generate(final int models, final @NotNull String variant) {
+        final Random random = new Random(models);
+        final ResourcePack resourcePack = ResourcePack.resourcePack();
+        resourcePack.packMeta(34, "Synthetic resource-pack, " + models + " models (" + variant + ")");
+        resourcePack.icon(Writable.bytes(bytes(random, 2048)));
+
+        for (int i = 0; i < models; i++) {
+            final Key textureKey = Key.key(NAMESPACE, "item/" + variant + "_" + i);
+            resourcePack.texture(Texture.texture(Key.key(NAMESPACE, "item/" + variant + "_" + i + ".png"), Writable.bytes(bytes(random, 512))));
+            resourcePack.model(model(Key.key(NAMESPACE, "item/model_" + i), textureKey, random, 4));
+
+            if (i % 10 == 0) {
+                resourcePack.sound(Sound.sound(Key.key(NAMESPACE, variant + "/sound_" + i + ".ogg"), Writable.bytes(bytes(random, 4096))));
+            }
+            if (i % 100 == 0) {
+                resourcePack.font(Key.key(NAMESPACE, "font_" + (i / 100)), FontProvider.space().advance(variant + i, i % 16).build());
+            }
+            if (i % 1000 == 0) {
+                resourcePack.language(language(Key.key(NAMESPACE, "lang_" + (i / 1000)), variant, 500));
+            }
+        }
+        return resourcePack;
+    }
+
+    /**
+     * Generates a model with the given number of cube elements.
+     *
+     * @param key      The model key
+     * @param texture  The texture used by the elements
+     * @param random   The random source
+     * @param elements The number of elements
+     * @return The generated model
+     */
+    static @NotNull Model model(final @NotNull Key key, final @NotNull Key texture, final @NotNull Random random, final int elements) {
+        final Model.Builder builder = Model.model()
+                .key(key)
+                .parent(Model.ITEM_GENERATED)
+                .textures(ModelTextures.builder()
+                        .layers(ModelTexture.ofKey(texture))
+                        .addVariable(texture.value().replace('/', '_'), ModelTexture.ofKey(texture))
+                        .build());
+        for (int i = 0; i < elements; i++) {
+            final float x = random.nextInt(8);
+            final float y = random.nextInt(8);
+            final float z = random.nextInt(8);
+            final Map<CubeFace, ElementFace> faces = new LinkedHashMap<>();
+            for (final CubeFace face : CubeFace.values()) {
+                faces.put(face, ElementFace.face()
+                        .texture("#" + texture.value().replace('/', '_'))
+                        .tintIndex(i % 2)
+                        .build());
+            }
+            builder.addElement(Element.element()
+                    .from(new Vector3Float(x, y, z))
+                    .to(new Vector3Float(x + 1 + random.nextInt(8), y + 1 + random.nextInt(8), z + 1 + random.nextInt(8)))
+                    .faces(faces)
+                    .build());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Generates a language with the given number of translations.
+     *
+     * @param key          The language key
+     * @param variant      The variant name, used in translation keys
+     * @param translations The number of translations
+     * @return The generated language
+     */
+    static @NotNull Language language(final @NotNull Key key, final @NotNull String variant, final int translations) {
+        final Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < translations; i++) {
+            map.put("item." + NAMESPACE + "." + variant + "_" + i, "Synthetic Item #" + i + " (" + variant + ")");
+        }
+        return Language.language(key, map);
+    }
+
+    private static byte @NotNull [] bytes(final @NotNull Random random, final int length) {
+        final byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
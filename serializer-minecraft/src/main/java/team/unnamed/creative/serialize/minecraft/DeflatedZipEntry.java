@@ -0,0 +1,165 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.serialize.minecraft;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A ZIP archive entry compressed on its own: its local file
+ * header followed by its raw deflate data, ready to be concatenated
+ * with other entries and a {@link ZipCentralDirectory}.
+ *
+ * <p>Entries don't depend on their position in the archive, so they
+ * can be compressed concurrently, or reused between archives.</p>
+ */
+final class DeflatedZipEntry {
+    // ZIP format constants, see https://pkware.cachefly.net/webdocs/casestudies/APPNOTE.TXT
+    static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    static final int LOCAL_FILE_HEADER_LENGTH = 30;
+    static final short VERSION = 20;
+    static final short UTF8_FLAG = 0x0800;
+    static final short DEFLATED = 8;
+    static final short DOS_TIME = 0; // 00:00:00
+    static final short DOS_DATE = (1 << 5) | 1; // 1980-01-01, same as ZipEntryLifecycleHandler.DEFAULT
+
+    private final String path;
+    private final byte[] name;
+    private final long crc;
+    private final long size;
+    private final long compressedSize;
+
+    // local file header + compressed data
+    private final byte[] chunk;
+
+    private DeflatedZipEntry(
+            final @NotNull String path,
+            final byte @NotNull [] name,
+            final long crc,
+            final long size,
+            final long compressedSize,
+            final byte @NotNull [] chunk
+    ) {
+        this.path = path;
+        this.name = name;
+        this.crc = crc;
+        this.size = size;
+        this.compressedSize = compressedSize;
+        this.chunk = chunk;
+    }
+
+    /**
+     * Computes the CRC-32 checksum of the given data.
+     *
+     * @param data The data
+     * @return The checksum
+     */
+    static long checksum(final byte @NotNull [] data) {
+        final CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
+        return crc.getValue();
+    }
+
+    /**
+     * Compresses the given entry data.
+     *
+     * @param path     The entry path
+     * @param data     The uncompressed entry data
+     * @param checksum The CRC-32 checksum of the data, see {@link #checksum(byte[])}
+     * @param deflater The deflater to use, must produce raw deflate data
+     *                 (no zlib wrapping), it is reset before being used
+     * @return The compressed entry
+     */
+    static @NotNull DeflatedZipEntry deflate(final @NotNull String path, final byte @NotNull [] data, final long checksum, final @NotNull Deflater deflater) {
+        requireNonNull(path, "path");
+        requireNonNull(data, "data");
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream(data.length / 2 + 64);
+        final byte[] buffer = new byte[8192];
+        deflater.reset();
+        deflater.setInput(data);
+        deflater.finish();
+        while (!deflater.finished()) {
+            final int length = deflater.deflate(buffer);
+            compressed.write(buffer, 0, length);
+        }
+
+        final byte[] name = path.getBytes(StandardCharsets.UTF_8);
+        final int compressedSize = compressed.size();
+        final ByteBuffer chunk = ByteBuffer.allocate(LOCAL_FILE_HEADER_LENGTH + name.length + compressedSize)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        chunk.putInt(LOCAL_FILE_HEADER_SIGNATURE);
+        chunk.putShort(VERSION);
+        chunk.putShort(UTF8_FLAG);
+        chunk.putShort(DEFLATED);
+        chunk.putShort(DOS_TIME);
+        chunk.putShort(DOS_DATE);
+        chunk.putInt((int) checksum);
+        chunk.putInt(compressedSize);
+        chunk.putInt(data.length);
+        chunk.putShort((short) name.length);
+        chunk.putShort((short) 0); // extra field length
+        chunk.put(name);
+        chunk.put(compressed.toByteArray());
+
+        return new DeflatedZipEntry(path, name, checksum, data.length, compressedSize, chunk.array());
+    }
+
+    @NotNull String path() {
+        return path;
+    }
+
+    byte @NotNull [] name() {
+        return name;
+    }
+
+    long crc() {
+        return crc;
+    }
+
+    long size() {
+        return size;
+    }
+
+    long compressedSize() {
+        return compressedSize;
+    }
+
+    /**
+     * Returns the local file header followed by the compressed
+     * data, must not be modified.
+     *
+     * @return The entry bytes
+     */
+    byte @NotNull [] chunk() {
+        return chunk;
+    }
+}
@@ -29,6 +29,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -144,4 +145,41 @@ public final class GsonUtil {
         );
     }
 
+    // streaming counterparts of the methods above, they read
+    // the value the given reader is positioned at
+
+    public static Vector3Float readVector3Float(JsonReader reader) throws IOException {
+        reader.beginArray();
+        Vector3Float vector = new Vector3Float(
+                (float) reader.nextDouble(),
+                (float) reader.nextDouble(),
+                (float) reader.nextDouble()
+        );
+        while (reader.hasNext()) {
+            // extra values are ignored
+            reader.skipValue();
+        }
+        reader.endArray();
+        return vector;
+    }
+
+    public static boolean nextBoolean(JsonReader reader, String key) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.BOOLEAN) {
+            return reader.nextBoolean();
+        } else if (token == JsonToken.STRING) {
+            return Boolean.parseBoolean(reader.nextString());
+        } else {
+            throw new IllegalStateException("Field '" + key + "' must be a boolean");
+        }
+    }
+
+    public static int nextInt(JsonReader reader, String key) throws IOException {
+        if (reader.peek() == JsonToken.NUMBER) {
+            return (int) reader.nextDouble();
+        } else {
+            throw new IllegalStateException("Field '" + key + "' must be an integer");
+        }
+    }
+
 }
\ No newline at end of file
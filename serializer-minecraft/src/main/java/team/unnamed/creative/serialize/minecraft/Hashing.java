@@ -0,0 +1,68 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.serialize.minecraft;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+final class Hashing {
+    private Hashing() {
+        throw new UnsupportedOperationException("Can't instantiate utility class");
+    }
+
+    /**
+     * Creates a new SHA-1 message digest, used to compute
+     * the hash of built resource-packs.
+     *
+     * @return The created message digest
+     */
+    static @NotNull MessageDigest sha1() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot find SHA-1 algorithm");
+        }
+    }
+
+    /**
+     * Converts the given hash bytes to a lowercase
+     * hexadecimal string.
+     *
+     * @param hashBytes The hash bytes
+     * @return The hexadecimal string
+     */
+    static @NotNull String hex(final byte @NotNull [] hashBytes) {
+        final StringBuilder builder = new StringBuilder(hashBytes.length * 2);
+        for (final byte b : hashBytes) {
+            final int part1 = (b >> 4) & 0xF;
+            final int part2 = b & 0xF;
+            builder
+                    .append(Character.forDigit(part1, 16))
+                    .append(Character.forDigit(part2, 16));
+        }
+        return builder.toString();
+    }
+}
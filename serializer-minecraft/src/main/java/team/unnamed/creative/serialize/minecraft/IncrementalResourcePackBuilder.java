@@ -0,0 +1,93 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.serialize.minecraft;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.ResourcePack;
+
+/**
+ * Builds {@link BuiltResourcePack} instances incrementally, keeping
+ * the compressed ZIP entries of the previous build, so that only the
+ * resources that changed since then are serialized and compressed
+ * again, the rest are reused byte-for-byte.
+ *
+ * <p>A resource is considered unchanged if it's the same instance
+ * (or an equal one) written to the same path, for the same pack
+ * format. Files like textures or sounds are considered unchanged if
+ * their data has the same size and CRC-32 checksum as the data written
+ * to the same path in the previous build, they are read again on every
+ * build, but only compressed again if they changed.</p>
+ *
+ * <p>The produced ZIP archives are deterministic, but they are not
+ * byte-for-byte equal to the ones produced by {@link MinecraftResourcePackWriter#build(ResourcePack)},
+ * and the writer's {@link MinecraftResourcePackWriter#zipEntryLifecycleHandler()}
+ * is not used.</p>
+ *
+ * <p>Instances are thread-safe, builds are executed one at a time.</p>
+ *
+ * @see MinecraftResourcePackWriter#incremental()
+ * @since 1.8.2
+ */
+public interface IncrementalResourcePackBuilder {
+    /**
+     * Builds the given resource-pack, reusing the entries from
+     * the previous build that did not change.
+     *
+     * <p>Built resource-packs are kept in memory, so they can't
+     * be bigger than {@link Integer#MAX_VALUE} bytes (2 GB).</p>
+     *
+     * @param resourcePack The resource-pack to build
+     * @return The built resource-pack
+     * @throws IllegalStateException If the built resource-pack is too big
+     * @since 1.8.2
+     */
+    @NotNull BuiltResourcePack build(final @NotNull ResourcePack resourcePack);
+
+    /**
+     * Returns the number of compressed entries currently
+     * cached (the entries of the last build).
+     *
+     * @return The number of cached entries
+     * @since 1.8.2
+     */
+    int cachedEntryCount();
+
+    /**
+     * Returns the number of entries that were reused from
+     * the previous build by the last build.
+     *
+     * @return The number of reused entries
+     * @since 1.8.2
+     */
+    int reusedEntryCount();
+
+    /**
+     * Clears the cache, the next build will serialize
+     * and compress every resource again.
+     *
+     * @since 1.8.2
+     */
+    void clear();
+}
@@ -0,0 +1,261 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.serialize.minecraft;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.ResourcePack;
+import team.unnamed.creative.base.Writable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.zip.Deflater;
+
+import static java.util.Objects.requireNonNull;
+
+final class IncrementalResourcePackBuilderImpl implements IncrementalResourcePackBuilder {
+    private final MinecraftResourcePackWriter writer;
+
+    // entries of the last build, by path
+    private Map<String, CompressedEntry> cache = Collections.emptyMap();
+    private int reusedEntryCount;
+
+    IncrementalResourcePackBuilderImpl(final @NotNull MinecraftResourcePackWriter writer) {
+        this.writer = requireNonNull(writer, "writer");
+    }
+
+    @Override
+    public synchronized @NotNull BuiltResourcePack build(final @NotNull ResourcePack resourcePack) {
+        requireNonNull(resourcePack, "resourcePack");
+        final CachingZipFileTreeWriter tree = new CachingZipFileTreeWriter(cache);
+        try {
+            writer.write(tree, resourcePack);
+        } finally {
+            tree.deflater.end();
+        }
+
+        // only keep the entries used in this build
+        final List<CompressedEntry> entries = new ArrayList<>(tree.entries.values());
+        final Map<String, CompressedEntry> newCache = new HashMap<>();
+        for (final CompressedEntry entry : entries) {
+            newCache.put(entry.zip.path(), entry);
+        }
+        this.cache = newCache;
+        this.reusedEntryCount = tree.reused;
+        return toBuiltResourcePack(entries);
+    }
+
+    @Override
+    public synchronized int cachedEntryCount() {
+        return cache.size();
+    }
+
+    @Override
+    public synchronized int reusedEntryCount() {
+        return reusedEntryCount;
+    }
+
+    @Override
+    public synchronized void clear() {
+        cache = Collections.emptyMap();
+        reusedEntryCount = 0;
+    }
+
+    private static @NotNull BuiltResourcePack toBuiltResourcePack(final @NotNull List<CompressedEntry> entries) {
+        final MessageDigest digest = Hashing.sha1();
+        final ZipCentralDirectory centralDirectory = new ZipCentralDirectory();
+        final byte[][] chunks = new byte[entries.size() + 1][];
+        for (int i = 0; i < entries.size(); i++) {
+            final DeflatedZipEntry entry = entries.get(i).zip;
+            centralDirectory.add(entry);
+            chunks[i] = entry.chunk();
+            digest.update(chunks[i]);
+        }
+        final byte[] trailerBytes = centralDirectory.finish();
+        chunks[entries.size()] = trailerBytes;
+        digest.update(trailerBytes);
+
+        // built packs are kept in memory, and must fit in a single byte array
+        final long length = centralDirectory.entriesLength() + trailerBytes.length;
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Resource-pack is too big to be built incrementally, its size ("
+                    + length + " bytes) exceeds " + Integer.MAX_VALUE + " bytes, use"
+                    + " MinecraftResourcePackWriter#buildToFile instead");
+        }
+        return BuiltResourcePack.of(new ChunkedWritable(chunks, (int) length), Hashing.hex(digest.digest()));
+    }
+
+    private static final class CompressedEntry {
+        private final @Nullable Object resource;
+        private final int packFormat;
+        private final DeflatedZipEntry zip;
+
+        CompressedEntry(final @Nullable Object resource, final int packFormat, final @NotNull DeflatedZipEntry zip) {
+            this.resource = resource;
+            this.packFormat = packFormat;
+            this.zip = zip;
+        }
+
+        boolean isFor(final @NotNull Object resource, final int packFormat) {
+            return this.packFormat == packFormat
+                    && (this.resource == resource || resource.equals(this.resource));
+        }
+
+        boolean hasData(final long crc, final long size) {
+            return this.resource == null && zip.crc() == crc && zip.size() == size;
+        }
+    }
+
+    private static final class CachingZipFileTreeWriter implements ResourceFileTreeWriter {
+        private final Map<String, CompressedEntry> previous;
+        private final Map<String, CompressedEntry> entries = new LinkedHashMap<>();
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        private int reused;
+
+        CachingZipFileTreeWriter(final @NotNull Map<String, CompressedEntry> previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public boolean exists(final String path) {
+            return entries.containsKey(path);
+        }
+
+        @Override
+        public void write(final @NotNull String path, final @NotNull Object resource, final int targetPackFormat, final @NotNull Callable<byte[]> serializer) {
+            reserve(path);
+            final CompressedEntry cached = previous.get(path);
+            if (cached != null && cached.isFor(resource, targetPackFormat)) {
+                // unchanged, reuse!
+                entries.put(path, cached);
+                reused++;
+                return;
+            }
+
+            final byte[] data;
+            try {
+                data = serializer.call();
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to write to " + path, e);
+            } catch (final RuntimeException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw new IllegalStateException("Failed to write to " + path, e);
+            }
+            entries.put(path, compress(path, resource, targetPackFormat, data, DeflatedZipEntry.checksum(data)));
+        }
+
+        @Override
+        public void write(final String path, final Writable data) {
+            reserve(path);
+            final byte[] bytes;
+            try {
+                bytes = data.toByteArray();
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to write to " + path, e);
+            }
+            entries.put(path, reuseOrCompress(path, bytes));
+        }
+
+        @Override
+        public OutputStream openStream(final String path) {
+            // unknown resource, can't be cached
+            reserve(path);
+            return new ByteArrayOutputStream() {
+                @Override
+                public void close() {
+                    entries.put(path, reuseOrCompress(path, toByteArray()));
+                }
+            };
+        }
+
+        private void reserve(final @NotNull String path) {
+            if (entries.containsKey(path)) {
+                throw new IllegalStateException("File " + path + " already exists!");
+            }
+            // keep the entry position, value is set later
+            entries.put(path, null);
+        }
+
+        private @NotNull CompressedEntry reuseOrCompress(final @NotNull String path, final byte @NotNull [] data) {
+            // raw data is compared by its checksum, not by the instance
+            // that provided it, since it may be mutable (e.g. a file)
+            final long checksum = DeflatedZipEntry.checksum(data);
+            final CompressedEntry cached = previous.get(path);
+            if (cached != null && cached.hasData(checksum, data.length)) {
+                reused++;
+                return cached;
+            }
+            return compress(path, null, -1, data, checksum);
+        }
+
+        private @NotNull CompressedEntry compress(final @NotNull String path, final @Nullable Object resource, final int packFormat, final byte @NotNull [] data, final long checksum) {
+            return new CompressedEntry(resource, packFormat, DeflatedZipEntry.deflate(path, data, checksum, deflater));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class ChunkedWritable implements Writable {
+        private final byte[][] chunks;
+        private final int length;
+
+        ChunkedWritable(final byte @NotNull [] @NotNull [] chunks, final int length) {
+            this.chunks = chunks;
+            this.length = length;
+        }
+
+        @Override
+        public void write(final @NotNull OutputStream output) throws IOException {
+            requireNonNull(output, "output");
+            for (final byte[] chunk : chunks) {
+                output.write(chunk);
+            }
+        }
+
+        @Override
+        public byte @NotNull [] toByteArray() {
+            final byte[] bytes = new byte[length];
+            int offset = 0;
+            for (final byte[] chunk : chunks) {
+                System.arraycopy(chunk, 0, bytes, offset, chunk.length);
+                offset += chunk.length;
+            }
+            return bytes;
+        }
+    }
+}
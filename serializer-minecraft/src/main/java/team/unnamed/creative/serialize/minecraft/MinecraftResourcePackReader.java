@@ -25,6 +25,7 @@ package team.unnamed.creative.serialize.minecraft;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import team.unnamed.creative.ResourcePack;
 import team.unnamed.creative.serialize.ResourcePackReader;
 import team.unnamed.creative.serialize.minecraft.fs.FileTreeReader;
@@ -35,6 +36,7 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
@@ -135,6 +137,91 @@ public interface MinecraftResourcePackReader extends ResourcePackReader<FileTree
         @Contract("_ -> this")
         @NotNull Builder lenient(final boolean lenient);
 
+        /**
+         * Sets the executor used to deserialize resources (models,
+         * block states, fonts, items, languages, etc.) concurrently.
+         *
+         * <p>The file tree is still walked and classified sequentially
+         * in the calling thread, only the per-entry deserialization is
+         * delegated to the executor. Deserialized resources are added
+         * to the resulting resource-pack in the same order as the
+         * sequential reader would, so the result is the same.</p>
+         *
+         * <p>The given executor is never shut down by the reader. Set
+         * to {@code null} (default) to deserialize everything in the
+         * calling thread.</p>
+         *
+         * @param executor The executor for deserialization tasks
+         * @return This builder
+         * @since 1.8.2
+         */
+        @Contract("_ -> this")
+        @NotNull Builder executor(final @Nullable Executor executor);
+
+        /**
+         * Sets the number of threads used to deserialize resources
+         * concurrently, a new thread pool with the given size is
+         * created for every read operation and shut down after it.
+         *
+         * <p>Ignored if an {@link #executor(Executor) executor} is set.
+         * A parallelism of {@code 1} or less (default) means that
+         * resources are deserialized in the calling thread.</p>
+         *
+         * @param parallelism The number of deserialization threads
+         * @return This builder
+         * @since 1.8.2
+         */
+        @Contract("_ -> this")
+        @NotNull Builder parallelism(final int parallelism);
+
+        /**
+         * Makes the reader lazy.
+         *
+         * <p>A lazy reader only classifies the file tree entries and
+         * keeps their content, JSON resources (models, block states,
+         * fonts, items, etc.) are deserialized when they are requested
+         * for the first time, for example, by {@link ResourcePack#model(net.kyori.adventure.key.Key)},
+         * and the result is kept. Textures and sounds are always read
+         * eagerly.</p>
+         *
+         * <p>Useful when only a few resources of a big resource-pack are
+         * needed. Note that, since deserialization is deferred, errors
+         * in malformed resources are thrown by the method that requested
+         * them instead of by {@link #read(FileTreeReader)}.</p>
+         *
+         * <p>Takes precedence over the {@link #executor(Executor) executor}
+         * and {@link #parallelism(int) parallelism} settings for the
+         * lazily loaded resources.</p>
+         *
+         * @param lazy Whether the reader should be lazy
+         * @return This builder
+         * @since 1.8.2
+         */
+        @Contract("_ -> this")
+        @NotNull Builder lazy(final boolean lazy);
+
+        /**
+         * Sets the filter for the read entries, entries that are not
+         * accepted by the filter are skipped before their content is
+         * read, so they don't take time nor memory.
+         *
+         * <p>Useful when only a subset of the resource-pack is needed,
+         * for example, only fonts and languages:</p>
+         * <pre>{@code
+         *     MinecraftResourcePackReader reader = MinecraftResourcePackReader.builder()
+         *             .filter(ResourceFilter.categories("font", "lang"))
+         *             .build();
+         * }</pre>
+         *
+         * <p>Set to {@code null} (default) to read all the entries.</p>
+         *
+         * @param filter The entry filter
+         * @return This builder
+         * @since 1.8.2
+         */
+        @Contract("_ -> this")
+        @NotNull Builder filter(final @Nullable ResourceFilter filter);
+
         /**
          * Builds a new {@link MinecraftResourcePackReader} instance.
          *
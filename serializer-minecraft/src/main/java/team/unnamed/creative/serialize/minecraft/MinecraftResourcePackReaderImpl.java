@@ -26,10 +26,12 @@ package team.unnamed.creative.serialize.minecraft;
 import com.google.gson.JsonElement;
 import com.google.gson.stream.JsonReader;
 import net.kyori.adventure.key.Key;
+import net.kyori.adventure.key.Keyed;
 import org.intellij.lang.annotations.Subst;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import team.unnamed.creative.ResourcePack;
+import team.unnamed.creative.base.Readable;
 import team.unnamed.creative.base.Writable;
 import team.unnamed.creative.metadata.Metadata;
 import team.unnamed.creative.metadata.overlays.OverlayEntry;
@@ -37,6 +39,7 @@ import team.unnamed.creative.metadata.overlays.OverlaysMeta;
 import team.unnamed.creative.metadata.pack.PackMeta;
 import team.unnamed.creative.overlay.Overlay;
 import team.unnamed.creative.overlay.ResourceContainer;
+import team.unnamed.creative.overlay.ResourceContainerImpl;
 import team.unnamed.creative.part.ResourcePackPart;
 import team.unnamed.creative.serialize.minecraft.fs.FileTreeReader;
 import team.unnamed.creative.serialize.minecraft.io.BinaryResourceDeserializer;
@@ -52,10 +55,17 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import static java.util.Objects.requireNonNull;
 import static team.unnamed.creative.serialize.minecraft.MinecraftResourcePackStructure.*;
@@ -66,32 +76,72 @@ final class MinecraftResourcePackReaderImpl implements MinecraftResourcePackRead
             .build();
 
     private final boolean lenient;
+    private final @Nullable Executor executor;
+    private final int parallelism;
+    private final boolean lazy;
+    private final @Nullable ResourceFilter filter;
 
     private MinecraftResourcePackReaderImpl(
-            final boolean lenient
+            final boolean lenient,
+            final @Nullable Executor executor,
+            final int parallelism,
+            final boolean lazy,
+            final @Nullable ResourceFilter filter
     ) {
         this.lenient = lenient;
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.lazy = lazy;
+        this.filter = filter;
     }
 
     @Override
-    @SuppressWarnings("PatternValidation")
     public @NotNull ResourcePack read(final @NotNull FileTreeReader reader) {
+        if (lazy || executor != null || parallelism <= 1) {
+            return read(reader, executor);
+        }
+
+        // no executor was given, create one just for this read operation
+        final ExecutorService pool = WorkerPools.newPool("creative-reader-worker", parallelism);
+        try {
+            return read(reader, pool);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("PatternValidation")
+    private @NotNull ResourcePack read(final @NotNull FileTreeReader reader, final @Nullable Executor executor) {
         ResourcePack resourcePack = ResourcePack.resourcePack();
 
+        // resources being deserialized by the executor, they are added
+        // to their containers in the same order they were found, so the
+        // result is the same as when reading sequentially
+        List<PendingResource> pendingResources = new ArrayList<>();
+
         // textures that are waiting for metadata, or metadata
         // waiting for textures (because we can't know the order
         // they come in)
         // (null key means it is root resource pack)
         Map<@Nullable String, Map<Key, Texture>> incompleteTextures = new LinkedHashMap<>();
 
+        // category folders change between pack formats, e.g. "models/equipment" became "equipment"
+        Map<Integer, Map<String, ResourceCategory<?>>> categoriesByFolderByPackFormat = new HashMap<>();
+
         // fill in with the default ones first (pack format is unknown at the start)
-        Map<String, ResourceCategory<?>> categoriesByFolderThisPackFormat = ResourceCategories.buildCategoryMapByFolder(-1);
+        Map<String, ResourceCategory<?>> categoriesByFolderThisPackFormat = categoriesByFolder(categoriesByFolderByPackFormat, -1);
         Map<String, Integer> packFormatsByOverlayDir = new HashMap<>();
         int packFormat = -1;
 
         while (reader.hasNext()) {
             String path = reader.next();
 
+            if (filter != null && !path.equals(PACK_METADATA_FILE)
+                    && !accepts(filter, path, categoriesByFolderByPackFormat, packFormat, packFormatsByOverlayDir)) {
+                // filtered out, skip before reading its content
+                continue;
+            }
+
             // tokenize path in sections, e.g.: [ assets, minecraft, textures, ... ]
             Queue<String> tokens = tokenize(path);
 
@@ -119,7 +169,7 @@ final class MinecraftResourcePackReaderImpl implements MinecraftResourcePackRead
                         } else {
                             // update the pack format and categories
                             packFormat = packMeta.formats().min();
-                            categoriesByFolderThisPackFormat = ResourceCategories.buildCategoryMapByFolder(packFormat);
+                            categoriesByFolderThisPackFormat = categoriesByFolder(categoriesByFolderByPackFormat, packFormat);
                         }
 
                         // overlays info
@@ -270,16 +320,19 @@ final class MinecraftResourcePackReaderImpl implements MinecraftResourcePackRead
                 }
             } else {
                 // get the resource category, if the local pack format (overlay or root) is the same as the
-                // root pack format, we can use the previously computed map, otherwise we need to compute it
-                // (we could save some time by caching the computed map, but, is it worth it?)
-                ResourceCategory<?> category = (localPackFormat == packFormat
+                // root pack format, we can use the previously computed map, otherwise we get the cached one
+                Map<String, ResourceCategory<?>> categoriesByFolder = localPackFormat == packFormat
                         ? categoriesByFolderThisPackFormat
-                        : ResourceCategories.buildCategoryMapByFolder(localPackFormat)).get(categoryName);
-                if (category == null) {
+                        : categoriesByFolder(categoriesByFolderByPackFormat, localPackFormat);
+                String categoryFolder = categoryFolder(categoriesByFolder, categoryName + '/' + categoryPath);
+                if (categoryFolder == null) {
                     // unknown category
                     container.unknownFile(containerPath, reader.content().asWritable());
                     continue;
                 }
+                ResourceCategory<?> category = categoriesByFolder.get(categoryFolder);
+                // category folders may have more than one section, e.g. "models/equipment"
+                categoryPath = (categoryName + '/' + categoryPath).substring(categoryFolder.length() + 1);
                 String keyValue = withoutExtension(categoryPath, category.extension(-1));
                 if (keyValue == null) {
                     // wrong extension
@@ -294,25 +347,47 @@ final class MinecraftResourcePackReaderImpl implements MinecraftResourcePackRead
                 }
 
                 Key key = Key.key(namespace, keyValue);
-                try {
-                    ResourceDeserializer<? extends ResourcePackPart> deserializer = category.deserializer();
-                    ResourcePackPart resource;
-                    if (deserializer instanceof BinaryResourceDeserializer) {
-                        resource = ((BinaryResourceDeserializer<? extends ResourcePackPart>) deserializer)
-                                .deserializeBinary(reader.content().asWritable(), key);
-                    } else if (deserializer instanceof JsonResourceDeserializer) {
-                        resource = ((JsonResourceDeserializer<? extends ResourcePackPart>) deserializer)
-                                .deserializeFromJson(parseJson(reader.stream()), key);
-                    } else {
-                        resource = deserializer.deserialize(reader.stream(), key);
-                    }
-                    resource.addTo(container);
-                } catch (IOException e) {
-                    throw new UncheckedIOException("Failed to deserialize resource at: '" + path + "'", e);
+                ResourceDeserializer<? extends ResourcePackPart> deserializer = category.deserializer();
+                if (lazy && !(deserializer instanceof BinaryResourceDeserializer)
+                        && deserializeLazily(container, category, reader.content(), key, path)) {
+                    // will be deserialized when first requested
+                    continue;
+                }
+                if (executor == null) {
+                    // binary resources keep a reference to their data, so they need a
+                    // copy, the rest can be deserialized directly from the entry stream
+                    Readable content = deserializer instanceof BinaryResourceDeserializer
+                            ? reader.content()
+                            : reader::stream;
+                    deserialize(deserializer, content, key, path).addTo(container);
+                } else {
+                    // the entry content must be obtained now, since the reader
+                    // will move to the next entry before the task runs
+                    Readable content = reader.content();
+                    pendingResources.add(new PendingResource(container, CompletableFuture.supplyAsync(
+                            () -> deserialize(deserializer, content, key, path),
+                            executor
+                    )));
                 }
             }
         }
 
+        for (PendingResource pending : pendingResources) {
+            ResourcePackPart resource;
+            try {
+                resource = pending.resource.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+            resource.addTo(pending.container);
+        }
+
         for (Map.Entry<String, Map<Key, Texture>> entry : incompleteTextures.entrySet()) {
             @Subst("dir")
             @Nullable String overlayDir = entry.getKey();
@@ -337,6 +412,73 @@ final class MinecraftResourcePackReaderImpl implements MinecraftResourcePackRead
         return resourcePack;
     }
 
+    private static boolean accepts(
+            final @NotNull ResourceFilter filter,
+            final @NotNull String path,
+            final @NotNull Map<Integer, Map<String, ResourceCategory<?>>> categoriesByFolderByPackFormat,
+            final int packFormat,
+            final @NotNull Map<String, Integer> packFormatsByOverlayDir
+    ) {
+        // overlays/<overlay>/assets/<namespace>/<category>/...
+        final String[] sections = path.split(FILE_SEPARATOR);
+        int index = 0;
+        String overlay = null;
+        int localPackFormat = packFormat;
+        if (sections.length > 2 && sections[0].equals(OVERLAYS_FOLDER)) {
+            overlay = sections[1];
+            index = 2;
+            localPackFormat = packFormatsByOverlayDir.getOrDefault(overlay, -1);
+        }
+        String namespace = null;
+        String category = null;
+        if (sections.length - index > 2 && sections[index].equals(ASSETS_FOLDER)) {
+            namespace = sections[index + 1];
+            if (sections.length - index > 3) {
+                // known categories are identified by their folder in the latest pack
+                // format, e.g. "models/equipment" (before pack format 43) is "equipment"
+                final Map<String, ResourceCategory<?>> categoriesByFolder = categoriesByFolder(categoriesByFolderByPackFormat, localPackFormat);
+                final String namespacePath = String.join(FILE_SEPARATOR, Arrays.asList(sections).subList(index + 2, sections.length));
+                final String categoryFolder = categoryFolder(categoriesByFolder, namespacePath);
+                category = categoryFolder == null
+                        ? sections[index + 2]
+                        : categoriesByFolder.get(categoryFolder).folder(-1);
+            }
+        }
+        return filter.test(overlay, namespace, category, path);
+    }
+
+    private static @NotNull Map<String, ResourceCategory<?>> categoriesByFolder(
+            final @NotNull Map<Integer, Map<String, ResourceCategory<?>>> categoriesByFolderByPackFormat,
+            final int packFormat
+    ) {
+        return categoriesByFolderByPackFormat.computeIfAbsent(packFormat, ResourceCategories::buildCategoryMapByFolder);
+    }
+
+    /**
+     * Finds the category folder of a path relative to a namespace
+     * folder, e.g. {@code models/equipment} for {@code models/equipment/diamond.json}
+     * (before pack format 43), the longest known folder wins.
+     *
+     * @param categoriesByFolder The known categories, by folder
+     * @param namespacePath      The path relative to the namespace folder
+     * @return The category folder, null if the path is not in a known category
+     */
+    private static @Nullable String categoryFolder(
+            final @NotNull Map<String, ResourceCategory<?>> categoriesByFolder,
+            final @NotNull String namespacePath
+    ) {
+        String folder = null;
+        int separator = namespacePath.indexOf(FILE_SEPARATOR);
+        while (separator != -1) {
+            final String candidate = namespacePath.substring(0, separator);
+            if (categoriesByFolder.containsKey(candidate)) {
+                folder = candidate;
+            }
+            separator = namespacePath.indexOf(FILE_SEPARATOR, separator + 1);
+        }
+        return folder;
+    }
+
     private static @Nullable String withoutExtension(String string, String extension) {
         if (string.endsWith(extension)) {
             return string.substring(0, string.length() - extension.length());
@@ -346,6 +488,57 @@ final class MinecraftResourcePackReaderImpl implements MinecraftResourcePackRead
         }
     }
 
+    private <T extends Keyed & ResourcePackPart> boolean deserializeLazily(
+            final @NotNull ResourceContainer container,
+            final @NotNull ResourceCategory<T> category,
+            final @NotNull Readable content,
+            final @NotNull Key key,
+            final @NotNull String path
+    ) {
+        if (!(container instanceof ResourceContainerImpl)) {
+            return false;
+        }
+        final Class<T> type = category.type();
+        return ((ResourceContainerImpl) container).lazyResource(
+                type,
+                key,
+                () -> type.cast(deserialize(category.deserializer(), content, key, path))
+        );
+    }
+
+    private @NotNull ResourcePackPart deserialize(
+            final @NotNull ResourceDeserializer<? extends ResourcePackPart> deserializer,
+            final @NotNull Readable content,
+            final @NotNull Key key,
+            final @NotNull String path
+    ) {
+        try {
+            if (deserializer instanceof BinaryResourceDeserializer) {
+                return ((BinaryResourceDeserializer<? extends ResourcePackPart>) deserializer)
+                        .deserializeBinary(content.asWritable(), key);
+            } else if (deserializer instanceof JsonResourceDeserializer) {
+                // read tokens directly, deserializers that don't support it
+                // will parse the JsonElement tree themselves
+                try (final JsonReader jsonReader = jsonReader(content.open())) {
+                    return ((JsonResourceDeserializer<? extends ResourcePackPart>) deserializer)
+                            .deserializeFromJson(jsonReader, key);
+                }
+            } else {
+                return deserializer.deserialize(content, key);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deserialize resource at: '" + path + "'", e);
+        }
+    }
+
+    private @NotNull JsonReader jsonReader(final @NotNull InputStream input) {
+        final JsonReader jsonReader = new JsonReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        // the JsonElement tree parser always reads leniently, so streaming
+        // deserializers must too, to keep accepting the same resources
+        jsonReader.setLenient(true);
+        return jsonReader;
+    }
+
     private @NotNull JsonElement parseJson(final @NotNull InputStream input) {
         try (final JsonReader jsonReader = new JsonReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
             jsonReader.setLenient(lenient);
@@ -355,8 +548,22 @@ final class MinecraftResourcePackReaderImpl implements MinecraftResourcePackRead
         }
     }
 
+    private static final class PendingResource {
+        private final ResourceContainer container;
+        private final CompletableFuture<ResourcePackPart> resource;
+
+        PendingResource(final @NotNull ResourceContainer container, final @NotNull CompletableFuture<ResourcePackPart> resource) {
+            this.container = container;
+            this.resource = resource;
+        }
+    }
+
     static final class BuilderImpl implements Builder {
         private boolean lenient = false;
+        private Executor executor;
+        private int parallelism = 1;
+        private boolean lazy = false;
+        private ResourceFilter filter;
 
         @Override
         public @NotNull Builder lenient(final boolean lenient) {
@@ -364,9 +571,33 @@ final class MinecraftResourcePackReaderImpl implements MinecraftResourcePackRead
             return this;
         }
 
+        @Override
+        public @NotNull Builder executor(final @Nullable Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder parallelism(final int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder lazy(final boolean lazy) {
+            this.lazy = lazy;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder filter(final @Nullable ResourceFilter filter) {
+            this.filter = filter;
+            return this;
+        }
+
         @Override
         public @NotNull MinecraftResourcePackReader build() {
-            return new MinecraftResourcePackReaderImpl(lenient);
+            return new MinecraftResourcePackReaderImpl(lenient, executor, parallelism, lazy, filter);
         }
     }
 }
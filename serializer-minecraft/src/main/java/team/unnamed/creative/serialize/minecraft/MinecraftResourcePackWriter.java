@@ -25,7 +25,9 @@ package team.unnamed.creative.serialize.minecraft;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.FileBuiltResourcePack;
 import team.unnamed.creative.ResourcePack;
 import team.unnamed.creative.base.Writable;
 import team.unnamed.creative.metadata.pack.PackFormat;
@@ -43,7 +45,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.DigestOutputStream;
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.zip.ZipOutputStream;
 
@@ -123,12 +125,7 @@ public interface MinecraftResourcePackWriter extends ResourcePackWriter<FileTree
     }
 
     default BuiltResourcePack build(ResourcePack resourcePack) {
-        MessageDigest digest;
-        try {
-            digest = MessageDigest.getInstance("SHA-1");
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("Cannot find SHA-1 algorithm");
-        }
+        MessageDigest digest = Hashing.sha1();
         ByteArrayOutputStream output = new ByteArrayOutputStream();
 
         // write resource to zip
@@ -137,23 +134,35 @@ public interface MinecraftResourcePackWriter extends ResourcePackWriter<FileTree
         }
 
         byte[] bytes = output.toByteArray();
-        String hash;
-
-        // stringify SHA-1 hash
-        {
-            byte[] hashBytes = digest.digest();
-            StringBuilder builder = new StringBuilder(hashBytes.length * 2);
-            for (byte b : hashBytes) {
-                int part1 = (b >> 4) & 0xF;
-                int part2 = b & 0xF;
-                builder
-                        .append(Character.forDigit(part1, 16))
-                        .append(Character.forDigit(part2, 16));
-            }
-            hash = builder.toString();
+        String hash = Hashing.hex(digest.digest());
+        return BuiltResourcePack.of(Writable.bytes(bytes), hash);
+    }
+
+    /**
+     * Builds the given resource-pack directly to a zip file at the
+     * given path, instead of keeping it in memory.
+     *
+     * <p>The returned {@link FileBuiltResourcePack} reads its data
+     * from the file, so servers can send it without copying the whole
+     * resource-pack to the heap. The file is overwritten if it already
+     * exists, and it must not be modified while the returned instance
+     * is in use.</p>
+     *
+     * @param path         The zip file path
+     * @param resourcePack The resource-pack to build
+     * @return The file-backed built resource-pack
+     * @since 1.8.2
+     */
+    default @NotNull FileBuiltResourcePack buildToFile(final @NotNull Path path, final @NotNull ResourcePack resourcePack) {
+        MessageDigest digest = Hashing.sha1();
+
+        try (ZipOutputStream outputStream = new ZipOutputStream(new DigestOutputStream(new BufferedOutputStream(Files.newOutputStream(path)), digest))) {
+            write(FileTreeWriter.zip(outputStream, zipEntryLifecycleHandler()), resourcePack);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to build resource pack to zip file: " + path, e);
         }
 
-        return BuiltResourcePack.of(Writable.bytes(bytes), hash);
+        return FileBuiltResourcePack.of(path, Hashing.hex(digest.digest()));
     }
 
     default BuiltResourcePack build(Consumer<ResourcePack> consumer) {
@@ -162,6 +171,22 @@ public interface MinecraftResourcePackWriter extends ResourcePackWriter<FileTree
         return build(resourcePack);
     }
 
+    /**
+     * Creates a new {@link IncrementalResourcePackBuilder} that uses
+     * this writer to write resource-packs, and only serializes and
+     * compresses the resources that changed since its last build.
+     *
+     * <p>Useful when the same resource-pack is rebuilt many times
+     * with few changes, e.g. while editing it live.</p>
+     *
+     * @return The incremental builder
+     * @since 1.8.2
+     */
+    @Contract("-> new")
+    default @NotNull IncrementalResourcePackBuilder incremental() {
+        return new IncrementalResourcePackBuilderImpl(this);
+    }
+
     /**
      * A builder for {@link MinecraftResourcePackWriter} instances.
      *
@@ -211,6 +236,50 @@ public interface MinecraftResourcePackWriter extends ResourcePackWriter<FileTree
          */
         @NotNull Builder targetPackFormat(final int packFormat);
 
+        /**
+         * Sets the executor used to serialize resources (models, block
+         * states, fonts, items, languages, etc.) concurrently.
+         *
+         * <p>Serialized files are still written to the target file tree
+         * by the calling thread, in the same order as the sequential
+         * writer, so the resulting file tree is exactly the same.</p>
+         *
+         * <p>When the writer creates the ZIP file itself ({@link #build(ResourcePack)},
+         * {@link #buildToFile(Path, ResourcePack)} and {@link #writeToZipFile(Path, ResourcePack)})
+         * and no custom {@link #zipEntryLifecycleHandler(ZipEntryLifecycleHandler) zip entry lifecycle handler}
+         * is set, each file is also compressed concurrently, as an independent
+         * deflate stream. The resulting ZIP file has the same contents, but not
+         * the same bytes (nor hash) as the sequential one, it is the same as
+         * the one built by an {@link #incremental() incremental builder} instead,
+         * no matter the executor.</p>
+         *
+         * <p>The given executor is never shut down by the writer. Set
+         * to {@code null} (default) to serialize everything in the
+         * calling thread.</p>
+         *
+         * @param executor The executor for serialization tasks
+         * @return This builder
+         * @since 1.8.2
+         */
+        @Contract("_ -> this")
+        @NotNull Builder executor(final @Nullable Executor executor);
+
+        /**
+         * Sets the number of threads used to serialize resources
+         * concurrently, a new thread pool with the given size is
+         * created for every write operation and shut down after it.
+         *
+         * <p>Ignored if an {@link #executor(Executor) executor} is set,
+         * see it for details. A parallelism of {@code 1} or less (default) means that
+         * resources are serialized in the calling thread.</p>
+         *
+         * @param parallelism The number of serialization threads
+         * @return This builder
+         * @since 1.8.2
+         */
+        @Contract("_ -> this")
+        @NotNull Builder parallelism(final int parallelism);
+
         /**
          * Builds a new {@link MinecraftResourcePackWriter} instance.
          *
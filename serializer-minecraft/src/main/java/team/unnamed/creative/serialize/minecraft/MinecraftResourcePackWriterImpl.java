@@ -26,6 +26,9 @@ package team.unnamed.creative.serialize.minecraft;
 import com.google.gson.stream.JsonWriter;
 import net.kyori.adventure.key.Keyed;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.FileBuiltResourcePack;
 import team.unnamed.creative.ResourcePack;
 import team.unnamed.creative.base.Writable;
 import team.unnamed.creative.metadata.Metadata;
@@ -45,11 +48,23 @@ import team.unnamed.creative.serialize.minecraft.sound.SoundRegistrySerializer;
 import team.unnamed.creative.sound.SoundRegistry;
 import team.unnamed.creative.texture.Texture;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 
 import static java.util.Objects.requireNonNull;
 import static team.unnamed.creative.serialize.minecraft.MinecraftResourcePackStructure.*;
@@ -62,15 +77,21 @@ final class MinecraftResourcePackWriterImpl implements MinecraftResourcePackWrit
     private final ZipEntryLifecycleHandler zipEntryLifecycleHandler;
     private final boolean prettyPrinting;
     private final int targetPackFormat;
+    private final @Nullable Executor executor;
+    private final int parallelism;
 
     private MinecraftResourcePackWriterImpl(
             final @NotNull ZipEntryLifecycleHandler zipEntryLifecycleHandler,
             final boolean prettyPrinting,
-            final int targetPackFormat
+            final int targetPackFormat,
+            final @Nullable Executor executor,
+            final int parallelism
     ) {
         this.zipEntryLifecycleHandler = zipEntryLifecycleHandler; // trust the caller (builder)
         this.prettyPrinting = prettyPrinting;
         this.targetPackFormat = targetPackFormat;
+        this.executor = executor;
+        this.parallelism = parallelism;
     }
 
     @Override
@@ -98,6 +119,12 @@ final class MinecraftResourcePackWriterImpl implements MinecraftResourcePackWrit
                 // if it's a JSON serializer, we can use our own method, that will
                 // do some extra configuration
                 writeToJson(target, (JsonResourceSerializer<T>) serializer, resource, path, localTargetPackFormat);
+            } else if (target instanceof ResourceFileTreeWriter) {
+                ((ResourceFileTreeWriter) target).write(path, resource, localTargetPackFormat, () -> {
+                    ByteArrayOutputStream output = new ByteArrayOutputStream();
+                    serializer.serialize(resource, output, localTargetPackFormat);
+                    return output.toByteArray();
+                });
             } else {
                 try (OutputStream output = target.openStream(path)) {
                     category.serializer().serialize(resource, output, localTargetPackFormat);
@@ -140,6 +167,95 @@ final class MinecraftResourcePackWriterImpl implements MinecraftResourcePackWrit
 
     @Override
     public void write(final @NotNull FileTreeWriter target, final @NotNull ResourcePack resourcePack) {
+        if (executor != null || parallelism > 1) {
+            inParallel(executor -> writeParallel(target, resourcePack, executor));
+        } else {
+            writeResourcePack(target, resourcePack);
+        }
+    }
+
+    @Override
+    public void writeToZipFile(final Path path, final ResourcePack resourcePack) {
+        if (!writesZipInParallel()) {
+            MinecraftResourcePackWriter.super.writeToZipFile(path, resourcePack);
+            return;
+        }
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(path))) {
+            writeZip(output, resourcePack);
+        } catch (FileNotFoundException e) {
+            throw new IllegalStateException("Failed to write resource pack to zip file: File not found: " + path, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public BuiltResourcePack build(final ResourcePack resourcePack) {
+        if (!writesZipInParallel()) {
+            return MinecraftResourcePackWriter.super.build(resourcePack);
+        }
+        final MessageDigest digest = Hashing.sha1();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        writeZip(new DigestOutputStream(output, digest), resourcePack);
+        return BuiltResourcePack.of(Writable.bytes(output.toByteArray()), Hashing.hex(digest.digest()));
+    }
+
+    @Override
+    public @NotNull FileBuiltResourcePack buildToFile(final @NotNull Path path, final @NotNull ResourcePack resourcePack) {
+        if (!writesZipInParallel()) {
+            return MinecraftResourcePackWriter.super.buildToFile(path, resourcePack);
+        }
+        final MessageDigest digest = Hashing.sha1();
+        try (OutputStream output = new DigestOutputStream(new BufferedOutputStream(Files.newOutputStream(path)), digest)) {
+            writeZip(output, resourcePack);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to build resource pack to zip file: " + path, e);
+        }
+        return FileBuiltResourcePack.of(path, Hashing.hex(digest.digest()));
+    }
+
+    // when writing a ZIP archive ourselves, the workers also compress
+    // its entries, but custom lifecycle handlers need a ZipOutputStream
+    private boolean writesZipInParallel() {
+        return (executor != null || parallelism > 1)
+                && zipEntryLifecycleHandler == ZipEntryLifecycleHandler.DEFAULT;
+    }
+
+    private void writeZip(final @NotNull OutputStream output, final @NotNull ResourcePack resourcePack) {
+        inParallel(executor -> {
+            final ParallelFileTreeWriter target = ParallelFileTreeWriter.zip(output, executor);
+            writeResourcePack(target, resourcePack);
+            target.finish();
+        });
+    }
+
+    private void inParallel(final @NotNull Consumer<Executor> task) {
+        if (executor != null) {
+            task.accept(executor);
+            return;
+        }
+        // no executor was given, create one just for this write operation
+        final ExecutorService pool = WorkerPools.newPool("creative-writer-worker", parallelism);
+        try {
+            task.accept(pool);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void writeParallel(final @NotNull FileTreeWriter target, final @NotNull ResourcePack resourcePack, final @NotNull Executor executor) {
+        if (target instanceof ResourceFileTreeWriter) {
+            // the target already decides when to serialize the resources (and it
+            // may not need to), wrapping it would hide the written resources
+            writeResourcePack(target, resourcePack);
+            return;
+        }
+        final ParallelFileTreeWriter parallelTarget = new ParallelFileTreeWriter(target, executor);
+        writeResourcePack(parallelTarget, resourcePack);
+        parallelTarget.flush();
+    }
+
+    private void writeResourcePack(final @NotNull FileTreeWriter target, final @NotNull ResourcePack resourcePack) {
         // write icon
         {
             Writable icon = resourcePack.icon();
@@ -184,20 +300,38 @@ final class MinecraftResourcePackWriterImpl implements MinecraftResourcePackWrit
     }
 
     private <T> void writeToJson(FileTreeWriter writer, JsonResourceSerializer<T> serializer, T object, String path, final int localTargetPackFormat) {
+        if (writer instanceof ResourceFileTreeWriter) {
+            // let the writer decide when (and if) the resource is serialized
+            ((ResourceFileTreeWriter) writer).write(path, object, localTargetPackFormat, () -> {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                try (JsonWriter jsonWriter = new JsonWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+                    serializeToJson(jsonWriter, serializer, object, localTargetPackFormat);
+                }
+                return output.toByteArray();
+            });
+            return;
+        }
+
         try (JsonWriter jsonWriter = new JsonWriter(writer.openWriter(path))) {
-            if (prettyPrinting) {
-                jsonWriter.setIndent("  ");
-            }
-            serializer.serializeToJson(object, jsonWriter, localTargetPackFormat);
+            serializeToJson(jsonWriter, serializer, object, localTargetPackFormat);
         } catch (IOException e) {
             throw new UncheckedIOException("Failed to write to " + path, e);
         }
     }
 
+    private <T> void serializeToJson(JsonWriter jsonWriter, JsonResourceSerializer<T> serializer, T object, final int localTargetPackFormat) throws IOException {
+        if (prettyPrinting) {
+            jsonWriter.setIndent("  ");
+        }
+        serializer.serializeToJson(object, jsonWriter, localTargetPackFormat);
+    }
+
     static final class BuilderImpl implements Builder {
         private ZipEntryLifecycleHandler zipEntryLifecycleHandler = ZipEntryLifecycleHandler.DEFAULT;
         private boolean prettyPrinting;
         private int targetPackFormat = -1;
+        private Executor executor;
+        private int parallelism = 1;
 
         @Override
         public @NotNull Builder zipEntryLifecycleHandler(final @NotNull ZipEntryLifecycleHandler zipEntryLifecycleHandler) {
@@ -217,9 +351,21 @@ final class MinecraftResourcePackWriterImpl implements MinecraftResourcePackWrit
             return this;
         }
 
+        @Override
+        public @NotNull Builder executor(final @Nullable Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder parallelism(final int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
         @Override
         public @NotNull MinecraftResourcePackWriter build() {
-            return new MinecraftResourcePackWriterImpl(zipEntryLifecycleHandler, prettyPrinting, targetPackFormat);
+            return new MinecraftResourcePackWriterImpl(zipEntryLifecycleHandler, prettyPrinting, targetPackFormat, executor, parallelism);
         }
     }
 }
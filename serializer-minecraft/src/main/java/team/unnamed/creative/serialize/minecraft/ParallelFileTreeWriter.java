@@ -0,0 +1,369 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.serialize.minecraft;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.base.Writable;
+import team.unnamed.creative.serialize.minecraft.fs.FileTreeWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.Deflater;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link FileTreeWriter} decorator that serializes entries
+ * concurrently and writes them to the delegate file tree in the
+ * exact same order they were submitted.
+ *
+ * <p>Since the delegate always receives the same entries in the same
+ * order, the resulting file tree (e.g. a ZIP archive) is identical to
+ * the one written sequentially.</p>
+ *
+ * <p>When writing a ZIP archive directly, see {@link #zip(OutputStream, Executor)},
+ * entries are also compressed concurrently, each one as an independent
+ * deflate stream, and then concatenated in order.</p>
+ */
+final class ParallelFileTreeWriter implements ResourceFileTreeWriter {
+    // max number of entries that can be waiting to be written to the
+    // delegate, limits the memory used by already serialized entries
+    private static final int MAX_PENDING_ENTRIES = 256;
+
+    private final Sink sink;
+    private final Executor executor;
+
+    private final Set<String> names = new HashSet<>();
+    private final Deque<PendingEntry> pending = new ArrayDeque<>();
+
+    ParallelFileTreeWriter(final @NotNull FileTreeWriter delegate, final @NotNull Executor executor) {
+        this(new DelegateSink(requireNonNull(delegate, "delegate")), executor);
+    }
+
+    private ParallelFileTreeWriter(final @NotNull Sink sink, final @NotNull Executor executor) {
+        this.sink = sink;
+        this.executor = requireNonNull(executor, "executor");
+    }
+
+    /**
+     * Creates a writer that writes a ZIP archive to the given output,
+     * serializing and compressing its entries concurrently.
+     *
+     * <p>The archive has the same layout as the ones built by
+     * {@link IncrementalResourcePackBuilder}, so it only depends on
+     * the written entries, not on the executor.</p>
+     *
+     * @param output   The output for the ZIP archive
+     * @param executor The executor for serialization and compression
+     * @return The created writer
+     */
+    static @NotNull ParallelFileTreeWriter zip(final @NotNull OutputStream output, final @NotNull Executor executor) {
+        return new ParallelFileTreeWriter(new ZipSink(requireNonNull(output, "output")), executor);
+    }
+
+    @Override
+    public boolean exists(final String path) {
+        return names.contains(path) || sink.exists(path);
+    }
+
+    @Override
+    public void write(final @NotNull String path, final @NotNull Object resource, final int targetPackFormat, final @NotNull Callable<byte[]> serializer) {
+        // serialized by the executor, the result is written later, in order
+        final PendingEntry entry = enqueue(path);
+        entry.data = CompletableFuture.supplyAsync(() -> {
+            final byte[] bytes;
+            try {
+                bytes = serializer.call();
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to write to " + path, e);
+            } catch (final RuntimeException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw new IllegalStateException("Failed to write to " + path, e);
+            }
+            return sink.prepare(path, bytes);
+        }, executor);
+        writeExcess();
+    }
+
+    @Override
+    public OutputStream openStream(final String path) {
+        // the entry keeps its position, but its data is only set when the stream is closed
+        final PendingEntry entry = enqueue(path);
+        writeExcess();
+        return new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                if (entry.data == null) {
+                    entry.data = prepareAsync(path, toByteArray());
+                }
+            }
+        };
+    }
+
+    @Override
+    public void write(final String path, final Writable data) {
+        final PendingEntry entry = enqueue(path);
+        if (sink.preparesWritables()) {
+            entry.data = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return sink.prepare(path, data.toByteArray());
+                } catch (final IOException e) {
+                    throw new UncheckedIOException("Failed to write to " + path, e);
+                }
+            }, executor);
+        } else {
+            entry.data = CompletableFuture.completedFuture(data);
+        }
+        writeExcess();
+    }
+
+    private @NotNull CompletableFuture<Object> prepareAsync(final @NotNull String path, final byte @NotNull [] data) {
+        return CompletableFuture.supplyAsync(() -> sink.prepare(path, data), executor);
+    }
+
+    private @NotNull PendingEntry enqueue(final @NotNull String path) {
+        if (!names.add(path)) {
+            throw new IllegalStateException("File " + path + " already exists!");
+        }
+        final PendingEntry entry = new PendingEntry(path);
+        pending.addLast(entry);
+        return entry;
+    }
+
+    private void writeExcess() {
+        while (pending.size() > MAX_PENDING_ENTRIES) {
+            writeNext();
+        }
+    }
+
+    private void writeNext() {
+        final PendingEntry entry = pending.pollFirst();
+        if (entry.data == null) {
+            throw new IllegalStateException("Output stream for " + entry.path + " was never closed");
+        }
+        final Object data;
+        try {
+            data = entry.data.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+        sink.write(entry.path, data);
+    }
+
+    /**
+     * Writes all the pending entries to the delegate
+     * file tree, waiting for them to be serialized.
+     */
+    void flush() {
+        while (!pending.isEmpty()) {
+            writeNext();
+        }
+    }
+
+    @Override
+    public void finish() {
+        flush();
+        sink.finish();
+    }
+
+    @Override
+    public void close() {
+        flush();
+        sink.close();
+    }
+
+    private static final class PendingEntry {
+        private final String path;
+        // set when the entry data is available, or being prepared
+        private @Nullable CompletableFuture<?> data;
+
+        PendingEntry(final @NotNull String path) {
+            this.path = path;
+        }
+    }
+
+    /**
+     * The destination of the entries.
+     */
+    private interface Sink {
+        boolean exists(final @NotNull String path);
+
+        /**
+         * Determines whether {@link Writable} entries must be read and
+         * {@link #prepare prepared} by the workers, otherwise they are
+         * written as they are.
+         *
+         * @return True to prepare writable entries
+         */
+        boolean preparesWritables();
+
+        /**
+         * Prepares the given entry data to be written, called
+         * by the workers.
+         *
+         * @param path The entry path
+         * @param data The entry data
+         * @return The prepared data, passed to {@link #write}
+         */
+        @NotNull Object prepare(final @NotNull String path, final byte @NotNull [] data);
+
+        /**
+         * Writes an entry, called in the order the entries were submitted.
+         *
+         * @param path The entry path
+         * @param data The prepared data, or the {@link Writable} if it
+         *             wasn't prepared
+         */
+        void write(final @NotNull String path, final @NotNull Object data);
+
+        void finish();
+
+        void close();
+    }
+
+    private static final class DelegateSink implements Sink {
+        private final FileTreeWriter delegate;
+
+        DelegateSink(final @NotNull FileTreeWriter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean exists(final @NotNull String path) {
+            return delegate.exists(path);
+        }
+
+        @Override
+        public boolean preparesWritables() {
+            return false;
+        }
+
+        @Override
+        public @NotNull Object prepare(final @NotNull String path, final byte @NotNull [] data) {
+            return (Writable) output -> output.write(data);
+        }
+
+        @Override
+        public void write(final @NotNull String path, final @NotNull Object data) {
+            delegate.write(path, (Writable) data);
+        }
+
+        @Override
+        public void finish() {
+            delegate.finish();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+
+    private static final class ZipSink implements Sink {
+        private final OutputStream output;
+        private final ZipCentralDirectory centralDirectory = new ZipCentralDirectory();
+        private boolean finished;
+
+        ZipSink(final @NotNull OutputStream output) {
+            this.output = output;
+        }
+
+        @Override
+        public boolean exists(final @NotNull String path) {
+            // every written path is already known
+            return false;
+        }
+
+        @Override
+        public boolean preparesWritables() {
+            return true;
+        }
+
+        @Override
+        public @NotNull Object prepare(final @NotNull String path, final byte @NotNull [] data) {
+            final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            try {
+                return DeflatedZipEntry.deflate(path, data, DeflatedZipEntry.checksum(data), deflater);
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        public void write(final @NotNull String path, final @NotNull Object data) {
+            final DeflatedZipEntry entry = (DeflatedZipEntry) data;
+            centralDirectory.add(entry);
+            try {
+                output.write(entry.chunk());
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to write to " + path, e);
+            }
+        }
+
+        @Override
+        public void finish() {
+            if (finished) {
+                return;
+            }
+            try {
+                output.write(centralDirectory.finish());
+                output.flush();
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to finish ZIP archive", e);
+            }
+            finished = true;
+        }
+
+        @Override
+        public void close() {
+            try {
+                finish();
+            } finally {
+                try {
+                    output.close();
+                } catch (final IOException e) {
+                    throw new UncheckedIOException("Failed to close ZIP archive", e);
+                }
+            }
+        }
+    }
+}
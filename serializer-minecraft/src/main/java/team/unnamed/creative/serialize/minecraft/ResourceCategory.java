@@ -44,6 +44,14 @@ import java.util.function.Function;
  */
 @ApiStatus.Internal
 public interface ResourceCategory<T extends Keyed & ResourcePackPart> {
+    /**
+     * Returns the type of the resources in this category.
+     *
+     * @return The resource type
+     * @since 1.8.2
+     */
+    @NotNull Class<T> type();
+
     /**
      * Returns the folder name for this category,
      * based on the given pack format.
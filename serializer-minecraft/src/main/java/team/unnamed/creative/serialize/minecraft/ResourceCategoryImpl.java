@@ -39,6 +39,7 @@ import static java.util.Objects.requireNonNull;
 @ApiStatus.Internal
 public final class ResourceCategoryImpl<T extends Keyed & ResourcePackPart> implements ResourceCategory<T> {
 
+    private final Class<T> type;
     private final String folder;
     private final String extension;
     private final Function<ResourceContainer, Collection<T>> lister;
@@ -47,12 +48,14 @@ public final class ResourceCategoryImpl<T extends Keyed & ResourcePackPart> impl
     private final ResourceSerializer<T> serializer;
 
     public ResourceCategoryImpl(
+            Class<T> type,
             String folder,
             String extension,
             Function<ResourceContainer, Collection<T>> lister,
             ResourceDeserializer<T> deserializer,
             ResourceSerializer<T> serializer
     ) {
+        this.type = requireNonNull(type, "type");
         this.folder = requireNonNull(folder, "folder");
         this.extension = requireNonNull(extension, "extension");
         this.lister = requireNonNull(lister, "lister");
@@ -61,12 +64,14 @@ public final class ResourceCategoryImpl<T extends Keyed & ResourcePackPart> impl
     }
 
     public <TCodec extends ResourceSerializer<T> & ResourceDeserializer<T>> ResourceCategoryImpl(
+            Class<T> type,
             String folder,
             String extension,
             Function<ResourceContainer, Collection<T>> lister,
             TCodec codec
     ) {
         this(
+                type,
                 folder,
                 extension,
                 lister,
@@ -75,6 +80,11 @@ public final class ResourceCategoryImpl<T extends Keyed & ResourcePackPart> impl
         );
     }
 
+    @Override
+    public @NotNull Class<T> type() {
+        return type;
+    }
+
     @Override
     public @NotNull String folder(final int packFormat) {
         return folder;
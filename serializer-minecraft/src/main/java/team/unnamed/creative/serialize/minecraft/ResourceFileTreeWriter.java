@@ -0,0 +1,47 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.serialize.minecraft;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.creative.serialize.minecraft.fs.FileTreeWriter;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A {@link FileTreeWriter} that is aware of the resources that
+ * are being written, so it can decide when and where to serialize
+ * them (e.g. in another thread, or not at all if it's cached).
+ */
+interface ResourceFileTreeWriter extends FileTreeWriter {
+    /**
+     * Writes the given resource to the given path, the resource
+     * is serialized by calling the given {@code serializer}.
+     *
+     * @param path             The file path
+     * @param resource         The written resource
+     * @param targetPackFormat The pack format the resource is serialized for
+     * @param serializer       The resource serializer
+     */
+    void write(final @NotNull String path, final @NotNull Object resource, final int targetPackFormat, final @NotNull Callable<byte[]> serializer);
+}
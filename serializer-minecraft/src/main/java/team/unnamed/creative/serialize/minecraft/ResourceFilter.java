@@ -0,0 +1,217 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.serialize.minecraft;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A filter for the file tree entries read by a {@link MinecraftResourcePackReader},
+ * entries that are not accepted are skipped before their content is read, see
+ * {@link MinecraftResourcePackReader.Builder#filter(ResourceFilter)}.
+ *
+ * <p>For example, to only read fonts and languages from the
+ * {@code minecraft} namespace:</p>
+ * <pre>{@code
+ *     ResourceFilter filter = ResourceFilter.categories("font", "lang")
+ *             .and(ResourceFilter.namespaces("minecraft"));
+ * }</pre>
+ *
+ * <p>Note that the {@code pack.mcmeta} file is always read, since
+ * it is required to know how to read the rest of the entries.</p>
+ *
+ * @since 1.8.2
+ */
+@FunctionalInterface
+public interface ResourceFilter {
+    /**
+     * Determines whether the given entry should be read.
+     *
+     * <p>For an entry at {@code overlays/<overlay>/assets/<namespace>/<category>/<file>},
+     * or {@code assets/<namespace>/<category>/<file>} if not in an overlay, the parameters
+     * will be the corresponding path sections. Parameters for sections that the
+     * entry does not have are {@code null}, for example, the category for
+     * {@code assets/<namespace>/sounds.json} is {@code null}.</p>
+     *
+     * <p>Known categories are identified by their folder in the latest pack
+     * format, even if the entry is in a folder used by older pack formats, e.g.
+     * the category of {@code assets/<namespace>/models/equipment/<file>} is
+     * {@code "equipment"} if the pack format is older than 43, and {@code "models"}
+     * otherwise. The category of other entries is their first folder inside the
+     * namespace folder.</p>
+     *
+     * @param overlay   The overlay directory, null if not in an overlay
+     * @param namespace The namespace, null if not in the assets folder
+     * @param category  The category, e.g. {@code "models"}, {@code "textures"},
+     *                  {@code "font"}, {@code "lang"}, {@code "equipment"}, null if
+     *                  not in a category folder
+     * @param path      The full entry path
+     * @return True to read the entry, false to skip it
+     * @since 1.8.2
+     */
+    boolean test(
+            final @Nullable String overlay,
+            final @Nullable String namespace,
+            final @Nullable String category,
+            final @NotNull String path
+    );
+
+    /**
+     * Returns a filter that accepts entries accepted by both
+     * this filter and the given filter.
+     *
+     * @param other The other filter
+     * @return The combined filter
+     * @since 1.8.2
+     */
+    default @NotNull ResourceFilter and(final @NotNull ResourceFilter other) {
+        requireNonNull(other, "other");
+        return (overlay, namespace, category, path) -> test(overlay, namespace, category, path)
+                && other.test(overlay, namespace, category, path);
+    }
+
+    /**
+     * Returns a filter that accepts entries accepted by this
+     * filter or by the given filter.
+     *
+     * @param other The other filter
+     * @return The combined filter
+     * @since 1.8.2
+     */
+    default @NotNull ResourceFilter or(final @NotNull ResourceFilter other) {
+        requireNonNull(other, "other");
+        return (overlay, namespace, category, path) -> test(overlay, namespace, category, path)
+                || other.test(overlay, namespace, category, path);
+    }
+
+    /**
+     * Returns a filter that accepts all the entries.
+     *
+     * @return The filter
+     * @since 1.8.2
+     */
+    static @NotNull ResourceFilter all() {
+        return (overlay, namespace, category, path) -> true;
+    }
+
+    /**
+     * Returns a filter that only accepts entries inside the given
+     * categories, e.g. {@code "models"}, {@code "textures"}, {@code "font"},
+     * {@code "lang"}, {@code "items"}, {@code "sounds"}, {@code "equipment"},
+     * see {@link #test} for how categories are identified.
+     *
+     * @param categories The accepted categories
+     * @return The filter
+     * @since 1.8.2
+     */
+    static @NotNull ResourceFilter categories(final @NotNull Collection<String> categories) {
+        final Set<String> set = new HashSet<>(requireNonNull(categories, "categories"));
+        return (overlay, namespace, category, path) -> category != null && set.contains(category);
+    }
+
+    /**
+     * Returns a filter that only accepts entries inside the given
+     * categories, e.g. {@code "models"}, {@code "textures"}, {@code "font"},
+     * {@code "lang"}, {@code "items"}, {@code "sounds"}, {@code "equipment"},
+     * see {@link #test} for how categories are identified.
+     *
+     * @param categories The accepted categories
+     * @return The filter
+     * @since 1.8.2
+     */
+    static @NotNull ResourceFilter categories(final @NotNull String @NotNull ... categories) {
+        return categories(Arrays.asList(categories));
+    }
+
+    /**
+     * Returns a filter that only accepts entries inside the
+     * given namespaces, e.g. {@code "minecraft"}.
+     *
+     * @param namespaces The accepted namespaces
+     * @return The filter
+     * @since 1.8.2
+     */
+    static @NotNull ResourceFilter namespaces(final @NotNull Collection<String> namespaces) {
+        final Set<String> set = new HashSet<>(requireNonNull(namespaces, "namespaces"));
+        return (overlay, namespace, category, path) -> namespace != null && set.contains(namespace);
+    }
+
+    /**
+     * Returns a filter that only accepts entries inside the
+     * given namespaces, e.g. {@code "minecraft"}.
+     *
+     * @param namespaces The accepted namespaces
+     * @return The filter
+     * @since 1.8.2
+     */
+    static @NotNull ResourceFilter namespaces(final @NotNull String @NotNull ... namespaces) {
+        return namespaces(Arrays.asList(namespaces));
+    }
+
+    /**
+     * Returns a filter that only accepts entries outside
+     * overlays, i.e. skips all the overlays.
+     *
+     * @return The filter
+     * @since 1.8.2
+     */
+    static @NotNull ResourceFilter root() {
+        return (overlay, namespace, category, path) -> overlay == null;
+    }
+
+    /**
+     * Returns a filter that only accepts entries inside the given
+     * overlays, combine with {@link #root()} using {@link #or(ResourceFilter)}
+     * to also accept entries outside overlays.
+     *
+     * @param overlays The accepted overlay directories
+     * @return The filter
+     * @since 1.8.2
+     */
+    static @NotNull ResourceFilter overlays(final @NotNull String @NotNull ... overlays) {
+        final Set<String> set = new HashSet<>(Arrays.asList(overlays));
+        return (overlay, namespace, category, path) -> overlay != null && set.contains(overlay);
+    }
+
+    /**
+     * Returns a filter that only accepts entries whose full
+     * path matches the given predicate.
+     *
+     * @param predicate The path predicate
+     * @return The filter
+     * @since 1.8.2
+     */
+    static @NotNull ResourceFilter paths(final @NotNull Predicate<String> predicate) {
+        requireNonNull(predicate, "predicate");
+        return (overlay, namespace, category, path) -> predicate.test(path);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.serialize.minecraft;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static team.unnamed.creative.serialize.minecraft.DeflatedZipEntry.DEFLATED;
+import static team.unnamed.creative.serialize.minecraft.DeflatedZipEntry.DOS_DATE;
+import static team.unnamed.creative.serialize.minecraft.DeflatedZipEntry.DOS_TIME;
+import static team.unnamed.creative.serialize.minecraft.DeflatedZipEntry.UTF8_FLAG;
+import static team.unnamed.creative.serialize.minecraft.DeflatedZipEntry.VERSION;
+
+/**
+ * Builds the central directory of a ZIP archive made of
+ * {@link DeflatedZipEntry deflated entries}, which must be written
+ * in the same order they are {@link #add(DeflatedZipEntry) added},
+ * followed by the {@link #finish() central directory}.
+ */
+final class ZipCentralDirectory {
+    // ZIP format constants, see https://pkware.cachefly.net/webdocs/casestudies/APPNOTE.TXT
+    private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_LENGTH = 46;
+    private static final int END_OF_CENTRAL_DIRECTORY_LENGTH = 22;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH = 56;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_LENGTH = 20;
+    private static final short ZIP64_VERSION = 45;
+    private static final long MAX_UINT32 = 0xFFFFFFFFL;
+    private static final int MAX_UINT16 = 0xFFFF;
+
+    private final ByteArrayOutputStream headers = new ByteArrayOutputStream();
+    private int entryCount;
+    private long offset;
+
+    /**
+     * Adds the central directory header for the given entry, which
+     * is placed right after the previously added entries.
+     *
+     * @param entry The entry
+     * @throws IllegalStateException If the entries exceed the 4 GB
+     *                               a ZIP archive without Zip64 offsets can address
+     */
+    void add(final @NotNull DeflatedZipEntry entry) {
+        if (offset + entry.chunk().length > MAX_UINT32) {
+            throw new IllegalStateException("Resource-pack is too big, compressed size exceeds 4 GB");
+        }
+        final byte[] name = entry.name();
+        final ByteBuffer header = ByteBuffer.allocate(CENTRAL_DIRECTORY_HEADER_LENGTH + name.length)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(CENTRAL_DIRECTORY_HEADER_SIGNATURE);
+        header.putShort(VERSION); // version made by
+        header.putShort(VERSION); // version needed to extract
+        header.putShort(UTF8_FLAG);
+        header.putShort(DEFLATED);
+        header.putShort(DOS_TIME);
+        header.putShort(DOS_DATE);
+        header.putInt((int) entry.crc());
+        header.putInt((int) entry.compressedSize());
+        header.putInt((int) entry.size());
+        header.putShort((short) name.length);
+        header.putShort((short) 0); // extra field length
+        header.putShort((short) 0); // comment length
+        header.putShort((short) 0); // disk number start
+        header.putShort((short) 0); // internal file attributes
+        header.putInt(0); // external file attributes
+        header.putInt((int) offset);
+        header.put(name);
+        headers.write(header.array(), 0, header.capacity());
+
+        offset += entry.chunk().length;
+        entryCount++;
+    }
+
+    /**
+     * Returns the total length of the added entries, which
+     * is where the central directory starts.
+     *
+     * @return The length of the added entries
+     */
+    long entriesLength() {
+        return offset;
+    }
+
+    /**
+     * Returns the central directory and end of central directory
+     * records, to be written after all the added entries.
+     *
+     * @return The archive trailer
+     */
+    byte @NotNull [] finish() {
+        final boolean zip64 = entryCount > MAX_UINT16;
+        final long centralDirectoryOffset = offset;
+        final long centralDirectoryLength = headers.size();
+        final int trailerLength = END_OF_CENTRAL_DIRECTORY_LENGTH
+                + (zip64 ? ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH + ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_LENGTH : 0);
+        final ByteBuffer trailer = ByteBuffer.allocate((int) centralDirectoryLength + trailerLength).order(ByteOrder.LITTLE_ENDIAN);
+        trailer.put(headers.toByteArray());
+
+        // end of central directory (and its zip64 version if needed)
+        if (zip64) {
+            final long zip64EndOffset = centralDirectoryOffset + centralDirectoryLength;
+            trailer.putInt(ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+            trailer.putLong(ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH - 12); // size of the remaining record
+            trailer.putShort(ZIP64_VERSION); // version made by
+            trailer.putShort(ZIP64_VERSION); // version needed to extract
+            trailer.putInt(0); // number of this disk
+            trailer.putInt(0); // disk where central directory starts
+            trailer.putLong(entryCount); // number of entries on this disk
+            trailer.putLong(entryCount); // total number of entries
+            trailer.putLong(centralDirectoryLength);
+            trailer.putLong(centralDirectoryOffset);
+
+            trailer.putInt(ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE);
+            trailer.putInt(0); // disk where zip64 end of central directory starts
+            trailer.putLong(zip64EndOffset);
+            trailer.putInt(1); // total number of disks
+        }
+        trailer.putInt(END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+        trailer.putShort((short) 0); // number of this disk
+        trailer.putShort((short) 0); // disk where central directory starts
+        trailer.putShort((short) Math.min(entryCount, MAX_UINT16));
+        trailer.putShort((short) Math.min(entryCount, MAX_UINT16));
+        trailer.putInt((int) centralDirectoryLength);
+        trailer.putInt((int) centralDirectoryOffset);
+        trailer.putShort((short) 0); // comment length
+        return trailer.array();
+    }
+}
@@ -50,6 +50,7 @@ public final class AtlasSerializer implements JsonResourceSerializer<Atlas>, Jso
     static {
         INSTANCE = new AtlasSerializer();
         CATEGORY = new ResourceCategoryImpl<>(
+                Atlas.class,
                 "atlases",
                 ".json",
                 ResourceContainer::atlases,
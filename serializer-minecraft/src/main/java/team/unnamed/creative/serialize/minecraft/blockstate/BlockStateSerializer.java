@@ -54,6 +54,7 @@ public final class BlockStateSerializer implements JsonResourceSerializer<BlockS
     static {
         INSTANCE = new BlockStateSerializer();
         CATEGORY = new ResourceCategoryImpl<>(
+                BlockState.class,
                 "blockstates",
                 ".json",
                 ResourceContainer::blockStates,
@@ -42,6 +42,11 @@ public final class EquipmentCategory implements ResourceCategory<Equipment> {
     private EquipmentCategory() {
     }
 
+    @Override
+    public @NotNull Class<Equipment> type() {
+        return Equipment.class;
+    }
+
     @Override
     public @NotNull String folder(int packFormat) {
         // In 1.21.4 (pack format 43), the equipment stuff was
@@ -58,6 +58,7 @@ public final class FontSerializer implements JsonResourceSerializer<Font>, JsonR
     static {
         INSTANCE = new FontSerializer();
         CATEGORY = new ResourceCategoryImpl<>(
+                Font.class,
                 "font",
                 ".json",
                 ResourceContainer::fonts,
@@ -25,11 +25,13 @@ package team.unnamed.creative.serialize.minecraft.fs;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.base.Readable;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -42,6 +44,7 @@ final class DirectoryFileTreeReader implements FileTreeReader {
     private File @Nullable [] files;
     private int fileCursor;
 
+    private File currentFile;
     private InputStream currentStream;
 
     DirectoryFileTreeReader(File root) {
@@ -97,6 +100,7 @@ final class DirectoryFileTreeReader implements FileTreeReader {
             throw new NoSuchElementException("No more elements");
         } else {
             File current = files[fileCursor++];
+            currentFile = current;
             try {
                 currentStream = new FileInputStream(current);
             } catch (IOException e) {
@@ -111,6 +115,15 @@ final class DirectoryFileTreeReader implements FileTreeReader {
         return currentStream;
     }
 
+    @Override
+    public @NotNull Readable content() {
+        try {
+            return Readable.byteBuffer(Streams.readFully(currentStream, currentFile.length()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read file: " + currentFile, e);
+        }
+    }
+
     @Override
     public void close() {
         if (currentStream != null) {
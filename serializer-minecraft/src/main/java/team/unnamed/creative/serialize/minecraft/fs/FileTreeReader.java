@@ -30,6 +30,8 @@ import team.unnamed.creative.base.Readable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
@@ -57,13 +59,19 @@ public interface FileTreeReader extends AutoCloseable {
      * Returns the current entry's data as a {@link Readable}.
      *
      * <p>The returned readable instance can be used to store
-     * the entry's content.</p>
+     * the entry's content. The default implementation reads the
+     * entry into a single buffer, shared by the returned readable
+     * and its {@link Readable#asWritable() writable} view.</p>
      *
      * @return The current entry's data as a readable
      * @since 1.3.0
      */
     default @NotNull Readable content() {
-        return Readable.copyInputStream(stream());
+        try {
+            return Readable.byteBuffer(Streams.readFully(stream(), -1));
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read the current entry", e);
+        }
     }
 
     /**
@@ -103,6 +111,24 @@ public interface FileTreeReader extends AutoCloseable {
         return new ZipFileTreeReader(zipFile);
     }
 
+    /**
+     * Creates a new {@link FileTreeReader} that memory-maps the given
+     * zip file.
+     *
+     * <p>Stored entries are returned as slices of the mapped file and
+     * deflated entries are inflated when read, so the entry content is
+     * never copied to the heap and stays valid after closing the reader.
+     * The file must not be modified while its content is in use.</p>
+     *
+     * @param path The zip file path, up to 2 GiB
+     * @return The created file tree reader
+     * @throws IOException If the file can't be mapped or is not a valid zip file
+     * @since 1.8.2
+     */
+    static @NotNull FileTreeReader mappedZip(final @NotNull Path path) throws IOException {
+        return MappedZipFileTreeReader.open(path);
+    }
+
     static FileTreeReader directory(File root) {
         return new DirectoryFileTreeReader(root);
     }
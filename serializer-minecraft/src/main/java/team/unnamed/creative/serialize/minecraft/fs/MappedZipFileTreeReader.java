@@ -0,0 +1,377 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.serialize.minecraft.fs;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.base.Readable;
+import team.unnamed.creative.base.Writable;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link FileTreeReader} implementation that memory-maps a zip file and
+ * reads its central directory by itself.
+ *
+ * <p>Stored entries are exposed as slices of the mapped file and deflated
+ * entries are inflated every time they are read, so no entry data is kept
+ * on the heap. The mapping stays valid after closing the reader, until
+ * all the returned content is garbage collected.</p>
+ */
+final class MappedZipFileTreeReader implements FileTreeReader {
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+
+    private static final int END_LENGTH = 22;
+    private static final int ZIP64_LOCATOR_LENGTH = 20;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+
+    private final ByteBuffer mapped;
+    private final List<Entry> entries;
+    private int cursor;
+    private @Nullable Entry current;
+    private @Nullable InputStream currentStream;
+
+    private MappedZipFileTreeReader(final @NotNull ByteBuffer mapped, final @NotNull List<Entry> entries) {
+        this.mapped = mapped;
+        this.entries = entries;
+    }
+
+    static @NotNull MappedZipFileTreeReader open(final @NotNull Path path) throws IOException {
+        requireNonNull(path, "path");
+        final ByteBuffer mapped;
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Zip file too big to be mapped (" + size + " bytes): " + path);
+            }
+            // the mapping remains valid after closing the channel
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        mapped.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            return new MappedZipFileTreeReader(mapped, readEntries(mapped));
+        } catch (final IndexOutOfBoundsException | IllegalArgumentException | BufferUnderflowException e) {
+            final ZipException malformed = new ZipException("Malformed zip file: " + path);
+            malformed.initCause(e);
+            throw malformed;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return cursor < entries.size();
+    }
+
+    @Override
+    public @NotNull String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more elements");
+        }
+        closeCurrentStream();
+        current = entries.get(cursor++);
+        return current.name;
+    }
+
+    @Override
+    public @NotNull InputStream stream() {
+        final Entry entry = requireCurrent();
+        closeCurrentStream();
+        return currentStream = entry.open();
+    }
+
+    @Override
+    public @NotNull Readable content() {
+        return requireCurrent().content;
+    }
+
+    @Override
+    public void close() {
+        // nothing to release, the mapping is released once
+        // it is no longer referenced
+        closeCurrentStream();
+    }
+
+    private @NotNull Entry requireCurrent() {
+        if (current == null) {
+            throw new IllegalStateException("No current entry, call next() first");
+        }
+        return current;
+    }
+
+    private void closeCurrentStream() {
+        if (currentStream != null) {
+            Streams.closeUnchecked(currentStream);
+            currentStream = null;
+        }
+    }
+
+    private static @NotNull List<Entry> readEntries(final @NotNull ByteBuffer zip) throws IOException {
+        // find the end of central directory record, followed by a comment
+        int end = -1;
+        final int minEnd = Math.max(0, zip.limit() - END_LENGTH - MAX_COMMENT_LENGTH);
+        for (int i = zip.limit() - END_LENGTH; i >= minEnd; i--) {
+            if (zip.getInt(i) == END_SIGNATURE) {
+                end = i;
+                break;
+            }
+        }
+        if (end == -1) {
+            throw new ZipException("End of central directory not found");
+        }
+
+        long entryCount = zip.getShort(end + 10) & 0xFFFF;
+        long directoryOffset = zip.getInt(end + 16) & 0xFFFFFFFFL;
+        final int locator = end - ZIP64_LOCATOR_LENGTH;
+        if (locator >= 0 && zip.getInt(locator) == ZIP64_LOCATOR_SIGNATURE) {
+            final int zip64End = toIndex(zip.getLong(locator + 8));
+            if (zip.getInt(zip64End) != ZIP64_END_SIGNATURE) {
+                throw new ZipException("Zip64 end of central directory not found");
+            }
+            entryCount = zip.getLong(zip64End + 32);
+            directoryOffset = zip.getLong(zip64End + 48);
+        }
+
+        final List<Entry> entries = new ArrayList<>((int) Math.min(entryCount, 0xFFFF));
+        int offset = toIndex(directoryOffset);
+        for (long i = 0; i < entryCount; i++) {
+            if (zip.getInt(offset) != CENTRAL_HEADER_SIGNATURE) {
+                throw new ZipException("Invalid central directory header at " + offset);
+            }
+            final int flags = zip.getShort(offset + 8) & 0xFFFF;
+            final int method = zip.getShort(offset + 10) & 0xFFFF;
+            long compressedSize = zip.getInt(offset + 20) & 0xFFFFFFFFL;
+            long size = zip.getInt(offset + 24) & 0xFFFFFFFFL;
+            final int nameLength = zip.getShort(offset + 28) & 0xFFFF;
+            final int extraLength = zip.getShort(offset + 30) & 0xFFFF;
+            final int commentLength = zip.getShort(offset + 32) & 0xFFFF;
+            long localHeaderOffset = zip.getInt(offset + 42) & 0xFFFFFFFFL;
+            final String name = string(zip, offset + 46, nameLength);
+
+            // zip64 extended information, only the values that don't fit
+            int extra = offset + 46 + nameLength;
+            final int extraEnd = extra + extraLength;
+            while (extra + 4 <= extraEnd) {
+                final int id = zip.getShort(extra) & 0xFFFF;
+                final int length = zip.getShort(extra + 2) & 0xFFFF;
+                if (id == ZIP64_EXTRA_ID) {
+                    int field = extra + 4;
+                    if (size == 0xFFFFFFFFL) {
+                        size = zip.getLong(field);
+                        field += 8;
+                    }
+                    if (compressedSize == 0xFFFFFFFFL) {
+                        compressedSize = zip.getLong(field);
+                        field += 8;
+                    }
+                    if (localHeaderOffset == 0xFFFFFFFFL) {
+                        localHeaderOffset = zip.getLong(field);
+                    }
+                    break;
+                }
+                extra += 4 + length;
+            }
+            offset = extraEnd + commentLength;
+
+            if (name.endsWith("/")) {
+                // directory
+                continue;
+            }
+            if ((flags & 1) != 0) {
+                throw new ZipException("Encrypted entries are not supported: " + name);
+            }
+            if (method != METHOD_STORED && method != METHOD_DEFLATED) {
+                throw new ZipException("Unsupported compression method " + method + " for entry: " + name);
+            }
+
+            // the local header name and extra field may differ from the central ones
+            final int local = toIndex(localHeaderOffset);
+            if (zip.getInt(local) != LOCAL_HEADER_SIGNATURE) {
+                throw new ZipException("Invalid local header for entry: " + name);
+            }
+            final int dataStart = local + 30 + (zip.getShort(local + 26) & 0xFFFF) + (zip.getShort(local + 28) & 0xFFFF);
+            final ByteBuffer data = zip.duplicate();
+            data.position(dataStart);
+            data.limit(toIndex(dataStart + compressedSize));
+            entries.add(new Entry(name, method == METHOD_DEFLATED, data.slice(), size));
+        }
+        return entries;
+    }
+
+    private static int toIndex(final long offset) throws ZipException {
+        if (offset < 0 || offset > Integer.MAX_VALUE) {
+            throw new ZipException("Invalid offset: " + offset);
+        }
+        return (int) offset;
+    }
+
+    private static @NotNull String string(final @NotNull ByteBuffer zip, final int offset, final int length) throws ZipException {
+        if (offset < 0 || offset > zip.limit() - length) {
+            throw new ZipException("Entry name out of bounds at " + offset);
+        }
+        final byte[] bytes = new byte[length];
+        final ByteBuffer source = zip.duplicate();
+        source.position(offset);
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final Readable content;
+
+        Entry(final @NotNull String name, final boolean deflated, final @NotNull ByteBuffer data, final long size) {
+            this.name = name;
+            this.content = deflated ? new InflatingReadable(data, size) : Readable.byteBuffer(data);
+        }
+
+        @NotNull InputStream open() {
+            try {
+                return content.open();
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to open entry: " + name, e);
+            }
+        }
+    }
+
+    /**
+     * A {@link Readable} view of a deflated entry, inflated on every read.
+     */
+    private static final class InflatingReadable implements Readable {
+        private final ByteBuffer compressed;
+        private final long size;
+
+        InflatingReadable(final @NotNull ByteBuffer compressed, final long size) {
+            this.compressed = compressed;
+            this.size = size;
+        }
+
+        @Override
+        public @NotNull InputStream open() throws IOException {
+            return new EntryInflaterInputStream(Readable.byteBuffer(compressed).open());
+        }
+
+        @Override
+        public byte @NotNull [] readAsByteArray() {
+            try (final InputStream input = open()) {
+                final ByteBuffer data = Streams.readFully(input, size);
+                return data.remaining() == data.capacity() ? data.array() : readAsByteArrayCopy(data);
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to inflate entry", e);
+            }
+        }
+
+        @Override
+        public @NotNull Writable asWritable() {
+            return new Writable() {
+                @Override
+                public void write(final @NotNull OutputStream output) throws IOException {
+                    requireNonNull(output, "output");
+                    try (final InputStream input = open()) {
+                        final byte[] buf = new byte[8192];
+                        int read;
+                        while ((read = input.read(buf)) != -1) {
+                            output.write(buf, 0, read);
+                        }
+                    }
+                }
+
+                @Override
+                public byte @NotNull [] toByteArray() {
+                    return readAsByteArray();
+                }
+
+                @Override
+                public String toString() {
+                    return "Writable { type='mappedZipEntry', size=" + size + " }";
+                }
+            };
+        }
+
+        private static byte @NotNull [] readAsByteArrayCopy(final @NotNull ByteBuffer data) {
+            final byte[] bytes = new byte[data.remaining()];
+            data.get(bytes);
+            return bytes;
+        }
+    }
+
+    private static final class EntryInflaterInputStream extends InflaterInputStream {
+        private boolean eof;
+        private boolean closed;
+
+        EntryInflaterInputStream(final @NotNull InputStream input) {
+            super(input, new Inflater(true), 8192);
+        }
+
+        @Override
+        protected void fill() throws IOException {
+            if (eof) {
+                throw new EOFException("Unexpected end of deflated entry");
+            }
+            len = in.read(buf, 0, buf.length);
+            if (len == -1) {
+                // raw inflater may need an extra dummy byte
+                buf[0] = 0;
+                len = 1;
+                eof = true;
+            }
+            inf.setInput(buf, 0, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                inf.end();
+                super.close();
+            }
+        }
+    }
+}
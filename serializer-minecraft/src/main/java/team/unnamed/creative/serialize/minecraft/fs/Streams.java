@@ -23,13 +23,21 @@
  */
 package team.unnamed.creative.serialize.minecraft.fs;
 
+import org.jetbrains.annotations.NotNull;
+
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
+import java.util.Arrays;
 
 final class Streams {
+    // the size hint may come from an untrusted source (e.g. zip
+    // headers), bigger entries grow the buffer as they are read
+    private static final int MAX_INITIAL_BUFFER_SIZE = 1 << 20;
 
     private Streams() {
     }
@@ -42,6 +50,48 @@ final class Streams {
         }
     }
 
+    /**
+     * Reads the given input stream fully into a single buffer, without
+     * intermediate copies if the size is known.
+     *
+     * @param input    The input stream, not closed
+     * @param sizeHint The expected size, negative if unknown
+     * @return The read data
+     * @throws IOException If reading fails
+     */
+    public static @NotNull ByteBuffer readFully(final @NotNull InputStream input, final long sizeHint) throws IOException {
+        if (sizeHint > Integer.MAX_VALUE - 8) {
+            throw new IOException("Entry too big: " + sizeHint + " bytes");
+        }
+        byte[] buf = new byte[sizeHint >= 0 ? (int) Math.min(sizeHint, MAX_INITIAL_BUFFER_SIZE) : 8192];
+        int length = 0;
+        while (true) {
+            if (length == buf.length) {
+                // check for the end before growing, the
+                // size hint is usually right
+                final int next = input.read();
+                if (next == -1) {
+                    break;
+                }
+                if (buf.length >= Integer.MAX_VALUE - 8) {
+                    throw new IOException("Entry too big");
+                }
+                buf = Arrays.copyOf(buf, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(buf.length * 2L, 8192)));
+                buf[length++] = (byte) next;
+            }
+            final int read = input.read(buf, length, buf.length - length);
+            if (read == -1) {
+                break;
+            }
+            length += read;
+        }
+        if (buf.length - length > (length >> 3)) {
+            // too much unused space, trim it
+            buf = Arrays.copyOf(buf, length);
+        }
+        return ByteBuffer.wrap(buf, 0, length);
+    }
+
     public static void deleteContents(File folder) {
         File[] children = folder.listFiles();
         if (children != null) {
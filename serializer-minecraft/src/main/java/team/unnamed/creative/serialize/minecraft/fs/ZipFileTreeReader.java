@@ -28,12 +28,10 @@ import org.jetbrains.annotations.Nullable;
 import team.unnamed.creative.base.Readable;
 import team.unnamed.creative.base.Writable;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.lang.ref.WeakReference;
-import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.HashSet;
@@ -123,7 +121,7 @@ final class ZipFileTreeReader implements FileTreeReader {
 
     private class ZipFileEntryReadable implements Readable {
         private final ZipEntry entry;
-        private byte @Nullable [] memoized;
+        private @Nullable Readable memoized;
 
         ZipFileEntryReadable(final @NotNull ZipEntry entry) {
             this.entry = requireNonNull(entry, "entry");
@@ -132,7 +130,7 @@ final class ZipFileTreeReader implements FileTreeReader {
         @Override
         public @NotNull InputStream open() throws IOException {
             if (memoized != null) {
-                return new ByteArrayInputStream(memoized);
+                return memoized.open();
             } else {
                 return zipFile.getInputStream(entry);
             }
@@ -141,24 +139,27 @@ final class ZipFileTreeReader implements FileTreeReader {
         @Override
         public @NotNull Writable asWritable() {
             if (memoized != null) {
-                return Writable.bytes(memoized);
+                return memoized.asWritable();
             } else {
                 return Readable.super.asWritable();
             }
         }
 
-        void memoize() {
+        void memoize() throws IOException {
             if (memoized != null) {
                 // already memoized!
                 return;
             }
-            this.memoized = Readable.super.readAsByteArray();
+            try (final InputStream input = zipFile.getInputStream(entry)) {
+                // read once into a single buffer, shared by the returned writables
+                this.memoized = Readable.byteBuffer(Streams.readFully(input, entry.getSize()));
+            }
         }
 
         @Override
         public byte @NotNull [] readAsByteArray() {
             if (memoized != null) {
-                return memoized.clone();
+                return memoized.readAsByteArray();
             } else {
                 return Readable.super.readAsByteArray();
             }
@@ -167,7 +168,7 @@ final class ZipFileTreeReader implements FileTreeReader {
         @Override
         public @NotNull String readAsUTF8String() throws IOException {
             if (memoized != null) {
-                return new String(memoized, StandardCharsets.UTF_8);
+                return memoized.readAsUTF8String();
             } else {
                 return Readable.super.readAsUTF8String();
             }
@@ -24,6 +24,7 @@
 package team.unnamed.creative.serialize.minecraft.fs;
 
 import org.jetbrains.annotations.NotNull;
+import team.unnamed.creative.base.Readable;
 
 import java.io.FilterInputStream;
 import java.io.IOException;
@@ -95,6 +96,16 @@ final class ZipInputStreamFileTreeReader implements FileTreeReader {
         };
     }
 
+    @Override
+    public @NotNull Readable content() {
+        try {
+            // the entry size is known unless a data descriptor is used
+            return Readable.byteBuffer(Streams.readFully(zip, current.getSize()));
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read entry: " + current.getName(), e);
+        }
+    }
+
     @Override
     public void close() throws IOException {
         zip.close();
@@ -64,6 +64,7 @@ public final class ItemSerializer implements JsonResourceSerializer<Item>, JsonR
     static {
         INSTANCE = new ItemSerializer();
         CATEGORY = new ResourceCategoryImpl<>(
+                Item.class,
                 "items",
                 ".json",
                 ResourceContainer::items,
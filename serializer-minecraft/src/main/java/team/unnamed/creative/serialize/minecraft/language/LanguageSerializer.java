@@ -25,6 +25,8 @@ package team.unnamed.creative.serialize.minecraft.language;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import net.kyori.adventure.key.Key;
 import team.unnamed.creative.lang.Language;
@@ -46,6 +48,7 @@ public final class LanguageSerializer implements JsonResourceSerializer<Language
     static {
         INSTANCE = new LanguageSerializer();
         CATEGORY = new ResourceCategoryImpl<>(
+                Language.class,
                 "lang",
                 ".json",
                 ResourceContainer::languages,
@@ -81,4 +84,28 @@ public final class LanguageSerializer implements JsonResourceSerializer<Language
         return Language.language(key, translations);
     }
 
+    @Override
+    public Language deserializeFromJson(JsonReader reader, Key key) throws IOException {
+        Map<String, String> translations = new LinkedHashMap<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String translationKey = reader.nextName();
+            JsonToken token = reader.peek();
+            if (token == JsonToken.STRING || token == JsonToken.NUMBER || token == JsonToken.BOOLEAN) {
+                // same as the JsonElement tree: primitives as strings, others ignored
+                translations.put(translationKey, token == JsonToken.BOOLEAN
+                        ? String.valueOf(reader.nextBoolean())
+                        : reader.nextString());
+            } else {
+                // a duplicated key with a non-primitive value removes the previous one
+                translations.remove(translationKey);
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return Language.language(key, translations);
+    }
+
 }
\ No newline at end of file
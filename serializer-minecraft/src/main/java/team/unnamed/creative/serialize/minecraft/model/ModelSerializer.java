@@ -27,6 +27,7 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 import net.kyori.adventure.key.Key;
 import org.jetbrains.annotations.ApiStatus;
@@ -69,6 +70,7 @@ public final class ModelSerializer implements JsonResourceSerializer<Model>, Jso
     static {
         INSTANCE = new ModelSerializer();
         CATEGORY = new ResourceCategoryImpl<>(
+                Model.class,
                 "models",
                 ".json",
                 ResourceContainer::models,
@@ -192,6 +194,78 @@ public final class ModelSerializer implements JsonResourceSerializer<Model>, Jso
                 .build();
     }
 
+    @Override
+    public Model deserializeFromJson(JsonReader reader, Key key) throws IOException {
+        // streaming version of deserializeFromJson(JsonElement, Key), elements
+        // are read directly, small and rare properties are still read as trees
+        Key parent = null;
+        Map<ItemTransform.Type, ItemTransform> display = new LinkedHashMap<>();
+        List<Element> elements = new ArrayList<>();
+        ModelTextures texture = ModelTextures.builder().build();
+        Model.GuiLight guiLight = null;
+        List<ItemOverride> overrides = new ArrayList<>();
+        boolean ambientOcclusion = Model.DEFAULT_AMBIENT_OCCLUSION;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+                case "parent":
+                    parent = Key.key(reader.nextString());
+                    break;
+                case "display":
+                    display.clear();
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        ItemTransform.Type type = ItemTransform.Type.valueOf(reader.nextName().toUpperCase(Locale.ROOT));
+                        display.put(type, readItemTransform(GsonUtil.parseReader(reader)));
+                    }
+                    reader.endObject();
+                    break;
+                case "elements":
+                    elements.clear();
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        elements.add(readElement(reader));
+                    }
+                    reader.endArray();
+                    break;
+                case "textures":
+                    texture = readTextures(GsonUtil.parseReader(reader));
+                    break;
+                case "gui_light":
+                    guiLight = Model.GuiLight.valueOf(reader.nextString().toUpperCase(Locale.ROOT));
+                    break;
+                case "overrides":
+                    overrides.clear();
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        overrides.add(readItemOverride(GsonUtil.parseReader(reader)));
+                    }
+                    reader.endArray();
+                    break;
+                case "ambientocclusion":
+                    ambientOcclusion = GsonUtil.nextBoolean(reader, name);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        return Model.model()
+                .key(key)
+                .parent(parent)
+                .display(display)
+                .elements(elements)
+                .ambientOcclusion(ambientOcclusion)
+                .textures(texture)
+                .guiLight(guiLight)
+                .overrides(overrides)
+                .build();
+    }
+
     private static void writeElement(JsonWriter writer, Element element) throws IOException {
         writer
                 .beginObject()
@@ -328,6 +402,128 @@ public final class ModelSerializer implements JsonResourceSerializer<Model>, Jso
                 .build();
     }
 
+    private static Element readElement(JsonReader reader) throws IOException {
+        Vector3Float from = null;
+        Vector3Float to = null;
+        ElementRotation rotation = null;
+        boolean shade = Element.DEFAULT_SHADE;
+        int lightEmission = 0;
+        Map<CubeFace, ElementFace> faces = new LinkedHashMap<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+                case "from":
+                    from = GsonUtil.readVector3Float(reader);
+                    break;
+                case "to":
+                    to = GsonUtil.readVector3Float(reader);
+                    break;
+                case "rotation":
+                    rotation = readElementRotation(GsonUtil.parseReader(reader));
+                    break;
+                case "shade":
+                    shade = GsonUtil.nextBoolean(reader, name);
+                    break;
+                case "light_emission":
+                    lightEmission = GsonUtil.nextInt(reader, name);
+                    break;
+                case "faces":
+                    faces.clear();
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        CubeFace face = CubeFace.valueOf(reader.nextName().toUpperCase(Locale.ROOT));
+                        ElementFace elementFace = readElementFace(reader);
+                        if (elementFace == null) {
+                            // invalid cull face, skip (same as the tree version)
+                            faces.remove(face);
+                        } else {
+                            faces.put(face, elementFace);
+                        }
+                    }
+                    reader.endObject();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        return Element.element()
+                .from(from)
+                .to(to)
+                .rotation(rotation)
+                .shade(shade)
+                .lightEmission(lightEmission)
+                .faces(faces)
+                .build();
+    }
+
+    private static ElementFace readElementFace(JsonReader reader) throws IOException {
+        TextureUV uv = null;
+        String texture = null;
+        CubeFace cullFace = null;
+        boolean invalidCullFace = false;
+        int rotation = ElementFace.DEFAULT_ROTATION;
+        int tintIndex = ElementFace.DEFAULT_TINT_INDEX;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+                case "uv": {
+                    reader.beginArray();
+                    Vector2Float from = new Vector2Float((float) reader.nextDouble(), (float) reader.nextDouble());
+                    Vector2Float to = new Vector2Float((float) reader.nextDouble(), (float) reader.nextDouble());
+                    while (reader.hasNext()) {
+                        reader.skipValue();
+                    }
+                    reader.endArray();
+                    uv = TextureUV.uv(
+                            from.divide(MINECRAFT_UV_UNIT),
+                            to.divide(MINECRAFT_UV_UNIT)
+                    );
+                    break;
+                }
+                case "texture":
+                    texture = reader.nextString();
+                    break;
+                case "cullface":
+                    try {
+                        cullFace = CubeFace.valueOf(reader.nextString().toUpperCase(Locale.ROOT));
+                        invalidCullFace = false;
+                    } catch (IllegalArgumentException e) {
+                        invalidCullFace = true;
+                    }
+                    break;
+                case "rotation":
+                    rotation = GsonUtil.nextInt(reader, name);
+                    break;
+                case "tintindex":
+                    tintIndex = GsonUtil.nextInt(reader, name);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (invalidCullFace) {
+            return null;
+        }
+
+        return ElementFace.face()
+                .uv(uv)
+                .texture(texture)
+                .cullFace(cullFace)
+                .rotation(rotation)
+                .tintIndex(tintIndex)
+                .build();
+    }
+
     private static void writeElementRotation(JsonWriter writer, ElementRotation rotation) throws IOException {
         writer.beginObject()
                 .name("origin");
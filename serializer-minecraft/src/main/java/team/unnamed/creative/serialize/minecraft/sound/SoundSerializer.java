@@ -33,6 +33,7 @@ import team.unnamed.creative.sound.Sound;
 public class SoundSerializer {
 
     public static final ResourceCategoryImpl<Sound> CATEGORY = new ResourceCategoryImpl<>(
+            Sound.class,
             "sounds",
             ".ogg",
             ResourceContainer::sounds,
@@ -26,6 +26,7 @@ package team.unnamed.creative.serialize.minecraft.fs;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import team.unnamed.creative.base.Readable;
 import team.unnamed.creative.base.Writable;
 
 import java.io.IOException;
@@ -93,4 +94,28 @@ interface FileTreeReaderTest {
         }
     }
 
+    @Test
+    @DisplayName("Test that the stored content is valid after closing the reader")
+    default void test_content() throws IOException {
+        Map<String, Readable> files = new HashMap<>();
+        try (FileTreeReader reader = createReader()) {
+            while (reader.hasNext()) {
+                String path = reader.next();
+                files.put(path, reader.content());
+            }
+        }
+
+        assertEquals(4, files.size());
+        Readable content = files.get("file.txt");
+        assertEquals("Hello, this is a cool file", content.readAsUTF8String());
+        assertEquals("Hello, this is a cool file", content.asWritable().toUTF8String());
+        Assertions.assertArrayEquals("Hello, this is a cool file".getBytes(), content.readAsByteArray());
+
+        // returned arrays are copies
+        content.readAsByteArray()[0] = 0;
+        assertEquals("Hello, this is a cool file", content.readAsUTF8String());
+        assertEquals("This is a file without extension", files.get("dir/subdir/filenoext").readAsUTF8String());
+    }
+
 }
+
@@ -0,0 +1,188 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.serialize.minecraft.fs;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.base.Readable;
+import team.unnamed.creative.base.Writable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+class MappedZipFileTreeReaderTest implements FileTreeReaderTest {
+    @Override
+    public @NotNull FileTreeReader createReader() throws IOException {
+        return FileTreeReader.mappedZip(Paths.get("src/test/resources/ziptree.zip"));
+    }
+
+    @Test
+    @DisplayName("Test that stored and deflated entries are read from the mapped file")
+    void test_stored_and_deflated() throws IOException {
+        byte[] noise = new byte[100_000];
+        new Random(16).nextBytes(noise);
+        byte[] text = new byte[100_000];
+        for (int i = 0; i < text.length; i++) {
+            text[i] = (byte) ('a' + i % 26);
+        }
+
+        Path file = Files.createTempFile("creative-mapped", ".zip");
+        try {
+            try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(file))) {
+                CRC32 crc = new CRC32();
+                crc.update(noise);
+                ZipEntry stored = new ZipEntry("textures/noise.png");
+                stored.setMethod(ZipEntry.STORED);
+                stored.setSize(noise.length);
+                stored.setCrc(crc.getValue());
+                output.putNextEntry(stored);
+                output.write(noise);
+                output.closeEntry();
+
+                output.putNextEntry(new ZipEntry("dir/"));
+                output.closeEntry();
+
+                output.putNextEntry(new ZipEntry("sounds/text.ogg"));
+                output.write(text);
+                output.closeEntry();
+            }
+
+            Map<String, Readable> contents = new HashMap<>();
+            try (FileTreeReader reader = FileTreeReader.mappedZip(file)) {
+                while (reader.hasNext()) {
+                    String path = reader.next();
+                    Assertions.assertArrayEquals(path.endsWith(".png") ? noise : text, Readable.copyInputStream(reader.stream()).readAsByteArray());
+                    contents.put(path, reader.content());
+                }
+            }
+
+            Assertions.assertEquals(2, contents.size());
+            Assertions.assertArrayEquals(noise, contents.get("textures/noise.png").readAsByteArray());
+            Assertions.assertArrayEquals(text, contents.get("sounds/text.ogg").readAsByteArray());
+
+            Writable writable = contents.get("sounds/text.ogg").asWritable();
+            Assertions.assertArrayEquals(text, writable.toByteArray());
+            // can be written again
+            Assertions.assertArrayEquals(text, writable.toByteArray());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // still mapped on some platforms
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test that files that are not zip files are rejected")
+    void test_not_zip() throws IOException {
+        Path file = Files.createTempFile("creative-mapped", ".zip");
+        try (OutputStream output = Files.newOutputStream(file)) {
+            output.write(new byte[100]);
+        }
+        try {
+            Assertions.assertThrows(IOException.class, () -> FileTreeReader.mappedZip(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Test that malformed zip files are rejected keeping the cause")
+    void test_malformed_zip() throws IOException {
+        // only an end of central directory record, pointing
+        // to a central directory out of the file bounds
+        ByteBuffer end = ByteBuffer.allocate(22).order(ByteOrder.LITTLE_ENDIAN);
+        end.putInt(0x06054b50);
+        end.putShort((short) 0); // number of this disk
+        end.putShort((short) 0); // disk where central directory starts
+        end.putShort((short) 1); // number of entries on this disk
+        end.putShort((short) 1); // total number of entries
+        end.putInt(46); // central directory size
+        end.putInt(1000); // central directory offset
+        end.putShort((short) 0); // comment length
+
+        Path file = Files.createTempFile("creative-mapped", ".zip");
+        try (OutputStream output = Files.newOutputStream(file)) {
+            output.write(end.array());
+        }
+        try {
+            ZipException e = Assertions.assertThrows(ZipException.class, () -> FileTreeReader.mappedZip(file));
+            Assertions.assertInstanceOf(IndexOutOfBoundsException.class, e.getCause());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // still mapped on some platforms
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test that entry names out of the file bounds are rejected")
+    void test_name_out_of_bounds() throws IOException {
+        // a central directory header whose name goes past the end of the file
+        ByteBuffer zip = ByteBuffer.allocate(46 + 22).order(ByteOrder.LITTLE_ENDIAN);
+        zip.putInt(0x02014b50);
+        zip.position(28);
+        zip.putShort((short) 100); // name length
+        zip.position(46);
+        zip.putInt(0x06054b50);
+        zip.putShort((short) 0); // number of this disk
+        zip.putShort((short) 0); // disk where central directory starts
+        zip.putShort((short) 1); // number of entries on this disk
+        zip.putShort((short) 1); // total number of entries
+        zip.putInt(46); // central directory size
+        zip.putInt(0); // central directory offset
+        zip.putShort((short) 0); // comment length
+
+        Path file = Files.createTempFile("creative-mapped", ".zip");
+        try (OutputStream output = Files.newOutputStream(file)) {
+            output.write(zip.array());
+        }
+        try {
+            Assertions.assertThrows(ZipException.class, () -> FileTreeReader.mappedZip(file));
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // still mapped on some platforms
+            }
+        }
+    }
+}
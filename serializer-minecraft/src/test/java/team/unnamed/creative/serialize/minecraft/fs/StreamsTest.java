@@ -0,0 +1,64 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.serialize.minecraft.fs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+class StreamsTest {
+
+    @Test
+    @DisplayName("Test that a wrong size hint doesn't allocate the hinted size")
+    void test_read_fully_wrong_hint() throws IOException {
+        byte[] data = new byte[1024];
+        new Random(1).nextBytes(data);
+
+        // would need ~2 GB if the hint was trusted
+        ByteBuffer buffer = Streams.readFully(new ByteArrayInputStream(data), Integer.MAX_VALUE - 16);
+        Assertions.assertArrayEquals(data, toArray(buffer));
+    }
+
+    @Test
+    @DisplayName("Test that entries bigger than the initial buffer are fully read")
+    void test_read_fully_big_entry() throws IOException {
+        byte[] data = new byte[3 * 1024 * 1024 + 7];
+        new Random(2).nextBytes(data);
+
+        Assertions.assertArrayEquals(data, toArray(Streams.readFully(new ByteArrayInputStream(data), data.length)));
+        Assertions.assertArrayEquals(data, toArray(Streams.readFully(new ByteArrayInputStream(data), -1)));
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+}
@@ -23,13 +23,17 @@
  */
 package team.unnamed.creative.serialize.minecraft.lang;
 
+import com.google.gson.stream.JsonReader;
 import net.kyori.adventure.key.Key;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import team.unnamed.creative.base.Readable;
 import team.unnamed.creative.lang.Language;
+import team.unnamed.creative.serialize.minecraft.GsonUtil;
 import team.unnamed.creative.serialize.minecraft.language.LanguageSerializer;
 
+import java.io.StringReader;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class LanguageSerializationTest {
@@ -65,4 +69,24 @@ class LanguageSerializationTest {
         assertEquals("Copy to Clipboard", language.translation("chat.copy"));
     }
 
+    @Test
+    @DisplayName("Test streaming Language JSON Deserialization equals tree deserialization")
+    void test_streaming_deserialization() throws Exception {
+        Key key = Key.key("minecraft", "en_us");
+        Readable readable = Readable.resource(LanguageSerializationTest.class.getClassLoader(), "en_us_lang.json");
+        Language fromTree = LanguageSerializer.INSTANCE.deserializeFromJson(
+                GsonUtil.parseString(readable.readAsUTF8String()),
+                key
+        );
+        Language streamed = LanguageSerializer.INSTANCE.deserializeFromJson(
+                new JsonReader(new StringReader(readable.readAsUTF8String())),
+                key
+        );
+        assertEquals(fromTree, streamed);
+        assertEquals(
+                LanguageSerializer.INSTANCE.deserializeFromJsonString("{\"a\":\"x\",\"b\":1,\"c\":{},\"a\":\"y\",\"d\":true}", key),
+                LanguageSerializer.INSTANCE.deserializeFromJson(new JsonReader(new StringReader("{\"a\":\"x\",\"b\":1,\"c\":{},\"a\":\"y\",\"d\":true}")), key)
+        );
+    }
+
 }
@@ -23,6 +23,7 @@
  */
 package team.unnamed.creative.serialize.minecraft.model;
 
+import com.google.gson.stream.JsonReader;
 import net.kyori.adventure.key.Key;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,8 +37,10 @@ import team.unnamed.creative.model.ElementRotation;
 import team.unnamed.creative.model.Model;
 import team.unnamed.creative.model.ModelTexture;
 import team.unnamed.creative.model.ModelTextures;
+import team.unnamed.creative.serialize.minecraft.GsonUtil;
 import team.unnamed.creative.texture.TextureUV;
 
+import java.io.StringReader;
 import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -122,4 +125,16 @@ class ModelDeserializationTest {
         );
     }
 
+    @Test
+    @DisplayName("Test streaming model deserialization equals tree deserialization")
+    void test_streaming_deserialization() throws Exception {
+        for (String name : new String[] { "cross", "cube", "cube_all", "door_top_left_open" }) {
+            Key key = Key.key("block/" + name);
+            String json = Readable.resource(getClass().getClassLoader(), "model/" + name + ".json").readAsUTF8String();
+            Model fromTree = ModelSerializer.INSTANCE.deserializeFromJson(GsonUtil.parseString(json), key);
+            Model streamed = ModelSerializer.INSTANCE.deserializeFromJson(new JsonReader(new StringReader(json)), key);
+            assertEquals(fromTree, streamed, "Model '" + name + "' must be the same");
+        }
+    }
+
 }
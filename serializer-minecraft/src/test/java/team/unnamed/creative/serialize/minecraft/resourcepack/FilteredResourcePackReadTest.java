@@ -0,0 +1,167 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.serialize.minecraft.resourcepack;
+
+import net.kyori.adventure.key.Key;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.ResourcePack;
+import team.unnamed.creative.overlay.Overlay;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackReader;
+import team.unnamed.creative.serialize.minecraft.ResourceFilter;
+import team.unnamed.creative.serialize.minecraft.fs.FileTreeReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FilteredResourcePackReadTest {
+    @Test
+    void test_category_filter() {
+        final ResourcePack resourcePack = read(ResourceFilter.categories("font", "lang"));
+        assertNotNull(resourcePack.packMeta(), "pack.mcmeta must always be read");
+        assertEquals(2, resourcePack.fonts().size());
+        assertEquals(1, resourcePack.languages().size());
+        assertTrue(resourcePack.models().isEmpty());
+        assertTrue(resourcePack.textures().isEmpty());
+        assertNull(resourcePack.soundRegistry("test"));
+        assertNull(resourcePack.icon());
+        assertTrue(resourcePack.unknownFiles().isEmpty());
+
+        final Overlay overlay = resourcePack.overlay("overlay_a");
+        assertNotNull(overlay);
+        assertEquals(1, overlay.fonts().size());
+    }
+
+    @Test
+    void test_category_filter_uses_pack_format_folders() {
+        // pack format 34 keeps equipment in models/equipment
+        final ResourcePack equipment = read(ResourceFilter.categories("equipment"));
+        assertEquals(1, equipment.equipment().size());
+        assertNotNull(equipment.equipment(Key.key("test", "diamond")));
+        assertTrue(equipment.models().isEmpty());
+
+        final ResourcePack models = read(ResourceFilter.categories("models"));
+        assertEquals(1, models.models().size());
+        assertTrue(models.equipment().isEmpty());
+        assertTrue(models.unknownFiles().isEmpty());
+    }
+
+    @Test
+    void test_namespace_and_root_filter() {
+        final ResourcePack resourcePack = read(ResourceFilter.namespaces("other").and(ResourceFilter.root()));
+        assertEquals(1, resourcePack.fonts().size());
+        assertNotNull(resourcePack.font(Key.key("other", "default")));
+        assertTrue(resourcePack.models().isEmpty());
+        assertTrue(resourcePack.overlays().isEmpty());
+    }
+
+    @Test
+    void test_overlay_and_path_filter() {
+        final ResourcePack resourcePack = read(ResourceFilter.overlays("overlay_a")
+                .or(ResourceFilter.paths(path -> path.endsWith(".png"))));
+        assertNotNull(resourcePack.icon());
+        assertEquals(1, resourcePack.textures().size());
+        assertTrue(resourcePack.fonts().isEmpty());
+        assertNotNull(resourcePack.overlay("overlay_a"));
+    }
+
+    private static ResourcePack read(final @NotNull ResourceFilter filter) {
+        final Map<String, String> files = new LinkedHashMap<>();
+        files.put("pack.mcmeta", "{\"pack\":{\"pack_format\":34,\"description\":\"Filter\"}}");
+        files.put("pack.png", "icon");
+        files.put("credits.txt", "credits");
+        files.put("assets/test/models/item/sword.json", "{\"parent\":\"minecraft:item/generated\"}");
+        files.put("assets/test/models/equipment/diamond.json", "{\"layers\":{}}");
+        files.put("assets/test/textures/item/sword.png", "texture");
+        files.put("assets/test/sounds.json", "{}");
+        files.put("assets/test/lang/en_us.json", "{\"item.test.sword\":\"Sword\"}");
+        files.put("assets/test/font/default.json", "{\"providers\":[]}");
+        files.put("assets/other/font/default.json", "{\"providers\":[]}");
+        files.put("overlays/overlay_a/assets/test/font/default.json", "{\"providers\":[]}");
+        return MinecraftResourcePackReader.builder()
+                .filter(filter)
+                .build()
+                .read(new CheckingFileTreeReader(files, filter));
+    }
+
+    /**
+     * In-memory file tree reader that fails when the content
+     * of an entry that is filtered out is read
+     */
+    private static final class CheckingFileTreeReader implements FileTreeReader {
+        private final Map<String, String> files;
+        private final Iterator<String> paths;
+        private final ResourceFilter filter;
+        private String current;
+
+        CheckingFileTreeReader(final @NotNull Map<String, String> files, final @NotNull ResourceFilter filter) {
+            this.files = files;
+            this.paths = files.keySet().iterator();
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return paths.hasNext();
+        }
+
+        @Override
+        public @NotNull String next() {
+            return current = paths.next();
+        }
+
+        @Override
+        public @NotNull InputStream stream() {
+            if (!current.equals("pack.mcmeta")) {
+                final String[] sections = current.split("/");
+                final boolean overlay = sections[0].equals("overlays");
+                final int index = overlay ? 2 : 0;
+                final String namespace = sections.length - index > 2 ? sections[index + 1] : null;
+                String category = sections.length - index > 3 ? sections[index + 2] : null;
+                if ("models".equals(category) && sections.length - index > 4 && sections[index + 3].equals("equipment")) {
+                    // pack format 34 keeps equipment in models/equipment
+                    category = "equipment";
+                }
+                assertTrue(
+                        filter.test(overlay ? sections[1] : null, namespace, category, current),
+                        "Read the content of a filtered out entry: " + current
+                );
+            }
+            return new ByteArrayInputStream(files.get(current).getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.serialize.minecraft.resourcepack;
+
+import net.kyori.adventure.key.Key;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.ResourcePack;
+import team.unnamed.creative.base.Writable;
+import team.unnamed.creative.lang.Language;
+import team.unnamed.creative.model.Model;
+import team.unnamed.creative.model.ModelTexture;
+import team.unnamed.creative.model.ModelTextures;
+import team.unnamed.creative.overlay.Overlay;
+import team.unnamed.creative.serialize.minecraft.IncrementalResourcePackBuilder;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackReader;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackWriter;
+import team.unnamed.creative.texture.Texture;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class IncrementalResourcePackBuilderTest {
+    @Test
+    void test_rebuild_after_change() throws IOException {
+        final ResourcePack resourcePack = ResourcePack.resourcePack();
+        populate(resourcePack);
+
+        final IncrementalResourcePackBuilder builder = MinecraftResourcePackWriter.minecraft().incremental();
+        final BuiltResourcePack first = builder.build(resourcePack);
+        final int entryCount = builder.cachedEntryCount();
+
+        // nothing changed, must be the exact same output
+        final BuiltResourcePack unchanged = builder.build(resourcePack);
+        assertEquals(first.hash(), unchanged.hash());
+        assertArrayEquals(first.data().toByteArray(), unchanged.data().toByteArray());
+
+        // change a single model
+        resourcePack.model(Model.model()
+                .key(Key.key("test", "item/model_42"))
+                .parent(Model.ITEM_HANDHELD)
+                .build());
+        final BuiltResourcePack changed = builder.build(resourcePack);
+        assertNotEquals(first.hash(), changed.hash());
+        assertEquals(entryCount, builder.cachedEntryCount());
+
+        // output must be the same as a build from scratch
+        final BuiltResourcePack fresh = MinecraftResourcePackWriter.minecraft().incremental().build(resourcePack);
+        assertEquals(fresh.hash(), changed.hash());
+        assertArrayEquals(fresh.data().toByteArray(), changed.data().toByteArray());
+
+        // removed resources are evicted
+        resourcePack.removeModel(Key.key("test", "item/model_0"));
+        builder.build(resourcePack);
+        assertEquals(entryCount - 1, builder.cachedEntryCount());
+
+        builder.clear();
+        assertEquals(0, builder.cachedEntryCount());
+    }
+
+    @Test
+    void test_rebuild_with_parallel_writer() throws IOException {
+        final ResourcePack resourcePack = ResourcePack.resourcePack();
+        populate(resourcePack);
+
+        final MinecraftResourcePackWriter writer = MinecraftResourcePackWriter.builder()
+                .parallelism(4)
+                .build();
+        final IncrementalResourcePackBuilder builder = writer.incremental();
+        final BuiltResourcePack first = builder.build(resourcePack);
+        assertEquals(0, builder.reusedEntryCount());
+
+        // every entry must be reused
+        final BuiltResourcePack unchanged = builder.build(resourcePack);
+        assertEquals(builder.cachedEntryCount(), builder.reusedEntryCount());
+        assertEquals(first.hash(), unchanged.hash());
+
+        // output must be the same as a sequential build
+        final BuiltResourcePack sequential = MinecraftResourcePackWriter.minecraft().incremental().build(resourcePack);
+        assertEquals(sequential.hash(), unchanged.hash());
+    }
+
+    @Test
+    void test_rebuild_compares_file_data(final @TempDir Path tempDir) throws IOException {
+        final ResourcePack resourcePack = ResourcePack.resourcePack();
+        populate(resourcePack);
+
+        final Path credits = tempDir.resolve("credits.txt");
+        Files.write(credits, "credits".getBytes(StandardCharsets.UTF_8));
+        resourcePack.unknownFile("credits.txt", Writable.path(credits));
+
+        final IncrementalResourcePackBuilder builder = MinecraftResourcePackWriter.minecraft().incremental();
+        final BuiltResourcePack first = builder.build(resourcePack);
+        final int entryCount = builder.cachedEntryCount();
+
+        // same data from different instances (e.g. the pack was read again)
+        resourcePack.icon(Writable.stringUtf8("icon"));
+        final BuiltResourcePack unchanged = builder.build(resourcePack);
+        assertEquals(entryCount, builder.reusedEntryCount());
+        assertEquals(first.hash(), unchanged.hash());
+
+        // same instance, different data
+        Files.write(credits, "new credits".getBytes(StandardCharsets.UTF_8));
+        final BuiltResourcePack changed = builder.build(resourcePack);
+        assertEquals(entryCount - 1, builder.reusedEntryCount());
+        assertNotEquals(first.hash(), changed.hash());
+
+        final BuiltResourcePack fresh = MinecraftResourcePackWriter.minecraft().incremental().build(resourcePack);
+        assertEquals(fresh.hash(), changed.hash());
+    }
+
+    @Test
+    void test_output_is_readable(final @TempDir Path tempDir) throws IOException {
+        final ResourcePack resourcePack = ResourcePack.resourcePack();
+        populate(resourcePack);
+
+        final BuiltResourcePack built = MinecraftResourcePackWriter.minecraft().incremental().build(resourcePack);
+        final byte[] bytes = built.data().toByteArray();
+
+        // read using the local file headers
+        final ResourcePack fromStream = MinecraftResourcePackReader.minecraft()
+                .readFromInputStream(new ByteArrayInputStream(bytes));
+
+        // read using the central directory
+        final Path file = tempDir.resolve("pack.zip");
+        Files.write(file, bytes);
+        final ResourcePack fromFile = MinecraftResourcePackReader.minecraft().readFromZipFile(file);
+
+        final String expected = MinecraftResourcePackWriter.minecraft().build(resourcePack).hash();
+        assertEquals(expected, MinecraftResourcePackWriter.minecraft().build(fromStream).hash());
+        assertEquals(expected, MinecraftResourcePackWriter.minecraft().build(fromFile).hash());
+    }
+
+    private static void populate(final ResourcePack resourcePack) {
+        resourcePack.packMeta(34, "Incremental build test");
+        resourcePack.icon(Writable.stringUtf8("icon"));
+
+        for (int i = 0; i < 100; i++) {
+            resourcePack.model(Model.model()
+                    .key(Key.key("test", "item/model_" + i))
+                    .parent(Model.ITEM_GENERATED)
+                    .textures(ModelTextures.builder()
+                            .layers(ModelTexture.ofKey(Key.key("test", "item/texture_" + i)))
+                            .build())
+                    .build());
+            resourcePack.texture(Texture.texture(
+                    Key.key("test", "item/texture_" + i + ".png"),
+                    Writable.stringUtf8("texture " + i)
+            ));
+        }
+
+        resourcePack.language(Language.language(
+                Key.key("test", "en_us"),
+                Collections.singletonMap("item.test.model", "Model")
+        ));
+
+        final Overlay overlay = Overlay.overlay("overlay_a");
+        overlay.model(Model.model()
+                .key(Key.key("test", "item/model_0"))
+                .parent(Model.ITEM_HANDHELD)
+                .build());
+        resourcePack.overlay(overlay);
+        resourcePack.unknownFile("credits.txt", Writable.stringUtf8("credits"));
+    }
+}
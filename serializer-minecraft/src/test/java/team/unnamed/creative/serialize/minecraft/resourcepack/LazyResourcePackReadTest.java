@@ -0,0 +1,105 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.serialize.minecraft.resourcepack;
+
+import net.kyori.adventure.key.Key;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.ResourcePack;
+import team.unnamed.creative.model.Model;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackReader;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyResourcePackReadTest {
+    private static final MinecraftResourcePackReader LAZY_READER = MinecraftResourcePackReader.builder()
+            .lazy(true)
+            .build();
+
+    @Test
+    void test_lazy_read_equals_eager_read() throws IOException {
+        final File directory = new File("src/test/resources/with-overlays");
+        final ResourcePack eager = MinecraftResourcePackReader.minecraft().readFromDirectory(directory);
+        final ResourcePack lazy = LAZY_READER.readFromDirectory(directory);
+        assertArrayEquals(build(eager), build(lazy));
+    }
+
+    @Test
+    void test_lazy_read_deserializes_on_access() throws IOException {
+        final byte[] zip = zip(
+                "pack.mcmeta", "{\"pack\":{\"pack_format\":34,\"description\":\"Lazy\"}}",
+                "assets/test/models/good.json", "{\"parent\":\"minecraft:item/generated\"}",
+                "assets/test/models/bad.json", "{\"parent\":"
+        );
+
+        // malformed resources don't fail the read operation
+        final ResourcePack resourcePack = LAZY_READER.readFromInputStream(new ByteArrayInputStream(zip));
+        assertEquals(2, resourcePack.models().size());
+
+        final Model good = resourcePack.model(Key.key("test", "good"));
+        assertNotNull(good);
+        assertEquals(Model.ITEM_GENERATED, good.parent());
+        assertSame(good, resourcePack.model(Key.key("test", "good")), "Deserialized model must be kept");
+
+        // but they fail when requested, every time
+        assertThrows(RuntimeException.class, () -> resourcePack.model(Key.key("test", "bad")));
+        assertThrows(RuntimeException.class, () -> resourcePack.model(Key.key("test", "bad")));
+
+        // removing doesn't need a valid resource
+        resourcePack.removeModel(Key.key("test", "bad"));
+        assertEquals(1, resourcePack.models().size());
+        assertTrue(resourcePack.models().contains(good));
+    }
+
+    private static byte[] build(final ResourcePack resourcePack) throws IOException {
+        final BuiltResourcePack built = MinecraftResourcePackWriter.minecraft().build(resourcePack);
+        return built.data().toByteArray();
+    }
+
+    private static byte[] zip(final String... pathsAndContents) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(output)) {
+            for (int i = 0; i < pathsAndContents.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(pathsAndContents[i]));
+                zip.write(pathsAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.serialize.minecraft.resourcepack;
+
+import net.kyori.adventure.key.Key;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.ResourcePack;
+import team.unnamed.creative.base.Writable;
+import team.unnamed.creative.font.FontProvider;
+import team.unnamed.creative.lang.Language;
+import team.unnamed.creative.model.Model;
+import team.unnamed.creative.model.ModelTexture;
+import team.unnamed.creative.model.ModelTextures;
+import team.unnamed.creative.overlay.Overlay;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackReader;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackWriter;
+import team.unnamed.creative.serialize.minecraft.fs.FileTreeReader;
+import team.unnamed.creative.sound.Sound;
+import team.unnamed.creative.texture.Texture;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ParallelResourcePackReadTest {
+    @Test
+    void test_parallel_read_equals_sequential_read() throws IOException {
+        final byte[] zip = MinecraftResourcePackWriter.minecraft().build(ParallelResourcePackReadTest::populate).data().toByteArray();
+
+        final ResourcePack sequential = MinecraftResourcePackReader.minecraft().readFromInputStream(new ByteArrayInputStream(zip));
+        final ResourcePack parallel = MinecraftResourcePackReader.builder()
+                .parallelism(4)
+                .build()
+                .readFromInputStream(new ByteArrayInputStream(zip));
+
+        assertEquals(500, parallel.models().size());
+        assertArrayEquals(build(sequential), build(parallel));
+    }
+
+    @Test
+    void test_parallel_read_with_executor_equals_sequential_read() throws IOException {
+        final File directory = new File("src/test/resources/with-overlays");
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final ResourcePack sequential = MinecraftResourcePackReader.minecraft().readFromDirectory(directory);
+            final ResourcePack parallel = MinecraftResourcePackReader.builder()
+                    .executor(executor)
+                    .build()
+                    .readFromDirectory(directory);
+            assertArrayEquals(build(sequential), build(parallel));
+        } finally {
+            executor.shutdown();
+        }
+
+        final byte[] zip = MinecraftResourcePackWriter.minecraft().build(ParallelResourcePackReadTest::populate).data().toByteArray();
+        final ExecutorService otherExecutor = Executors.newWorkStealingPool(2);
+        try (FileTreeReader reader = FileTreeReader.zip(new ZipInputStream(new ByteArrayInputStream(zip), StandardCharsets.UTF_8))) {
+            final ResourcePack parallel = MinecraftResourcePackReader.builder()
+                    .executor(otherExecutor)
+                    .build()
+                    .read(reader);
+            assertArrayEquals(zip, build(parallel));
+        } finally {
+            otherExecutor.shutdown();
+        }
+    }
+
+    private static byte[] build(final ResourcePack resourcePack) throws IOException {
+        final BuiltResourcePack built = MinecraftResourcePackWriter.minecraft().build(resourcePack);
+        return built.data().toByteArray();
+    }
+
+    private static void populate(final ResourcePack resourcePack) {
+        resourcePack.packMeta(34, "Parallel read test");
+        resourcePack.icon(Writable.stringUtf8("icon"));
+
+        for (int i = 0; i < 500; i++) {
+            resourcePack.model(Model.model()
+                    .key(Key.key("test", "item/model_" + i))
+                    .parent(Model.ITEM_GENERATED)
+                    .textures(ModelTextures.builder()
+                            .layers(ModelTexture.ofKey(Key.key("test", "item/texture_" + i)))
+                            .build())
+                    .build());
+            resourcePack.texture(Texture.texture(Key.key("test", "item/texture_" + i + ".png"), Writable.stringUtf8("texture " + i)));
+        }
+
+        for (int i = 0; i < 20; i++) {
+            final Map<String, String> translations = new LinkedHashMap<>();
+            for (int j = 0; j < 50; j++) {
+                translations.put("item.test.model_" + j, "Model #" + j + " (" + i + ")");
+            }
+            resourcePack.language(Language.language(Key.key("test", "lang_" + i), translations));
+            resourcePack.font(Key.key("test", "font_" + i), FontProvider.space().advance("a", i).build());
+            resourcePack.sound(Sound.sound(Key.key("test", "sound_" + i + ".ogg"), Writable.stringUtf8("sound " + i)));
+        }
+
+        final Overlay overlay = Overlay.overlay("overlay_a");
+        overlay.model(Model.model()
+                .key(Key.key("test", "item/model_0"))
+                .parent(Model.ITEM_HANDHELD)
+                .build());
+        overlay.unknownFile("readme.txt", Writable.stringUtf8("overlay file"));
+        resourcePack.overlay(overlay);
+        resourcePack.unknownFile("credits.txt", Writable.stringUtf8(String.join("\n", Collections.nCopies(10, "credits"))));
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.serialize.minecraft.resourcepack;
+
+import net.kyori.adventure.key.Key;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.FileBuiltResourcePack;
+import team.unnamed.creative.ResourcePack;
+import team.unnamed.creative.base.Writable;
+import team.unnamed.creative.font.FontProvider;
+import team.unnamed.creative.lang.Language;
+import team.unnamed.creative.metadata.Metadata;
+import team.unnamed.creative.metadata.animation.AnimationMeta;
+import team.unnamed.creative.model.Model;
+import team.unnamed.creative.model.ModelTexture;
+import team.unnamed.creative.model.ModelTextures;
+import team.unnamed.creative.overlay.Overlay;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackReader;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackWriter;
+import team.unnamed.creative.serialize.minecraft.fs.FileTreeReader;
+import team.unnamed.creative.serialize.minecraft.fs.ZipEntryLifecycleHandler;
+import team.unnamed.creative.sound.Sound;
+import team.unnamed.creative.sound.SoundEntry;
+import team.unnamed.creative.sound.SoundEvent;
+import team.unnamed.creative.texture.Texture;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ParallelResourcePackWriteTest {
+    @Test
+    void test_parallel_build_equals_sequential_build() throws IOException {
+        final ResourcePack resourcePack = ResourcePack.resourcePack();
+        populate(resourcePack);
+
+        final BuiltResourcePack sequential = MinecraftResourcePackWriter.minecraft().build(resourcePack);
+        final BuiltResourcePack parallel = MinecraftResourcePackWriter.builder()
+                .parallelism(4)
+                .build()
+                .build(resourcePack);
+
+        // entries are compressed independently, so the archive is the
+        // one built incrementally, and it has the same contents
+        assertEquals(MinecraftResourcePackWriter.minecraft().incremental().build(resourcePack).hash(), parallel.hash());
+        assertArrayEquals(rebuild(sequential.data().toByteArray()), rebuild(parallel.data().toByteArray()));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final MinecraftResourcePackWriter prettySequential = MinecraftResourcePackWriter.builder()
+                    .prettyPrinting(true)
+                    .build();
+            final BuiltResourcePack prettyParallel = MinecraftResourcePackWriter.builder()
+                    .prettyPrinting(true)
+                    .executor(executor)
+                    .build()
+                    .build(resourcePack);
+            assertEquals(prettySequential.incremental().build(resourcePack).hash(), prettyParallel.hash());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void test_parallel_build_to_file(final @TempDir Path tempDir) throws IOException {
+        final ResourcePack resourcePack = ResourcePack.resourcePack();
+        populate(resourcePack);
+
+        final MinecraftResourcePackWriter writer = MinecraftResourcePackWriter.builder()
+                .parallelism(4)
+                .build();
+        final Path file = tempDir.resolve("pack.zip");
+        final FileBuiltResourcePack built = writer.buildToFile(file, resourcePack);
+        assertEquals(writer.build(resourcePack).hash(), built.hash());
+
+        final ResourcePack read = MinecraftResourcePackReader.minecraft().readFromZipFile(file);
+        assertArrayEquals(
+                rebuild(MinecraftResourcePackWriter.minecraft().build(resourcePack).data().toByteArray()),
+                MinecraftResourcePackWriter.minecraft().build(read).data().toByteArray()
+        );
+    }
+
+    @Test
+    void test_parallel_build_with_custom_zip_entries_equals_sequential_build() throws IOException {
+        final ResourcePack resourcePack = ResourcePack.resourcePack();
+        populate(resourcePack);
+
+        final ZipEntryLifecycleHandler handler = new ZipEntryLifecycleHandler() {
+            @Override
+            public ZipEntry create(final String path) {
+                final ZipEntry entry = ZipEntryLifecycleHandler.super.create(path);
+                entry.setTime(0L);
+                entry.setComment("custom");
+                return entry;
+            }
+        };
+        final BuiltResourcePack sequential = MinecraftResourcePackWriter.builder()
+                .zipEntryLifecycleHandler(handler)
+                .build()
+                .build(resourcePack);
+        final BuiltResourcePack parallel = MinecraftResourcePackWriter.builder()
+                .zipEntryLifecycleHandler(handler)
+                .parallelism(4)
+                .build()
+                .build(resourcePack);
+
+        // custom entries need a ZipOutputStream, so only serialization is parallel
+        assertEquals(sequential.hash(), parallel.hash());
+    }
+
+    private static byte[] rebuild(final byte[] zip) throws IOException {
+        try (FileTreeReader reader = FileTreeReader.zip(new ZipInputStream(new ByteArrayInputStream(zip), StandardCharsets.UTF_8))) {
+            final ResourcePack read = MinecraftResourcePackReader.minecraft().read(reader);
+            return MinecraftResourcePackWriter.minecraft().build(read).data().toByteArray();
+        }
+    }
+
+    private static void populate(final ResourcePack resourcePack) {
+        resourcePack.packMeta(34, "Parallel write test");
+        resourcePack.icon(Writable.stringUtf8("icon"));
+
+        for (int i = 0; i < 1000; i++) {
+            resourcePack.model(Model.model()
+                    .key(Key.key("test", "item/model_" + i))
+                    .parent(Model.ITEM_GENERATED)
+                    .textures(ModelTextures.builder()
+                            .layers(ModelTexture.ofKey(Key.key("test", "item/texture_" + i)))
+                            .build())
+                    .build());
+            resourcePack.texture(Texture.texture(
+                    Key.key("test", "item/texture_" + i + ".png"),
+                    Writable.stringUtf8("texture " + i),
+                    i % 10 == 0
+                            ? Metadata.metadata().addPart(AnimationMeta.animation().frameTime(i).build()).build()
+                            : Metadata.empty()
+            ));
+        }
+
+        for (int i = 0; i < 20; i++) {
+            resourcePack.language(Language.language(
+                    Key.key("test", "lang_" + i),
+                    Collections.singletonMap("item.test.model", "Model " + i)
+            ));
+            resourcePack.font(Key.key("test", "font_" + i), FontProvider.space().advance("a", i).build());
+            resourcePack.sound(Sound.sound(Key.key("test", "sound_" + i + ".ogg"), Writable.stringUtf8("sound " + i)));
+            resourcePack.soundEvent(SoundEvent.soundEvent()
+                    .key(Key.key("test", "event_" + i))
+                    .sounds(SoundEntry.soundEntry().key(Key.key("test", "sound_" + i)).build())
+                    .build());
+        }
+
+        final Overlay overlay = Overlay.overlay("overlay_a");
+        overlay.model(Model.model()
+                .key(Key.key("test", "item/model_0"))
+                .parent(Model.ITEM_HANDHELD)
+                .build());
+        resourcePack.overlay(overlay);
+        resourcePack.unknownFile("credits.txt", Writable.stringUtf8("credits"));
+    }
+}
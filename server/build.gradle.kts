@@ -4,7 +4,27 @@ plugins {
 
 description = "An standalone resource-pack server for the creative API"
 
+// classes only loaded on Java 21+, packaged as a multi-release jar
+val java21: SourceSet by sourceSets.creating
+
 dependencies {
     api(project(":creative-api"))
+    "java21CompileOnly"("org.jetbrains:annotations:26.0.2")
     testImplementation(project(":creative-serializer-minecraft"))
-}
\ No newline at end of file
+}
+
+tasks {
+    named<JavaCompile>(java21.compileJavaTaskName) {
+        javaCompiler.set(project.javaToolchains.compilerFor {
+            languageVersion.set(JavaLanguageVersion.of(21))
+        })
+    }
+    jar {
+        into("META-INF/versions/21") {
+            from(java21.output)
+        }
+        manifest {
+            attributes("Multi-Release" to "true")
+        }
+    }
+}
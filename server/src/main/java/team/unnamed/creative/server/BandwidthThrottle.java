@@ -0,0 +1,212 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Limits the bandwidth used by a {@link ResourcePackServer} to send
+ * responses, see {@link ResourcePackServer.Builder#throttle(BandwidthThrottle)}.
+ *
+ * <p>There can be a global limit, shared by all the downloads, and a
+ * per-connection limit. The global bandwidth is fairly distributed
+ * between the active downloads: they take turns to send small chunks
+ * of data.</p>
+ *
+ * <p>This object also exposes some metrics, like the number of active
+ * and queued (waiting for global bandwidth) transfers.</p>
+ *
+ * @since 1.8.2
+ */
+public final class BandwidthThrottle {
+    private final @Nullable TokenBucket global;
+    private final long perConnectionBytesPerSecond;
+
+    private final AtomicInteger activeTransfers = new AtomicInteger();
+    private final AtomicInteger queuedTransfers = new AtomicInteger();
+    private final LongAdder bytesSent = new LongAdder();
+
+    private BandwidthThrottle(final long globalBytesPerSecond, final long perConnectionBytesPerSecond) {
+        this.global = globalBytesPerSecond > 0 ? new TokenBucket(globalBytesPerSecond) : null;
+        this.perConnectionBytesPerSecond = Math.max(0, perConnectionBytesPerSecond);
+    }
+
+    /**
+     * Creates a new bandwidth throttle.
+     *
+     * @param globalBytesPerSecond        The maximum bytes per second sent by
+     *                                    the server, zero or less means unlimited
+     * @param perConnectionBytesPerSecond The maximum bytes per second sent to a
+     *                                    single client, zero or less means unlimited
+     * @return The created bandwidth throttle
+     * @since 1.8.2
+     */
+    public static @NotNull BandwidthThrottle throttle(final long globalBytesPerSecond, final long perConnectionBytesPerSecond) {
+        return new BandwidthThrottle(globalBytesPerSecond, perConnectionBytesPerSecond);
+    }
+
+    /**
+     * Returns the global bandwidth limit.
+     *
+     * @return The maximum bytes per second sent by the server, zero if unlimited
+     * @since 1.8.2
+     */
+    public long globalBytesPerSecond() {
+        return global == null ? 0 : global.bytesPerSecond();
+    }
+
+    /**
+     * Returns the per-connection bandwidth limit.
+     *
+     * @return The maximum bytes per second sent to a client, zero if unlimited
+     * @since 1.8.2
+     */
+    public long perConnectionBytesPerSecond() {
+        return perConnectionBytesPerSecond;
+    }
+
+    /**
+     * Returns the number of responses being currently sent.
+     *
+     * @return The number of active transfers
+     * @since 1.8.2
+     */
+    public int activeTransfers() {
+        return activeTransfers.get();
+    }
+
+    /**
+     * Returns the number of active transfers that are currently
+     * waiting for their turn to use the global bandwidth.
+     *
+     * @return The number of queued transfers
+     * @since 1.8.2
+     */
+    public int queuedTransfers() {
+        return queuedTransfers.get();
+    }
+
+    /**
+     * Returns the total number of response bytes sent through
+     * this throttle.
+     *
+     * @return The total sent bytes
+     * @since 1.8.2
+     */
+    public long bytesSent() {
+        return bytesSent.sum();
+    }
+
+    /**
+     * Starts a transfer, wrapping the given response stream so that
+     * writes to it are throttled. {@link #finish()} must be called
+     * after the transfer ends.
+     *
+     * @param output The response stream
+     * @return The throttled response stream
+     */
+    @NotNull OutputStream start(final @NotNull OutputStream output) {
+        requireNonNull(output, "output");
+        final TokenBucket connection = perConnectionBytesPerSecond > 0 ? new TokenBucket(perConnectionBytesPerSecond) : null;
+        activeTransfers.incrementAndGet();
+        return new ThrottledOutputStream(output, connection);
+    }
+
+    /**
+     * Finishes a transfer started by {@link #start(OutputStream)}.
+     */
+    void finish() {
+        activeTransfers.decrementAndGet();
+    }
+
+    private final class ThrottledOutputStream extends FilterOutputStream {
+        private final @Nullable TokenBucket connection;
+        private final int chunkSize;
+
+        ThrottledOutputStream(final @NotNull OutputStream out, final @Nullable TokenBucket connection) {
+            super(out);
+            this.connection = connection;
+            int chunkSize = Integer.MAX_VALUE;
+            if (global != null) {
+                chunkSize = global.chunkSize();
+            }
+            if (connection != null) {
+                chunkSize = Math.min(chunkSize, connection.chunkSize());
+            }
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            acquire(1);
+            bytesSent.increment();
+            out.write(b);
+        }
+
+        @Override
+        public void write(final byte @NotNull [] b, final int off, final int len) throws IOException {
+            int offset = off;
+            int remaining = len;
+            while (remaining > 0) {
+                final int chunk = Math.min(remaining, chunkSize);
+                acquire(chunk);
+                bytesSent.add(chunk);
+                out.write(b, offset, chunk);
+                offset += chunk;
+                remaining -= chunk;
+            }
+        }
+
+        private void acquire(final int bytes) throws IOException {
+            if (connection != null) {
+                connection.acquire(bytes);
+            }
+            if (global != null) {
+                queuedTransfers.incrementAndGet();
+                try {
+                    global.acquire(bytes);
+                } finally {
+                    queuedTransfers.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "BandwidthThrottle{" +
+                "globalBytesPerSecond=" + globalBytesPerSecond() +
+                ", perConnectionBytesPerSecond=" + perConnectionBytesPerSecond +
+                '}';
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.server.request.ResourcePackDownloadRequest;
+
+/**
+ * Information about a request handled by a {@link ResourcePackServer},
+ * given to {@link ResourcePackServerListener#onRequestFinish}.
+ *
+ * @since 1.8.2
+ */
+public final class CompletedRequest {
+    private final @Nullable ResourcePackDownloadRequest request;
+    private final int statusCode;
+    private final long bytesWritten;
+    private final long durationNanos;
+    private final @Nullable String packHash;
+    private final @Nullable Throwable failure;
+
+    CompletedRequest(
+            final @Nullable ResourcePackDownloadRequest request,
+            final int statusCode,
+            final long bytesWritten,
+            final long durationNanos,
+            final @Nullable String packHash,
+            final @Nullable Throwable failure
+    ) {
+        this.request = request;
+        this.statusCode = statusCode;
+        this.bytesWritten = bytesWritten;
+        this.durationNanos = durationNanos;
+        this.packHash = packHash;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the parsed request.
+     *
+     * @return The request, null if it couldn't be parsed (not a Minecraft client)
+     * @since 1.8.2
+     */
+    public @Nullable ResourcePackDownloadRequest request() {
+        return request;
+    }
+
+    /**
+     * Returns the pack format sent by the client.
+     *
+     * @return The client pack format, -1 if the request couldn't be parsed
+     * @since 1.8.2
+     */
+    public int packFormat() {
+        return request == null ? -1 : request.packFormat();
+    }
+
+    /**
+     * Returns the HTTP response status code.
+     *
+     * @return The status code, -1 if no response was sent
+     * @since 1.8.2
+     */
+    public int statusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Returns the number of response body bytes written.
+     *
+     * @return The written bytes
+     * @since 1.8.2
+     */
+    public long bytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Returns the time it took to handle the request.
+     *
+     * @return The request duration, in nanoseconds
+     * @since 1.8.2
+     */
+    public long durationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * Returns the hash of the sent resource-pack, taken from the
+     * {@code ETag} response header (see {@link team.unnamed.creative.server.handler.ConditionalResponses}).
+     *
+     * @return The resource-pack hash, null if unknown
+     * @since 1.8.2
+     */
+    public @Nullable String packHash() {
+        return packHash;
+    }
+
+    /**
+     * Returns the exception thrown while handling the request.
+     *
+     * @return The failure, null if the request was handled successfully
+     * @since 1.8.2
+     */
+    public @Nullable Throwable failure() {
+        return failure;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "CompletedRequest{" +
+                "request=" + request +
+                ", statusCode=" + statusCode +
+                ", bytesWritten=" + bytesWritten +
+                ", durationNanos=" + durationNanos +
+                ", packHash='" + packHash + '\'' +
+                ", failure=" + failure +
+                '}';
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.server.request.ResourcePackDownloadRequest;
+
+/**
+ * Records a JFR event for every request, only loaded if
+ * {@code jdk.jfr} is available, see {@link ResourcePackServerListener#jfr()}.
+ */
+final class JfrResourcePackServerListener implements ResourcePackServerListener {
+    private static final String EVENT_ATTRIBUTE = "creative.jfr.event";
+
+    @Override
+    public void onRequestStart(final @Nullable ResourcePackDownloadRequest request, final @NotNull HttpExchange exchange) {
+        final ResourcePackDownloadEvent event = new ResourcePackDownloadEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            exchange.setAttribute(EVENT_ATTRIBUTE, event);
+        }
+    }
+
+    @Override
+    public void onRequestFinish(final @NotNull CompletedRequest completed, final @NotNull HttpExchange exchange) {
+        final Object attribute = exchange.getAttribute(EVENT_ATTRIBUTE);
+        if (!(attribute instanceof ResourcePackDownloadEvent)) {
+            return;
+        }
+        exchange.setAttribute(EVENT_ATTRIBUTE, null);
+
+        final ResourcePackDownloadEvent event = (ResourcePackDownloadEvent) attribute;
+        event.end();
+        if (event.shouldCommit()) {
+            final ResourcePackDownloadRequest request = completed.request();
+            event.valid = request != null;
+            event.username = request == null ? null : request.username();
+            event.clientVersion = request == null ? null : request.clientVersion();
+            event.packFormat = completed.packFormat();
+            event.statusCode = completed.statusCode();
+            event.bytesWritten = completed.bytesWritten();
+            event.packHash = completed.packHash();
+            event.failure = completed.failure() == null ? null : completed.failure().toString();
+            event.commit();
+        }
+    }
+
+    @Name("team.unnamed.creative.ResourcePackDownload")
+    @Label("Resource-Pack Download")
+    @Category("Creative")
+    @Description("A request handled by a creative resource-pack server")
+    static final class ResourcePackDownloadEvent extends Event {
+        @Label("Valid")
+        @Description("Whether the request was made by a Minecraft client")
+        boolean valid;
+
+        @Label("Username")
+        String username;
+
+        @Label("Client Version")
+        String clientVersion;
+
+        @Label("Pack Format")
+        int packFormat;
+
+        @Label("Status Code")
+        int statusCode;
+
+        @Label("Bytes Written")
+        @DataAmount
+        long bytesWritten;
+
+        @Label("Pack Hash")
+        String packHash;
+
+        @Label("Failure")
+        String failure;
+    }
+}
@@ -0,0 +1,513 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import com.sun.net.httpserver.Headers;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * A connection accepted by a {@link NioHttpServer}.
+ *
+ * <p>Reads and socket writes are always performed by the selector
+ * thread, handlers queue the response data using {@link #enqueue}.</p>
+ */
+final class NioHttpConnection {
+    private static final int INITIAL_READ_BUFFER_SIZE = 2 * 1024;
+    private static final int MAX_HEAD_SIZE = 16 * 1024;
+    // copied (not shared) bytes queued before handlers have to wait
+    private static final long HIGH_WATERMARK = 256 * 1024;
+    private static final int MAX_GATHERED_BUFFERS = 16;
+
+    private final NioHttpServer server;
+    private final SocketChannel channel;
+    private SelectionKey key;
+
+    // selector thread only
+    private ByteBuffer readBuffer = ByteBuffer.allocate(INITIAL_READ_BUFFER_SIZE);
+    private boolean processing;
+
+    // guarded by this
+    private final ArrayDeque<Outbound> outbound = new ArrayDeque<>();
+    private final ByteBuffer[] gathered = new ByteBuffer[MAX_GATHERED_BUFFERS];
+    private long queuedCopiedBytes;
+    private boolean responseFinished;
+    private @Nullable Runnable responseSent;
+    private boolean keepAlive;
+    private boolean writeScheduled;
+    private boolean closed;
+    private long lastActive = System.nanoTime();
+
+    NioHttpConnection(final @NotNull NioHttpServer server, final @NotNull SocketChannel channel) {
+        this.server = server;
+        this.channel = channel;
+    }
+
+    void register(final @NotNull Selector selector) throws ClosedChannelException {
+        key = channel.register(selector, SelectionKey.OP_READ, this);
+    }
+
+    @NotNull SocketChannel channel() {
+        return channel;
+    }
+
+    @NotNull NioHttpServer server() {
+        return server;
+    }
+
+    void onReadable() {
+        if (processing) {
+            // reads are disabled while processing a request
+            return;
+        }
+        final int read;
+        try {
+            read = channel.read(readBuffer);
+        } catch (final IOException e) {
+            close();
+            return;
+        }
+        if (read < 0) {
+            close();
+            return;
+        }
+        synchronized (this) {
+            lastActive = System.nanoTime();
+        }
+        processRequest();
+    }
+
+    private void processRequest() {
+        final int headEnd = findHeadEnd(readBuffer);
+        if (headEnd < 0) {
+            if (!readBuffer.hasRemaining()) {
+                if (readBuffer.capacity() >= MAX_HEAD_SIZE) {
+                    reject(431, "Request Header Fields Too Large");
+                    return;
+                }
+                final ByteBuffer grown = ByteBuffer.allocate(Math.min(readBuffer.capacity() * 2, MAX_HEAD_SIZE));
+                readBuffer.flip();
+                grown.put(readBuffer);
+                readBuffer = grown;
+            }
+            return;
+        }
+
+        final String head = new String(readBuffer.array(), 0, headEnd, StandardCharsets.ISO_8859_1);
+
+        // keep pipelined data for the next request
+        readBuffer.flip();
+        readBuffer.position(headEnd);
+        readBuffer.compact();
+
+        // request line
+        final int requestLineEnd = head.indexOf("\r\n");
+        final String[] requestLine = head.substring(0, requestLineEnd).split(" ");
+        if (requestLine.length != 3) {
+            reject(400, "Bad Request");
+            return;
+        }
+        final String method = requestLine[0];
+        final String protocol = requestLine[2];
+        if (!protocol.equals("HTTP/1.1") && !protocol.equals("HTTP/1.0")) {
+            reject(505, "HTTP Version Not Supported");
+            return;
+        }
+        final URI uri;
+        try {
+            uri = new URI(requestLine[1]);
+        } catch (final URISyntaxException e) {
+            reject(400, "Bad Request");
+            return;
+        }
+
+        // header fields, the X-Minecraft-* headers are then read by
+        // the ResourcePackServer from here
+        final Headers headers = new Headers();
+        int lineStart = requestLineEnd + 2;
+        while (lineStart < head.length() - 2) {
+            final int lineEnd = head.indexOf("\r\n", lineStart);
+            final int colon = head.indexOf(':', lineStart);
+            if (colon <= lineStart || colon > lineEnd) {
+                reject(400, "Bad Request");
+                return;
+            }
+            headers.add(head.substring(lineStart, colon).trim(), head.substring(colon + 1, lineEnd).trim());
+            lineStart = lineEnd + 2;
+        }
+
+        final String contentLength = headers.getFirst("Content-Length");
+        if (headers.containsKey("Transfer-Encoding") || (contentLength != null && !contentLength.trim().equals("0"))) {
+            // requests for resource-packs never have a body
+            reject(413, "Content Too Large");
+            return;
+        }
+
+        final String connection = headers.getFirst("Connection");
+        final boolean requestKeepAlive = protocol.equals("HTTP/1.1")
+                ? !hasToken(connection, "close")
+                : hasToken(connection, "keep-alive");
+
+        final String path = uri.getPath() == null ? "/" : uri.getPath();
+        final NioHttpServer.Context context = server.findContext(path);
+        if (context == null || context.getHandler() == null) {
+            reject(404, "Not Found");
+            return;
+        }
+
+        processing = true;
+        key.interestOps(0);
+        synchronized (this) {
+            responseFinished = false;
+            keepAlive = requestKeepAlive;
+        }
+        server.dispatch(new NioHttpExchange(this, context, method, uri, protocol, headers, requestKeepAlive));
+    }
+
+    /**
+     * Sends a bodiless error response and closes the connection.
+     */
+    private void reject(final int code, final @NotNull String reason) {
+        processing = true;
+        key.interestOps(0);
+        final byte[] response = ("HTTP/1.1 " + code + ' ' + reason + "\r\n"
+                + "Content-Length: 0\r\n"
+                + "Connection: close\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1);
+        try {
+            enqueue(Outbound.copied(ByteBuffer.wrap(response)));
+        } catch (final IOException e) {
+            return;
+        }
+        finishResponse(false, null);
+    }
+
+    /**
+     * Queues the given data to be sent. If too many copied bytes are
+     * queued, the calling thread waits until part of them is sent.
+     */
+    synchronized void enqueue(final @NotNull Outbound data) throws IOException {
+        if (closed) {
+            data.release();
+            throw new IOException("Connection closed");
+        }
+        outbound.add(data);
+        if (data.copied) {
+            queuedCopiedBytes += data.buffer.remaining();
+        }
+        scheduleWrite();
+
+        if (server.inSelectorThread()) {
+            // can't wait for ourselves
+            return;
+        }
+        try {
+            while (queuedCopiedBytes > HIGH_WATERMARK && !closed) {
+                wait();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the client", e);
+        }
+        if (closed) {
+            throw new IOException("Connection closed");
+        }
+    }
+
+    /**
+     * Marks the current response as complete, the connection is then
+     * reused or closed once the queued data is sent.
+     *
+     * @param reuse        Whether the connection can be reused
+     * @param responseSent Called by the selector thread once all the
+     *                     queued data is sent, or the connection is closed
+     */
+    synchronized void finishResponse(final boolean reuse, final @Nullable Runnable responseSent) {
+        if (closed) {
+            if (responseSent != null) {
+                responseSent.run();
+            }
+            return;
+        }
+        responseFinished = true;
+        keepAlive &= reuse;
+        this.responseSent = responseSent;
+        scheduleWrite();
+    }
+
+    private void runResponseSent() {
+        final Runnable callback = responseSent;
+        if (callback != null) {
+            responseSent = null;
+            callback.run();
+        }
+    }
+
+    /**
+     * Closes the connection as soon as possible, discarding queued data.
+     */
+    void abort() {
+        server.execute(this::close);
+    }
+
+    private void scheduleWrite() {
+        if (!writeScheduled && !closed) {
+            writeScheduled = true;
+            server.execute(this::onWritable);
+        }
+    }
+
+    synchronized void onWritable() {
+        writeScheduled = false;
+        if (closed) {
+            return;
+        }
+
+        try {
+            while (!outbound.isEmpty()) {
+                final Outbound head = outbound.peek();
+                if (head.buffer == null) {
+                    if (!transfer(head)) {
+                        break;
+                    }
+                    head.release();
+                    outbound.poll();
+                } else if (!gatherWrite()) {
+                    break;
+                }
+            }
+        } catch (final IOException e) {
+            close();
+            return;
+        }
+
+        // wake up handlers waiting to write
+        notifyAll();
+
+        if (!outbound.isEmpty()) {
+            // client is not reading fast enough, wait until it can
+            key.interestOps(SelectionKey.OP_WRITE);
+            return;
+        }
+        if (!responseFinished) {
+            key.interestOps(0);
+            return;
+        }
+
+        // everything was sent, before reading the next request
+        runResponseSent();
+
+        if (!keepAlive) {
+            close();
+            return;
+        }
+
+        // ready for the next request
+        responseFinished = false;
+        processing = false;
+        key.interestOps(SelectionKey.OP_READ);
+        if (readBuffer.position() > 0) {
+            processRequest();
+        }
+    }
+
+    /**
+     * Writes the leading buffers using a single gathering write.
+     *
+     * @return True if all of them were written
+     */
+    private boolean gatherWrite() throws IOException {
+        int count = 0;
+        for (final Outbound data : outbound) {
+            if (data.buffer == null || count == MAX_GATHERED_BUFFERS) {
+                break;
+            }
+            gathered[count++] = data.buffer;
+        }
+
+        final long written = channel.write(gathered, 0, count);
+        if (written > 0) {
+            lastActive = System.nanoTime();
+        }
+
+        boolean complete = true;
+        final Iterator<Outbound> iterator = outbound.iterator();
+        for (int i = 0; i < count; i++) {
+            final Outbound data = iterator.next();
+            gathered[i] = null;
+            if (data.buffer.hasRemaining()) {
+                complete = false;
+                continue;
+            }
+            if (complete) {
+                if (data.copied) {
+                    queuedCopiedBytes -= data.buffer.limit() - data.initialPosition;
+                }
+                iterator.remove();
+            }
+        }
+        return complete;
+    }
+
+    /**
+     * Transfers the given file region directly to the socket.
+     *
+     * @return True if the file region was completely sent
+     */
+    private boolean transfer(final @NotNull Outbound data) throws IOException {
+        if (data.file == null) {
+            data.file = FileChannel.open(data.path, StandardOpenOption.READ);
+        }
+        while (data.position < data.end) {
+            final long transferred = data.file.transferTo(data.position, data.end - data.position, channel);
+            if (transferred <= 0) {
+                if (data.position >= data.file.size()) {
+                    throw new IOException("File truncated: " + data.path);
+                }
+                return false;
+            }
+            data.position += transferred;
+            lastActive = System.nanoTime();
+        }
+        return true;
+    }
+
+    synchronized boolean isIdle(final long now, final long timeoutNanos) {
+        // a handler may take its time to respond, but clients
+        // must keep reading and sending requests
+        return (!processing || !outbound.isEmpty()) && now - lastActive > timeoutNanos;
+    }
+
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            channel.close();
+        } catch (final IOException ignored) {
+        }
+        for (final Outbound data : outbound) {
+            data.release();
+        }
+        outbound.clear();
+        queuedCopiedBytes = 0;
+        notifyAll();
+        runResponseSent();
+    }
+
+    private static int findHeadEnd(final @NotNull ByteBuffer buffer) {
+        final byte[] array = buffer.array();
+        final int limit = buffer.position();
+        for (int i = 3; i < limit; i++) {
+            if (array[i] == '\n' && array[i - 1] == '\r' && array[i - 2] == '\n' && array[i - 3] == '\r') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean hasToken(final @Nullable String value, final @NotNull String token) {
+        if (value == null) {
+            return false;
+        }
+        for (final String part : value.split(",")) {
+            if (part.trim().equalsIgnoreCase(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Data queued to be sent, either a buffer or a file region.
+     */
+    static final class Outbound {
+        private final @Nullable ByteBuffer buffer;
+        private final int initialPosition;
+        private final boolean copied;
+
+        private final @Nullable Path path;
+        private @Nullable FileChannel file;
+        private long position;
+        private final long end;
+
+        private Outbound(final @Nullable ByteBuffer buffer, final boolean copied, final @Nullable Path path, final long position, final long end) {
+            this.buffer = buffer;
+            this.initialPosition = buffer == null ? 0 : buffer.position();
+            this.copied = copied;
+            this.path = path;
+            this.position = position;
+            this.end = end;
+        }
+
+        /**
+         * Creates outbound data from a buffer owned by the connection.
+         */
+        static @NotNull Outbound copied(final @NotNull ByteBuffer buffer) {
+            return new Outbound(buffer, true, null, 0, 0);
+        }
+
+        /**
+         * Creates outbound data from a buffer that is never modified.
+         */
+        static @NotNull Outbound shared(final @NotNull ByteBuffer buffer) {
+            return new Outbound(buffer.duplicate(), false, null, 0, 0);
+        }
+
+        /**
+         * Creates outbound data from a file region.
+         */
+        static @NotNull Outbound file(final @NotNull Path path, final long position, final long count) {
+            return new Outbound(null, false, path, position, position + count);
+        }
+
+        void release() {
+            if (file != null) {
+                try {
+                    file.close();
+                } catch (final IOException ignored) {
+                }
+                file = null;
+            }
+        }
+    }
+}
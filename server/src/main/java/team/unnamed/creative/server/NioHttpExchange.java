@@ -0,0 +1,445 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpPrincipal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.server.util.ZeroCopyOutput;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A single request received by a {@link NioHttpServer}.
+ */
+final class NioHttpExchange extends HttpExchange {
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] LAST_CHUNK = {'0', '\r', '\n', '\r', '\n'};
+
+    private final NioHttpConnection connection;
+    private final HttpContext context;
+    private final String method;
+    private final URI uri;
+    private final String protocol;
+    private final Headers requestHeaders;
+    private final Headers responseHeaders = new Headers();
+    private final Map<String, Object> attributes = new HashMap<>();
+    private final ResponseBody responseBody = new ResponseBody();
+    // guarded by itself
+    private final List<Runnable> responseSentCallbacks = new ArrayList<>();
+    private boolean responseSent;
+    private boolean keepAlive;
+
+    private InputStream currentRequestBody = new ByteArrayInputStream(new byte[0]);
+    private OutputStream currentResponseBody = responseBody;
+    private int responseCode = -1;
+    private boolean finished;
+
+    NioHttpExchange(
+            final @NotNull NioHttpConnection connection,
+            final @NotNull HttpContext context,
+            final @NotNull String method,
+            final @NotNull URI uri,
+            final @NotNull String protocol,
+            final @NotNull Headers requestHeaders,
+            final boolean keepAlive
+    ) {
+        this.connection = connection;
+        this.context = context;
+        this.method = method;
+        this.uri = uri;
+        this.protocol = protocol;
+        this.requestHeaders = requestHeaders;
+        this.keepAlive = keepAlive;
+    }
+
+    @Override
+    public @NotNull Headers getRequestHeaders() {
+        return requestHeaders;
+    }
+
+    @Override
+    public @NotNull Headers getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    @Override
+    public @NotNull URI getRequestURI() {
+        return uri;
+    }
+
+    @Override
+    public @NotNull String getRequestMethod() {
+        return method;
+    }
+
+    @Override
+    public @NotNull HttpContext getHttpContext() {
+        return context;
+    }
+
+    @Override
+    public void close() {
+        try {
+            currentRequestBody.close();
+            responseBody.close();
+        } catch (final IOException ignored) {
+            // connection closed, nothing else to do
+        }
+    }
+
+    @Override
+    public @NotNull InputStream getRequestBody() {
+        return currentRequestBody;
+    }
+
+    @Override
+    public @NotNull OutputStream getResponseBody() {
+        return currentResponseBody;
+    }
+
+    @Override
+    public void sendResponseHeaders(final int rCode, final long responseLength) throws IOException {
+        if (responseCode != -1) {
+            throw new IOException("Response headers already sent");
+        }
+        responseCode = rCode;
+
+        final boolean bodiless = rCode < 200 || rCode == 204 || rCode == 304;
+        if (bodiless || "HEAD".equals(method)) {
+            if (!bodiless && responseLength > 0) {
+                responseHeaders.set("Content-Length", Long.toString(responseLength));
+            }
+            responseBody.mode = BodyMode.NONE;
+        } else if (responseLength > 0) {
+            responseHeaders.set("Content-Length", Long.toString(responseLength));
+            responseBody.mode = BodyMode.FIXED;
+            responseBody.remaining = responseLength;
+        } else if (responseLength == 0) {
+            if (protocol.equals("HTTP/1.1")) {
+                responseHeaders.set("Transfer-Encoding", "chunked");
+                responseBody.mode = BodyMode.CHUNKED;
+            } else {
+                // delimited by closing the connection
+                keepAlive = false;
+                responseBody.mode = BodyMode.UNTIL_CLOSE;
+            }
+        } else {
+            responseHeaders.set("Content-Length", "0");
+            responseBody.mode = BodyMode.NONE;
+        }
+
+        final String connectionHeader = responseHeaders.getFirst("Connection");
+        if (connectionHeader != null && connectionHeader.equalsIgnoreCase("close")) {
+            keepAlive = false;
+        }
+        if (!keepAlive) {
+            responseHeaders.set("Connection", "close");
+        } else if (protocol.equals("HTTP/1.0")) {
+            responseHeaders.set("Connection", "keep-alive");
+        }
+        if (!responseHeaders.containsKey("Date")) {
+            responseHeaders.set("Date", DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC)));
+        }
+
+        final StringBuilder head = new StringBuilder(256)
+                .append("HTTP/1.1 ").append(rCode).append(' ').append(reasonPhrase(rCode)).append("\r\n");
+        for (final Map.Entry<String, List<String>> header : responseHeaders.entrySet()) {
+            for (final String value : header.getValue()) {
+                head.append(header.getKey()).append(": ").append(value).append("\r\n");
+            }
+        }
+        head.append("\r\n");
+        connection.enqueue(NioHttpConnection.Outbound.copied(ByteBuffer.wrap(head.toString().getBytes(StandardCharsets.ISO_8859_1))));
+    }
+
+    @Override
+    public @NotNull InetSocketAddress getRemoteAddress() {
+        return (InetSocketAddress) connection.channel().socket().getRemoteSocketAddress();
+    }
+
+    @Override
+    public int getResponseCode() {
+        return responseCode;
+    }
+
+    @Override
+    public @NotNull InetSocketAddress getLocalAddress() {
+        return (InetSocketAddress) connection.channel().socket().getLocalSocketAddress();
+    }
+
+    @Override
+    public @NotNull String getProtocol() {
+        return protocol;
+    }
+
+    @Override
+    public @Nullable Object getAttribute(final @NotNull String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public void setAttribute(final @NotNull String name, final @Nullable Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void setStreams(final @Nullable InputStream i, final @Nullable OutputStream o) {
+        if (i != null) {
+            currentRequestBody = i;
+        }
+        if (o != null) {
+            currentResponseBody = o;
+        }
+    }
+
+    @Override
+    public @Nullable HttpPrincipal getPrincipal() {
+        return null;
+    }
+
+    /**
+     * Adds a callback that is called once the response has been
+     * completely sent to the client, or the connection was closed.
+     *
+     * <p>Handlers return as soon as the response data is queued, so
+     * this is the point where the exchange really finishes. Callbacks
+     * are called in the order they were added, usually by the selector
+     * thread, so they must be fast and never block. If the response
+     * was already sent, the callback is called immediately.</p>
+     *
+     * @param callback The callback
+     */
+    void onResponseSent(final @NotNull Runnable callback) {
+        synchronized (responseSentCallbacks) {
+            if (!responseSent) {
+                responseSentCallbacks.add(callback);
+                return;
+            }
+        }
+        callback.run();
+    }
+
+    private void responseSent() {
+        final List<Runnable> callbacks;
+        synchronized (responseSentCallbacks) {
+            responseSent = true;
+            callbacks = new ArrayList<>(responseSentCallbacks);
+            responseSentCallbacks.clear();
+        }
+        try {
+            for (final Runnable callback : callbacks) {
+                try {
+                    callback.run();
+                } catch (final RuntimeException ignored) {
+                    // must not break the selector thread
+                }
+            }
+        } finally {
+            connection.server().exchangeFinished();
+        }
+    }
+
+    /**
+     * Closes the connection after this exchange, used when the
+     * handler fails.
+     */
+    void abort() {
+        keepAlive = false;
+        connection.abort();
+    }
+
+    private void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        final boolean complete = responseCode != -1
+                && (responseBody.mode != BodyMode.FIXED || responseBody.remaining == 0);
+        connection.finishResponse(keepAlive && complete, this::responseSent);
+    }
+
+    private static @NotNull String reasonPhrase(final int code) {
+        switch (code) {
+            case 200:
+                return "OK";
+            case 206:
+                return "Partial Content";
+            case 304:
+                return "Not Modified";
+            case 400:
+                return "Bad Request";
+            case 404:
+                return "Not Found";
+            case 416:
+                return "Range Not Satisfiable";
+            case 500:
+                return "Internal Server Error";
+            case 503:
+                return "Service Unavailable";
+            default:
+                // the reason phrase is optional
+                return "";
+        }
+    }
+
+    private enum BodyMode {
+        NONE,
+        FIXED,
+        CHUNKED,
+        UNTIL_CLOSE
+    }
+
+    private final class ResponseBody extends OutputStream implements ZeroCopyOutput {
+        private BodyMode mode;
+        private long remaining;
+        private boolean closed;
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte @NotNull [] b, final int off, final int len) throws IOException {
+            if (off < 0 || len < 0 || len > b.length - off) {
+                throw new IndexOutOfBoundsException();
+            }
+            checkWritable(len);
+            if (len == 0) {
+                return;
+            }
+            // copied, the caller may reuse the array
+            final ByteBuffer buffer;
+            if (mode == BodyMode.CHUNKED) {
+                final byte[] size = Integer.toHexString(len).getBytes(StandardCharsets.ISO_8859_1);
+                buffer = ByteBuffer.allocate(size.length + len + 4);
+                buffer.put(size).put(CRLF).put(b, off, len).put(CRLF);
+                buffer.flip();
+            } else {
+                buffer = ByteBuffer.allocate(len);
+                buffer.put(b, off, len);
+                buffer.flip();
+            }
+            connection.enqueue(NioHttpConnection.Outbound.copied(buffer));
+        }
+
+        @Override
+        public void writeShared(final @NotNull ByteBuffer buffer) throws IOException {
+            final int length = buffer.remaining();
+            checkWritable(length);
+            if (length == 0) {
+                return;
+            }
+            startChunk(length);
+            connection.enqueue(NioHttpConnection.Outbound.shared(buffer));
+            endChunk();
+        }
+
+        @Override
+        public void transferFile(final @NotNull Path path, final long position, final long count) throws IOException {
+            checkWritable(count);
+            if (count == 0) {
+                return;
+            }
+            startChunk(count);
+            connection.enqueue(NioHttpConnection.Outbound.file(path, position, count));
+            endChunk();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                if (mode == BodyMode.CHUNKED) {
+                    connection.enqueue(NioHttpConnection.Outbound.copied(ByteBuffer.wrap(LAST_CHUNK)));
+                }
+            } finally {
+                finish();
+            }
+        }
+
+        private void startChunk(final long length) throws IOException {
+            if (mode == BodyMode.CHUNKED) {
+                final byte[] size = (Long.toHexString(length) + "\r\n").getBytes(StandardCharsets.ISO_8859_1);
+                connection.enqueue(NioHttpConnection.Outbound.copied(ByteBuffer.wrap(size)));
+            }
+        }
+
+        private void endChunk() throws IOException {
+            if (mode == BodyMode.CHUNKED) {
+                connection.enqueue(NioHttpConnection.Outbound.copied(ByteBuffer.wrap(CRLF)));
+            }
+        }
+
+        private void checkWritable(final long length) throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            if (mode == null) {
+                throw new IOException("Response headers not sent yet");
+            }
+            switch (mode) {
+                case NONE:
+                    if (length > 0) {
+                        throw new IOException("Response has no body");
+                    }
+                    break;
+                case FIXED:
+                    if (length > remaining) {
+                        throw new IOException("Too many bytes to write to stream");
+                    }
+                    remaining -= length;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
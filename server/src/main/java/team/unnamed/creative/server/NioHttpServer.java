@@ -0,0 +1,447 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import com.sun.net.httpserver.Authenticator;
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link HttpServer} implementation based on a single {@link Selector},
+ * used by the {@link ResourcePackServer.Backend#NIO} backend.
+ *
+ * <p>The selector thread accepts connections, reads and parses the
+ * requests and writes the responses, handlers are executed by the
+ * configured {@link Executor}. Responses are queued and written when
+ * the client can receive them, so handlers that send shared buffers or
+ * files (see {@link team.unnamed.creative.server.util.ZeroCopyOutput})
+ * return immediately, regardless of the client speed.</p>
+ *
+ * <p>Only HTTP/1.0 and HTTP/1.1 requests without body are supported,
+ * with keep-alive and pipelining. Authenticators are ignored.</p>
+ */
+final class NioHttpServer extends HttpServer {
+    private static final long IDLE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final long SELECT_TIMEOUT_MILLIS = 1000;
+    private static final AtomicInteger SERVER_COUNT = new AtomicInteger();
+
+    private final List<Context> contexts = new CopyOnWriteArrayList<>();
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeExchanges = new AtomicInteger();
+
+    private ServerSocketChannel serverChannel;
+    private Selector selector;
+    private Thread selectorThread;
+    private Executor executor;
+    private ExecutorService defaultExecutor;
+    private volatile boolean running;
+
+    static @NotNull NioHttpServer open(final @Nullable InetSocketAddress address, final int backlog) throws IOException {
+        final NioHttpServer server = new NioHttpServer();
+        if (address != null) {
+            server.bind(address, backlog);
+        }
+        return server;
+    }
+
+    @Override
+    public void bind(final @NotNull InetSocketAddress address, final int backlog) throws IOException {
+        requireNonNull(address, "address");
+        if (serverChannel != null) {
+            throw new IllegalStateException("Server already bound");
+        }
+        final ServerSocketChannel channel = ServerSocketChannel.open();
+        try {
+            channel.bind(address, backlog);
+            channel.configureBlocking(false);
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+        serverChannel = channel;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (serverChannel == null) {
+            throw new IllegalStateException("Server not bound");
+        }
+        if (selectorThread != null) {
+            throw new IllegalStateException("Server already started");
+        }
+        if (executor == null) {
+            // same as the default HttpServer, handlers are run by a single thread
+            defaultExecutor = Executors.newSingleThreadExecutor(task -> {
+                final Thread thread = new Thread(task, "creative-nio-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        try {
+            selector = Selector.open();
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Couldn't open selector", e);
+        }
+        running = true;
+        selectorThread = new Thread(this::run, "creative-nio-selector-" + SERVER_COUNT.incrementAndGet());
+        selectorThread.start();
+    }
+
+    @Override
+    public void setExecutor(final @Nullable Executor executor) {
+        if (selectorThread != null) {
+            throw new IllegalStateException("Server already started");
+        }
+        this.executor = executor;
+    }
+
+    @Override
+    public @Nullable Executor getExecutor() {
+        return executor;
+    }
+
+    @Override
+    public void stop(final int delay) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("delay must be non-negative, got " + delay);
+        }
+        final Thread thread;
+        synchronized (this) {
+            thread = selectorThread;
+            if (thread == null || !running) {
+                return;
+            }
+        }
+
+        try {
+            // stop accepting new connections
+            serverChannel.close();
+        } catch (final IOException ignored) {
+        }
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(delay);
+        while (activeExchanges.get() > 0 && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (defaultExecutor != null) {
+            defaultExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public @NotNull HttpContext createContext(final @NotNull String path, final @NotNull HttpHandler handler) {
+        final Context context = (Context) createContext(path);
+        context.setHandler(handler);
+        return context;
+    }
+
+    @Override
+    public @NotNull HttpContext createContext(final @NotNull String path) {
+        requireNonNull(path, "path");
+        if (!path.startsWith("/")) {
+            throw new IllegalArgumentException("Path must start with '/', got " + path);
+        }
+        final Context context = new Context(path);
+        synchronized (contexts) {
+            for (final Context existing : contexts) {
+                if (existing.path.equals(path)) {
+                    throw new IllegalArgumentException("Context already exists for path " + path);
+                }
+            }
+            contexts.add(context);
+        }
+        return context;
+    }
+
+    @Override
+    public void removeContext(final @NotNull String path) {
+        requireNonNull(path, "path");
+        if (!contexts.removeIf(context -> context.path.equals(path))) {
+            throw new IllegalArgumentException("No context for path " + path);
+        }
+    }
+
+    @Override
+    public void removeContext(final @NotNull HttpContext context) {
+        requireNonNull(context, "context");
+        if (!contexts.remove(context)) {
+            throw new IllegalArgumentException("Context not created by this server");
+        }
+    }
+
+    @Override
+    public @NotNull InetSocketAddress getAddress() {
+        try {
+            return (InetSocketAddress) serverChannel.getLocalAddress();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the context that handles the given request path,
+     * the one with the longest matching path prefix.
+     */
+    @Nullable Context findContext(final @NotNull String path) {
+        Context found = null;
+        for (final Context context : contexts) {
+            if (path.startsWith(context.path) && (found == null || context.path.length() > found.path.length())) {
+                found = context;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Dispatches the given exchange to the executor.
+     */
+    void dispatch(final @NotNull NioHttpExchange exchange) {
+        activeExchanges.incrementAndGet();
+        final Runnable task = () -> {
+            try {
+                final Context context = (Context) exchange.getHttpContext();
+                new Filter.Chain(context.filters, context.handler).doFilter(exchange);
+            } catch (final IOException | RuntimeException e) {
+                // same as HttpServer, the connection is closed
+                exchange.abort();
+            } finally {
+                // active until the response is sent, see exchangeFinished()
+                exchange.close();
+            }
+        };
+        try {
+            (executor == null ? defaultExecutor : executor).execute(task);
+        } catch (final RuntimeException e) {
+            // rejected
+            exchange.abort();
+            exchange.close();
+        }
+    }
+
+    /**
+     * Called when the response of a dispatched exchange has been
+     * completely sent, or its connection was closed.
+     */
+    void exchangeFinished() {
+        activeExchanges.decrementAndGet();
+    }
+
+    /**
+     * Runs the given task in the selector thread.
+     */
+    void execute(final @NotNull Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    boolean inSelectorThread() {
+        return Thread.currentThread() == selectorThread;
+    }
+
+    private void run() {
+        long lastIdleCheck = System.nanoTime();
+        try {
+            while (running) {
+                selector.select(SELECT_TIMEOUT_MILLIS);
+
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    task.run();
+                }
+
+                for (final SelectionKey key : selector.selectedKeys()) {
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    final NioHttpConnection connection = (NioHttpConnection) key.attachment();
+                    if (key.isWritable()) {
+                        connection.onWritable();
+                    }
+                    if (key.isValid() && key.isReadable()) {
+                        connection.onReadable();
+                    }
+                }
+                selector.selectedKeys().clear();
+
+                final long now = System.nanoTime();
+                if (now - lastIdleCheck >= TimeUnit.MILLISECONDS.toNanos(SELECT_TIMEOUT_MILLIS)) {
+                    lastIdleCheck = now;
+                    closeIdle(now);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Selector failed", e);
+        } finally {
+            for (final SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof NioHttpConnection) {
+                    ((NioHttpConnection) key.attachment()).close();
+                }
+            }
+            try {
+                selector.close();
+                serverChannel.close();
+            } catch (final IOException ignored) {
+            }
+        }
+    }
+
+    private void accept() {
+        final SocketChannel channel;
+        try {
+            channel = serverChannel.accept();
+            if (channel == null) {
+                return;
+            }
+        } catch (final IOException e) {
+            return;
+        }
+        try {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            final NioHttpConnection connection = new NioHttpConnection(this, channel);
+            connection.register(selector);
+        } catch (final IOException e) {
+            try {
+                channel.close();
+            } catch (final IOException ignored) {
+            }
+        }
+    }
+
+    private void closeIdle(final long now) {
+        final List<NioHttpConnection> idle = new ArrayList<>();
+        for (final SelectionKey key : selector.keys()) {
+            final Object attachment = key.attachment();
+            if (attachment instanceof NioHttpConnection
+                    && ((NioHttpConnection) attachment).isIdle(now, IDLE_TIMEOUT_NANOS)) {
+                idle.add((NioHttpConnection) attachment);
+            }
+        }
+        for (final NioHttpConnection connection : idle) {
+            connection.close();
+        }
+    }
+
+    final class Context extends HttpContext {
+        private final String path;
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+        private final List<Filter> filters = new CopyOnWriteArrayList<>();
+        private volatile HttpHandler handler;
+        private volatile Authenticator authenticator;
+
+        Context(final @NotNull String path) {
+            this.path = path;
+        }
+
+        @Override
+        public HttpHandler getHandler() {
+            return handler;
+        }
+
+        @Override
+        public void setHandler(final @NotNull HttpHandler handler) {
+            requireNonNull(handler, "handler");
+            if (this.handler != null) {
+                throw new IllegalArgumentException("Handler already set");
+            }
+            this.handler = handler;
+        }
+
+        @Override
+        public @NotNull String getPath() {
+            return path;
+        }
+
+        @Override
+        public @NotNull HttpServer getServer() {
+            return NioHttpServer.this;
+        }
+
+        @Override
+        public @NotNull Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public @NotNull List<Filter> getFilters() {
+            return filters;
+        }
+
+        @Override
+        public @Nullable Authenticator setAuthenticator(final @Nullable Authenticator authenticator) {
+            final Authenticator previous = this.authenticator;
+            this.authenticator = authenticator;
+            return previous;
+        }
+
+        @Override
+        public @Nullable Authenticator getAuthenticator() {
+            return authenticator;
+        }
+    }
+}
@@ -109,6 +109,35 @@ public interface ResourcePackServer {
      */
     void stop(final int delay);
 
+    /**
+     * The available HTTP server implementations.
+     *
+     * @see Builder#backend(Backend)
+     * @since 1.8.2
+     */
+    enum Backend {
+        /**
+         * The JDK {@link HttpServer}, supports HTTPS.
+         *
+         * @since 1.8.2
+         */
+        JDK,
+
+        /**
+         * A non-blocking server based on {@link java.nio.channels.Selector},
+         * supports keep-alive and sends shared buffers and files without
+         * copying them, so handlers don't wait for slow clients. Doesn't
+         * support HTTPS.
+         *
+         * <p>Handlers are executed by the {@link Builder#executor(Executor) executor},
+         * or by a single thread if not set, and response writes only wait
+         * when too much copied data is pending to be sent.</p>
+         *
+         * @since 1.8.2
+         */
+        NIO
+    }
+
     /**
      * A builder for {@link ResourcePackServer} instances
      *
@@ -174,6 +203,10 @@ public interface ResourcePackServer {
          * which was created by the {@link ResourcePackServer#start()}
          * method.</p>
          *
+         * <p>Requests rejected by the executor (e.g. because its queue
+         * is full) are answered with a {@code 503 Service Unavailable}
+         * response, see {@link #maxConcurrentDownloads(int, int)}.</p>
+         *
          * @param executor The server's executor
          * @return This builder
          * @since 1.5.0
@@ -181,6 +214,81 @@ public interface ResourcePackServer {
         @Contract("_ -> this")
         @NotNull Builder executor(final @Nullable Executor executor);
 
+        /**
+         * Sets the maximum number of downloads handled at the same
+         * time, optional, unlimited by default.
+         *
+         * <p>Requests received while the limit is reached are rejected
+         * with a {@code 503 Service Unavailable} response and a
+         * {@code Retry-After} header, instead of waiting for a free
+         * thread in the {@link #executor(Executor) executor}.</p>
+         *
+         * @param maxConcurrentDownloads The maximum concurrent downloads,
+         *                               zero or less means unlimited
+         * @param retryAfterSeconds      The Retry-After value sent when
+         *                               the limit is reached or the executor
+         *                               rejects a request, 5 by default
+         * @return This builder
+         * @since 1.8.2
+         */
+        @Contract("_, _ -> this")
+        @NotNull Builder maxConcurrentDownloads(final int maxConcurrentDownloads, final int retryAfterSeconds);
+
+        /**
+         * Sets the maximum number of downloads handled at the same
+         * time, optional, unlimited by default. Rejected clients are
+         * asked to retry after 5 seconds.
+         *
+         * @param maxConcurrentDownloads The maximum concurrent downloads,
+         *                               zero or less means unlimited
+         * @return This builder
+         * @see #maxConcurrentDownloads(int, int)
+         * @since 1.8.2
+         */
+        @Contract("_ -> this")
+        default @NotNull Builder maxConcurrentDownloads(final int maxConcurrentDownloads) {
+            return maxConcurrentDownloads(maxConcurrentDownloads, 5);
+        }
+
+        /**
+         * Sets the bandwidth throttle for the server responses,
+         * optional, unlimited by default.
+         *
+         * <p>The response streams given to the handlers are wrapped,
+         * so custom handlers are throttled too.</p>
+         *
+         * @param throttle The bandwidth throttle, null to disable
+         * @return This builder
+         * @see BandwidthThrottle#throttle(long, long)
+         * @since 1.8.2
+         */
+        @Contract("_ -> this")
+        @NotNull Builder throttle(final @Nullable BandwidthThrottle throttle);
+
+        /**
+         * Sets the listener notified about every request handled
+         * by the server, optional.
+         *
+         * @param listener The listener, null to disable
+         * @return This builder
+         * @see ServerMetrics
+         * @see ResourcePackServerListener#jfr()
+         * @since 1.8.2
+         */
+        @Contract("_ -> this")
+        @NotNull Builder listener(final @Nullable ResourcePackServerListener listener);
+
+        /**
+         * Sets the server's backend, optional, {@link Backend#JDK}
+         * by default.
+         *
+         * @param backend The server's backend
+         * @return This builder
+         * @since 1.8.2
+         */
+        @Contract("_ -> this")
+        @NotNull Builder backend(final @NotNull Backend backend);
+
         /**
          * Sets the server's HTTPS configurator, optional.
          * If not set, the server will default to a HTTP
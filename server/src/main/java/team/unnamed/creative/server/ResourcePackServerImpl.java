@@ -33,25 +33,47 @@ import org.jetbrains.annotations.Nullable;
 import team.unnamed.creative.server.handler.ResourcePackRequestHandler;
 import team.unnamed.creative.server.request.ResourcePackDownloadRequest;
 import team.unnamed.creative.server.util.ResourcePackDownloadRequestParser;
+import team.unnamed.creative.server.util.ZeroCopyOutput;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
 import static java.util.Objects.requireNonNull;
 
 final class ResourcePackServerImpl implements ResourcePackServer {
 
+    private static final byte[] BUSY_RESPONSE = "Server is busy, please try again later\n".getBytes(StandardCharsets.UTF_8);
+
     private final HttpServer server;
     private final ResourcePackRequestHandler handler;
+    private final @Nullable Semaphore downloadPermits;
+    private final int retryAfterSeconds;
+    private final @Nullable BandwidthThrottle throttle;
+    private final @Nullable ResourcePackServerListener listener;
 
     ResourcePackServerImpl(
             final @NotNull HttpServer server,
             final @NotNull String path,
-            final @NotNull ResourcePackRequestHandler handler
+            final @NotNull ResourcePackRequestHandler handler,
+            final int maxConcurrentDownloads,
+            final int retryAfterSeconds,
+            final @Nullable BandwidthThrottle throttle,
+            final @Nullable ResourcePackServerListener listener
     ) {
         this.server = requireNonNull(server, "server");
         this.handler = requireNonNull(handler, "handler");
+        this.downloadPermits = maxConcurrentDownloads > 0 ? new Semaphore(maxConcurrentDownloads) : null;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.throttle = throttle;
+        this.listener = listener;
         this.server.createContext(requireNonNull(path, "path"), this::handleRequest);
     }
 
@@ -85,20 +107,110 @@ final class ResourcePackServerImpl implements ResourcePackServer {
         final Headers headers = exchange.getRequestHeaders();
         final ResourcePackDownloadRequest request = ResourcePackDownloadRequestParser.parse(headers);
 
+        if (listener == null) {
+            try {
+                serve(request, exchange);
+            } finally {
+                exchange.close();
+            }
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final OutputStream responseBody = exchange.getResponseBody();
+        final CountingOutputStream counter = responseBody instanceof ZeroCopyOutput
+                ? new ZeroCopyCountingOutputStream(responseBody)
+                : new CountingOutputStream(responseBody);
+        exchange.setStreams(null, counter);
+        listener.onRequestStart(request, exchange);
+
+        Throwable failure = null;
         try {
-            handler.onRequest(request, exchange);
+            serve(request, exchange);
+        } catch (final IOException | RuntimeException | Error e) {
+            failure = e;
+            throw e;
         } finally {
+            final Throwable cause = failure;
+            whenResponseSent(exchange, () -> {
+                final String etag = exchange.getResponseHeaders().getFirst("ETag");
+                final String packHash = etag != null && etag.length() > 1 && etag.startsWith("\"") && etag.endsWith("\"")
+                        ? etag.substring(1, etag.length() - 1)
+                        : null;
+                listener.onRequestFinish(new CompletedRequest(
+                        request,
+                        exchange.getResponseCode(),
+                        counter.count,
+                        System.nanoTime() - start,
+                        packHash,
+                        cause
+                ), exchange);
+            });
             exchange.close();
         }
     }
 
+    private void serve(final @Nullable ResourcePackDownloadRequest request, final @NotNull HttpExchange exchange) throws IOException {
+        if (RejectingExecutor.isRejected() || (downloadPermits != null && !downloadPermits.tryAcquire())) {
+            // too many downloads, don't make the client wait
+            sendBusy(exchange);
+            return;
+        }
+
+        if (throttle != null) {
+            exchange.setStreams(null, throttle.start(exchange.getResponseBody()));
+        }
+
+        try {
+            handler.onRequest(request, exchange);
+        } finally {
+            whenResponseSent(exchange, () -> {
+                if (throttle != null) {
+                    throttle.finish();
+                }
+                if (downloadPermits != null) {
+                    downloadPermits.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * Runs the given task once the response of the given exchange is
+     * completely sent. Handlers of the NIO backend return as soon as the
+     * response data is queued, so the task runs later, in the selector
+     * thread.
+     */
+    private static void whenResponseSent(final @NotNull HttpExchange exchange, final @NotNull Runnable task) {
+        if (exchange instanceof NioHttpExchange) {
+            ((NioHttpExchange) exchange).onResponseSent(task);
+        } else {
+            // the JDK server sends the response while the handler writes it
+            task.run();
+        }
+    }
+
+    private void sendBusy(final @NotNull HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain");
+        exchange.getResponseHeaders().set("Retry-After", Integer.toString(retryAfterSeconds));
+        exchange.sendResponseHeaders(503, BUSY_RESPONSE.length);
+        try (final OutputStream responseStream = exchange.getResponseBody()) {
+            responseStream.write(BUSY_RESPONSE);
+        }
+    }
+
     static final class BuilderImpl implements Builder {
         private InetSocketAddress address;
         private Executor executor;
         private int backlog;
         private ResourcePackRequestHandler handler;
         private String path = "/";
-        private HttpServerFactory serverFactory = HttpServer::create;
+        private int maxConcurrentDownloads;
+        private int retryAfterSeconds = 5;
+        private BandwidthThrottle throttle;
+        private ResourcePackServerListener listener;
+        private Backend backend = Backend.JDK;
+        private HttpsConfigurator httpsConfigurator;
 
         @Override
         public @NotNull Builder address(final @NotNull InetSocketAddress address) {
@@ -114,12 +226,13 @@ final class ResourcePackServerImpl implements ResourcePackServer {
 
         @Override
         public @NotNull Builder secure(final @NotNull HttpsConfigurator httpsConfigurator) {
-            requireNonNull(httpsConfigurator, "httpsConfigurator");
-            this.serverFactory = (address, backlog) -> {
-                HttpsServer server = HttpsServer.create(address, backlog);
-                server.setHttpsConfigurator(httpsConfigurator);
-                return server;
-            };
+            this.httpsConfigurator = requireNonNull(httpsConfigurator, "httpsConfigurator");
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder backend(final @NotNull Backend backend) {
+            this.backend = requireNonNull(backend, "backend");
             return this;
         }
 
@@ -135,6 +248,28 @@ final class ResourcePackServerImpl implements ResourcePackServer {
             return this;
         }
 
+        @Override
+        public @NotNull Builder maxConcurrentDownloads(final int maxConcurrentDownloads, final int retryAfterSeconds) {
+            if (retryAfterSeconds < 0) {
+                throw new IllegalArgumentException("retryAfterSeconds must be non-negative, got " + retryAfterSeconds);
+            }
+            this.maxConcurrentDownloads = maxConcurrentDownloads;
+            this.retryAfterSeconds = retryAfterSeconds;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder throttle(final @Nullable BandwidthThrottle throttle) {
+            this.throttle = throttle;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder listener(final @Nullable ResourcePackServerListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
         @Override
         public @NotNull Builder path(final @NotNull String path) {
             this.path = requireNonNull(path, "path");
@@ -143,15 +278,92 @@ final class ResourcePackServerImpl implements ResourcePackServer {
 
         @Override
         public @NotNull ResourcePackServer build() throws IOException {
-            final HttpServer server = serverFactory.create(address, backlog);
-            server.setExecutor(executor);
-            return new ResourcePackServerImpl(server, path, handler);
+            final HttpServer server;
+            if (backend == Backend.NIO) {
+                if (httpsConfigurator != null) {
+                    throw new IllegalStateException("The NIO backend doesn't support HTTPS");
+                }
+                server = NioHttpServer.open(address, backlog);
+            } else if (httpsConfigurator != null) {
+                final HttpsServer httpsServer = HttpsServer.create(address, backlog);
+                httpsServer.setHttpsConfigurator(httpsConfigurator);
+                server = httpsServer;
+            } else {
+                server = HttpServer.create(address, backlog);
+            }
+            server.setExecutor(executor == null ? null : new RejectingExecutor(executor));
+            return new ResourcePackServerImpl(server, path, handler, maxConcurrentDownloads, retryAfterSeconds, throttle, listener);
+        }
+    }
+
+    /**
+     * Executor that, when the delegate rejects a request, runs it in
+     * the calling thread (the server's dispatcher) only to quickly
+     * send a {@code 503 Service Unavailable} response.
+     */
+    private static final class RejectingExecutor implements Executor {
+        private static final ThreadLocal<Boolean> REJECTED = new ThreadLocal<>();
+
+        private final Executor delegate;
+
+        RejectingExecutor(final @NotNull Executor delegate) {
+            this.delegate = delegate;
+        }
+
+        static boolean isRejected() {
+            return REJECTED.get() != null;
+        }
+
+        @Override
+        public void execute(final @NotNull Runnable task) {
+            try {
+                delegate.execute(task);
+            } catch (final RejectedExecutionException e) {
+                REJECTED.set(Boolean.TRUE);
+                try {
+                    task.run();
+                } finally {
+                    REJECTED.remove();
+                }
+            }
+        }
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        protected long count;
+
+        CountingOutputStream(final @NotNull OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(final byte @NotNull [] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
         }
     }
 
-    interface HttpServerFactory {
+    private static final class ZeroCopyCountingOutputStream extends CountingOutputStream implements ZeroCopyOutput {
+        ZeroCopyCountingOutputStream(final @NotNull OutputStream out) {
+            super(out);
+        }
 
-        HttpServer create(InetSocketAddress address, int backlog) throws IOException;
+        @Override
+        public void writeShared(final @NotNull ByteBuffer buffer) throws IOException {
+            ((ZeroCopyOutput) out).writeShared(buffer);
+            count += buffer.remaining();
+        }
 
+        @Override
+        public void transferFile(final @NotNull Path path, final long position, final long count) throws IOException {
+            ((ZeroCopyOutput) out).transferFile(path, position, count);
+            this.count += count;
+        }
     }
 }
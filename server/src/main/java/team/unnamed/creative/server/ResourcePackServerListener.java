@@ -0,0 +1,118 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.server.request.ResourcePackDownloadRequest;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Listens to the requests handled by a {@link ResourcePackServer},
+ * see {@link ResourcePackServer.Builder#listener(ResourcePackServerListener)}.
+ *
+ * <p>Methods are called from the threads handling the requests,
+ * concurrently, so implementations must be thread-safe and fast.
+ * With the {@link ResourcePackServer.Backend#NIO NIO} backend,
+ * {@link #onRequestFinish} is called by the selector thread once
+ * the response is sent, so it must never block.</p>
+ *
+ * @see ServerMetrics
+ * @since 1.8.2
+ */
+public interface ResourcePackServerListener {
+    /**
+     * Creates a listener that records a {@code team.unnamed.creative.ResourcePackDownload}
+     * JDK Flight Recorder event for every request.
+     *
+     * @return The JFR listener
+     * @throws UnsupportedOperationException If JFR is not available in this runtime
+     * @since 1.8.2
+     */
+    static @NotNull ResourcePackServerListener jfr() {
+        try {
+            Class.forName("jdk.jfr.Event", false, ResourcePackServerListener.class.getClassLoader());
+        } catch (final ClassNotFoundException e) {
+            throw new UnsupportedOperationException("JDK Flight Recorder is not available in this runtime", e);
+        }
+        return new JfrResourcePackServerListener();
+    }
+
+    /**
+     * Creates a listener that calls all the given listeners, in order.
+     *
+     * @param listeners The listeners
+     * @return The composite listener
+     * @since 1.8.2
+     */
+    @Contract("_ -> new")
+    static @NotNull ResourcePackServerListener compose(final @NotNull ResourcePackServerListener @NotNull ... listeners) {
+        requireNonNull(listeners, "listeners");
+        final List<ResourcePackServerListener> list = Arrays.asList(listeners.clone());
+        return new ResourcePackServerListener() {
+            @Override
+            public void onRequestStart(final @Nullable ResourcePackDownloadRequest request, final @NotNull HttpExchange exchange) {
+                for (final ResourcePackServerListener listener : list) {
+                    listener.onRequestStart(request, exchange);
+                }
+            }
+
+            @Override
+            public void onRequestFinish(final @NotNull CompletedRequest completed, final @NotNull HttpExchange exchange) {
+                for (final ResourcePackServerListener listener : list) {
+                    listener.onRequestFinish(completed, exchange);
+                }
+            }
+        };
+    }
+
+    /**
+     * Called when a request is received, before it is handled.
+     *
+     * @param request  The parsed request, null if the request couldn't
+     *                 be parsed (not a Minecraft client)
+     * @param exchange The HTTP exchange
+     * @since 1.8.2
+     */
+    default void onRequestStart(final @Nullable ResourcePackDownloadRequest request, final @NotNull HttpExchange exchange) {
+    }
+
+    /**
+     * Called when a request has been handled and its response
+     * completely sent (or the connection closed), successfully
+     * or not.
+     *
+     * @param completed The request information
+     * @param exchange  The HTTP exchange
+     * @since 1.8.2
+     */
+    default void onRequestFinish(final @NotNull CompletedRequest completed, final @NotNull HttpExchange exchange) {
+    }
+}
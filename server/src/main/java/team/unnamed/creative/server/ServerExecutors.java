@@ -0,0 +1,112 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Common {@link ExecutorService} presets for {@link ResourcePackServer}
+ * instances, see {@link ResourcePackServer.Builder#executor}.
+ *
+ * <p>The caller is responsible for shutting down the returned
+ * executors after stopping the server.</p>
+ *
+ * @since 1.8.2
+ */
+public final class ServerExecutors {
+    private ServerExecutors() {
+        throw new UnsupportedOperationException("Can't instantiate utility class");
+    }
+
+    /**
+     * Creates a new executor with a bounded number of platform
+     * threads and a bounded queue of pending requests.
+     *
+     * <p>When all the threads are busy and the queue is full, the
+     * request is rejected and the server answers it with a {@code 503
+     * Service Unavailable} response and a {@code Retry-After} header,
+     * like when the {@link ResourcePackServer.Builder#maxConcurrentDownloads}
+     * limit is reached.</p>
+     *
+     * @param threads       The maximum number of threads
+     * @param queueCapacity The maximum number of pending requests
+     * @return The created executor
+     * @since 1.8.2
+     */
+    public static @NotNull ExecutorService bounded(final int threads, final int queueCapacity) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1, got " + threads);
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be at least 1, got " + queueCapacity);
+        }
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    final Thread thread = new Thread(task, "creative-server-worker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Determines whether virtual threads are available in the
+     * current runtime (Java 21 or newer).
+     *
+     * @return True if {@link #virtualThreadPerRequest()} can be used
+     * @since 1.8.2
+     */
+    public static boolean virtualThreadsAvailable() {
+        return VirtualThreads.AVAILABLE;
+    }
+
+    /**
+     * Creates a new executor that handles every request in a new
+     * virtual thread, so slow clients don't block any platform thread.
+     *
+     * <p>Requires Java 21 or newer, see {@link #virtualThreadsAvailable()}.</p>
+     *
+     * @return The created executor
+     * @throws UnsupportedOperationException If virtual threads are not available
+     * @since 1.8.2
+     */
+    public static @NotNull ExecutorService virtualThreadPerRequest() {
+        return VirtualThreads.newVirtualThreadPerTaskExecutor();
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.server.request.ResourcePackDownloadRequest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free {@link ResourcePackServerListener} that keeps counters
+ * and a latency histogram of the handled requests.
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * ServerMetrics metrics = ServerMetrics.metrics();
+ * ResourcePackServer server = ResourcePackServer.server()
+ *         .listener(metrics)
+ *         // ...
+ *         .build();
+ *
+ * // later...
+ * if (metrics.latencyPercentileMillis(0.99) > 10_000) {
+ *     // alert, slow downloads!
+ * }
+ * }</pre>
+ *
+ * @since 1.8.2
+ */
+public final class ServerMetrics implements ResourcePackServerListener {
+    // upper bounds (inclusive) of the latency histogram buckets, in milliseconds,
+    // the last bucket contains all the requests that took longer
+    private static final long[] LATENCY_BUCKET_BOUNDS = {
+            1, 2, 5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000, 60_000
+    };
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder activeRequests = new LongAdder();
+    private final LongAdder invalidRequests = new LongAdder();
+    private final LongAdder failedRequests = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder totalDurationNanos = new LongAdder();
+
+    // indexed by status code / 100, index 0 is for requests without response
+    private final AtomicLongArray statusClasses = new AtomicLongArray(6);
+    private final AtomicLongArray latencyHistogram = new AtomicLongArray(LATENCY_BUCKET_BOUNDS.length + 1);
+
+    private ServerMetrics() {
+    }
+
+    /**
+     * Creates a new, empty, metrics instance.
+     *
+     * @return The created metrics
+     * @since 1.8.2
+     */
+    public static @NotNull ServerMetrics metrics() {
+        return new ServerMetrics();
+    }
+
+    @Override
+    public void onRequestStart(final @Nullable ResourcePackDownloadRequest request, final @NotNull HttpExchange exchange) {
+        requests.increment();
+        activeRequests.increment();
+        if (request == null) {
+            invalidRequests.increment();
+        }
+    }
+
+    @Override
+    public void onRequestFinish(final @NotNull CompletedRequest completed, final @NotNull HttpExchange exchange) {
+        activeRequests.decrement();
+        bytesWritten.add(completed.bytesWritten());
+        totalDurationNanos.add(completed.durationNanos());
+
+        final int statusCode = completed.statusCode();
+        if (completed.failure() != null || statusCode >= 500) {
+            failedRequests.increment();
+        }
+        final int statusClass = statusCode < 100 || statusCode >= 600 ? 0 : statusCode / 100;
+        statusClasses.incrementAndGet(statusClass);
+
+        final long millis = TimeUnit.NANOSECONDS.toMillis(completed.durationNanos());
+        int bucket = 0;
+        while (bucket < LATENCY_BUCKET_BOUNDS.length && millis > LATENCY_BUCKET_BOUNDS[bucket]) {
+            bucket++;
+        }
+        latencyHistogram.incrementAndGet(bucket);
+    }
+
+    /**
+     * Returns the total number of received requests.
+     *
+     * @return The number of requests
+     * @since 1.8.2
+     */
+    public long requests() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of requests being currently handled.
+     *
+     * @return The number of active requests
+     * @since 1.8.2
+     */
+    public long activeRequests() {
+        return activeRequests.sum();
+    }
+
+    /**
+     * Returns the number of requests that couldn't be parsed,
+     * i.e. that were not made by a Minecraft client.
+     *
+     * @return The number of invalid requests
+     * @since 1.8.2
+     */
+    public long invalidRequests() {
+        return invalidRequests.sum();
+    }
+
+    /**
+     * Returns the number of requests that failed with an exception
+     * or a 5xx status code.
+     *
+     * @return The number of failed requests
+     * @since 1.8.2
+     */
+    public long failedRequests() {
+        return failedRequests.sum();
+    }
+
+    /**
+     * Returns the number of finished requests whose response had
+     * a status code in the given class, e.g. {@code 2} for 2xx.
+     *
+     * @param statusClass The status code class, from 1 to 5, or 0 for
+     *                    requests finished without a response
+     * @return The number of requests
+     * @since 1.8.2
+     */
+    public long responses(final int statusClass) {
+        if (statusClass < 0 || statusClass >= statusClasses.length()) {
+            throw new IllegalArgumentException("Invalid status class: " + statusClass);
+        }
+        return statusClasses.get(statusClass);
+    }
+
+    /**
+     * Returns the total number of response body bytes written.
+     *
+     * @return The written bytes
+     * @since 1.8.2
+     */
+    public long bytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    /**
+     * Returns the average duration of the finished requests.
+     *
+     * @return The average duration in milliseconds, zero if there are no finished requests
+     * @since 1.8.2
+     */
+    public double averageLatencyMillis() {
+        long finished = 0;
+        for (int i = 0; i < statusClasses.length(); i++) {
+            finished += statusClasses.get(i);
+        }
+        return finished == 0 ? 0 : totalDurationNanos.sum() / (double) finished / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Returns the upper bounds (inclusive) of the latency histogram
+     * buckets, in milliseconds. There is an extra, last, bucket for
+     * the requests that took longer than the last bound.
+     *
+     * @return The latency bucket bounds
+     * @since 1.8.2
+     */
+    public long @NotNull [] latencyBucketBoundsMillis() {
+        return LATENCY_BUCKET_BOUNDS.clone();
+    }
+
+    /**
+     * Returns a snapshot of the latency histogram, the amount of
+     * finished requests per {@link #latencyBucketBoundsMillis() bucket}.
+     *
+     * @return The latency histogram
+     * @since 1.8.2
+     */
+    public long @NotNull [] latencyHistogram() {
+        final long[] histogram = new long[latencyHistogram.length()];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = latencyHistogram.get(i);
+        }
+        return histogram;
+    }
+
+    /**
+     * Estimates the given latency percentile from the histogram, as
+     * the upper bound of the bucket that contains it.
+     *
+     * @param percentile The percentile, from 0 to 1, e.g. 0.99
+     * @return The latency in milliseconds, {@link Long#MAX_VALUE} if it
+     * is in the last bucket, zero if there are no finished requests
+     * @since 1.8.2
+     */
+    public long latencyPercentileMillis(final double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 1, got " + percentile);
+        }
+        final long[] histogram = latencyHistogram();
+        long total = 0;
+        for (final long count : histogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long seen = 0;
+        for (int i = 0; i < LATENCY_BUCKET_BOUNDS.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return LATENCY_BUCKET_BOUNDS[i];
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "ServerMetrics{" +
+                "requests=" + requests() +
+                ", activeRequests=" + activeRequests() +
+                ", invalidRequests=" + invalidRequests() +
+                ", failedRequests=" + failedRequests() +
+                ", bytesWritten=" + bytesWritten() +
+                '}';
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A token bucket that allows at most {@code bytesPerSecond} bytes
+ * per second, with a small burst capacity.
+ *
+ * <p>Waiting callers are served in FIFO order (fair lock), and
+ * since every caller acquires at most {@link #chunkSize()} bytes
+ * at a time, concurrent transfers are served round-robin.</p>
+ */
+final class TokenBucket {
+    private static final int MIN_CHUNK_SIZE = 512;
+    private static final int MAX_CHUNK_SIZE = 16 * 1024;
+
+    private final long bytesPerSecond;
+    private final int chunkSize;
+    private final ReentrantLock lock = new ReentrantLock(true);
+
+    // may be negative, meaning that the next caller must wait
+    private long tokens;
+    // package-private for tests
+    long lastRefill = System.nanoTime();
+
+    TokenBucket(final long bytesPerSecond) {
+        if (bytesPerSecond <= 0) {
+            throw new IllegalArgumentException("bytesPerSecond must be positive, got " + bytesPerSecond);
+        }
+        this.bytesPerSecond = bytesPerSecond;
+        // ~50ms worth of bytes per chunk
+        this.chunkSize = (int) Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, bytesPerSecond / 20));
+        this.tokens = chunkSize;
+    }
+
+    long bytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Takes the given amount of bytes from this bucket, waiting
+     * until they are available.
+     *
+     * @param bytes The amount of bytes, at most {@link #chunkSize()}
+     * @throws InterruptedIOException If interrupted while waiting
+     */
+    void acquire(final int bytes) throws InterruptedIOException {
+        lock.lock();
+        try {
+            final long now = System.nanoTime();
+            // the bucket is full after this time, clamping avoids overflowing
+            // the multiplication below after being idle for a long time
+            final long timeToFill = (chunkSize - tokens) * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond + 1;
+            final long elapsed = Math.min(now - lastRefill, timeToFill);
+            lastRefill = now;
+            tokens = Math.min(chunkSize, tokens + elapsed * bytesPerSecond / TimeUnit.SECONDS.toNanos(1));
+            tokens -= bytes;
+
+            if (tokens < 0) {
+                // wait while holding the lock, so that other
+                // callers wait in order behind us
+                long remaining = -tokens * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond;
+                final long deadline = now + remaining;
+                while (remaining > 0) {
+                    LockSupport.parkNanos(this, remaining);
+                    if (Thread.interrupted()) {
+                        throw new InterruptedIOException("Interrupted while waiting for bandwidth");
+                    }
+                    remaining = deadline - System.nanoTime();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
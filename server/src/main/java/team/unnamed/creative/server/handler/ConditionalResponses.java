@@ -0,0 +1,130 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server.handler;
+
+import com.sun.net.httpserver.HttpExchange;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.BuiltResourcePack;
+
+import java.io.IOException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Utility methods for conditional HTTP responses based on
+ * the {@link BuiltResourcePack#hash() resource-pack hash}, useful
+ * for custom {@link ResourcePackRequestHandler} implementations.
+ *
+ * <p>Clients that already have a resource-pack can send its
+ * entity tag in the {@code If-None-Match} header, and receive
+ * a {@code 304 Not Modified} response without the resource-pack
+ * data.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * ResourcePackRequestHandler handler = (request, exchange) -> {
+ *     BuiltResourcePack pack = ...;
+ *     if (ConditionalResponses.sendNotModified(exchange, pack)) {
+ *         return; // client already has the pack
+ *     }
+ *     // send the pack...
+ * };
+ * }</pre>
+ *
+ * @since 1.8.2
+ */
+public final class ConditionalResponses {
+    private ConditionalResponses() {
+        throw new UnsupportedOperationException("Can't instantiate utility class");
+    }
+
+    /**
+     * Returns the strong entity tag for the given resource-pack,
+     * its quoted SHA-1 hash, e.g. {@code "ab12..."}
+     *
+     * @param pack The resource-pack
+     * @return The entity tag
+     * @since 1.8.2
+     */
+    public static @NotNull String entityTag(final @NotNull BuiltResourcePack pack) {
+        requireNonNull(pack, "pack");
+        return '"' + pack.hash() + '"';
+    }
+
+    /**
+     * Determines whether the given {@code If-None-Match} header value
+     * matches the given entity tag, using the weak comparison function,
+     * as specified by RFC 9110, section 13.1.2.
+     *
+     * @param ifNoneMatch The If-None-Match header value, may be null
+     * @param entityTag   The current entity tag
+     * @return True if the client already has the current representation
+     * @since 1.8.2
+     */
+    public static boolean matchesAny(final @Nullable String ifNoneMatch, final @NotNull String entityTag) {
+        requireNonNull(entityTag, "entityTag");
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        final String opaqueTag = stripWeakPrefix(entityTag);
+        for (final String candidate : ifNoneMatch.split(",")) {
+            final String tag = candidate.trim();
+            if (tag.equals("*") || stripWeakPrefix(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets the {@code ETag} response header for the given resource-pack
+     * and, if the client already has it (its {@code If-None-Match} request
+     * header matches), sends a {@code 304 Not Modified} response.
+     *
+     * <p>If this method returns true, the response has been sent and
+     * the handler must not write anything else.</p>
+     *
+     * @param exchange The HTTP exchange
+     * @param pack     The resource-pack that would be sent
+     * @return True if a 304 response was sent
+     * @throws IOException If sending the response fails
+     * @since 1.8.2
+     */
+    public static boolean sendNotModified(final @NotNull HttpExchange exchange, final @NotNull BuiltResourcePack pack) throws IOException {
+        requireNonNull(exchange, "exchange");
+        final String entityTag = entityTag(pack);
+        exchange.getResponseHeaders().set("ETag", entityTag);
+
+        if (matchesAny(exchange.getRequestHeaders().getFirst("If-None-Match"), entityTag)) {
+            exchange.sendResponseHeaders(304, -1);
+            return true;
+        }
+        return false;
+    }
+
+    private static @NotNull String stripWeakPrefix(final @NotNull String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -23,11 +23,13 @@
  */
 package team.unnamed.creative.server.handler;
 
+import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import team.unnamed.creative.BuiltResourcePack;
 import team.unnamed.creative.server.request.ResourcePackDownloadRequest;
+import team.unnamed.creative.server.util.ByteRange;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -37,32 +39,81 @@ import java.util.Objects;
 final class FixedResourcePackRequestHandler implements ResourcePackRequestHandler {
     private final BuiltResourcePack pack;
     private final boolean validOnly;
+    private final PackContent content;
 
-    FixedResourcePackRequestHandler(final @NotNull BuiltResourcePack pack, final boolean validOnly) {
+    FixedResourcePackRequestHandler(final @NotNull BuiltResourcePack pack, final boolean validOnly, final @NotNull PackContent content) {
         this.pack = Objects.requireNonNull(pack, "pack");
         this.validOnly = validOnly;
+        this.content = Objects.requireNonNull(content, "content");
+    }
+
+    FixedResourcePackRequestHandler(final @NotNull BuiltResourcePack pack, final boolean validOnly) {
+        this(pack, validOnly, PackContent.of(pack));
     }
 
     @Override
     public void onRequest(final @Nullable ResourcePackDownloadRequest request, final @NotNull HttpExchange exchange) throws IOException {
         if (request == null && validOnly) {
-            final byte[] data = "Please use a Minecraft client\n".getBytes(StandardCharsets.UTF_8);
-            exchange.getResponseHeaders().set("Content-Type", "text/plain");
-            exchange.sendResponseHeaders(400, data.length);
-            try (final OutputStream responseStream = exchange.getResponseBody()) {
-                responseStream.write(data);
-            }
+            sendNotMinecraftClient(exchange);
             return;
         }
 
-        final byte[] data = pack.data().toByteArray();
-        exchange.getResponseHeaders().set("Content-Type", "application/zip");
-        exchange.sendResponseHeaders(200, data.length);
+        if (ConditionalResponses.sendNotModified(exchange, pack)) {
+            // client already has this pack
+            return;
+        }
+
+        try (final PackContent.Opened opened = content.open()) {
+            final long length = opened.length();
+            final Headers responseHeaders = exchange.getResponseHeaders();
+            responseHeaders.set("Accept-Ranges", "bytes");
+
+            // resume interrupted downloads, only if the client has the same pack
+            final ByteRange range = isSamePack(exchange.getRequestHeaders().getFirst("If-Range"))
+                    ? ByteRange.parse(exchange.getRequestHeaders().getFirst("Range"), length)
+                    : null;
+
+            if (range == ByteRange.UNSATISFIABLE) {
+                responseHeaders.set("Content-Range", range.contentRange(length));
+                exchange.sendResponseHeaders(416, -1);
+                return;
+            }
+
+            responseHeaders.set("Content-Type", "application/zip");
+            if (range == null) {
+                exchange.sendResponseHeaders(200, length);
+                try (final OutputStream responseStream = exchange.getResponseBody()) {
+                    opened.writeTo(responseStream, 0, length);
+                }
+            } else {
+                responseHeaders.set("Content-Range", range.contentRange(length));
+                exchange.sendResponseHeaders(206, range.length());
+                try (final OutputStream responseStream = exchange.getResponseBody()) {
+                    opened.writeTo(responseStream, range.start(), range.length());
+                }
+            }
+        }
+    }
+
+    @NotNull BuiltResourcePack pack() {
+        return pack;
+    }
+
+    static void sendNotMinecraftClient(final @NotNull HttpExchange exchange) throws IOException {
+        final byte[] data = "Please use a Minecraft client\n".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(400, data.length);
         try (final OutputStream responseStream = exchange.getResponseBody()) {
             responseStream.write(data);
         }
     }
 
+    private boolean isSamePack(final @Nullable String ifRange) {
+        // no If-Range means that the range is unconditional, dates
+        // are never matched since we don't know when the pack was built
+        return ifRange == null || ifRange.trim().equals(ConditionalResponses.entityTag(pack));
+    }
+
     @Override
     public @NotNull String toString() {
         return "FixedResourcePackRequestHandler{" +
@@ -0,0 +1,79 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server.handler;
+
+import com.sun.net.httpserver.HttpExchange;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Utilities for hash-addressed paths, e.g. {@code /<sha1>.zip},
+ * relative to the handler context path.
+ */
+final class HashPaths {
+    private static final int SHA1_HEX_LENGTH = 40;
+    private static final String ZIP_EXTENSION = ".zip";
+
+    private HashPaths() {
+        throw new UnsupportedOperationException("Can't instantiate utility class");
+    }
+
+    /**
+     * Returns the resource-pack hash requested by the given exchange,
+     * from its path, which must be like {@code <context>/<sha1>} or
+     * {@code <context>/<sha1>.zip}.
+     *
+     * @param exchange The HTTP exchange
+     * @return The lowercase requested hash, null if the path is not hash-addressed
+     */
+    static @Nullable String requestedHash(final @NotNull HttpExchange exchange) {
+        final String path = exchange.getRequestURI().getPath();
+        final String contextPath = exchange.getHttpContext().getPath();
+        if (path == null || !path.startsWith(contextPath)) {
+            return null;
+        }
+
+        int start = contextPath.length();
+        if (start < path.length() && path.charAt(start) == '/') {
+            start++;
+        }
+        int end = path.length();
+        if (path.regionMatches(true, end - ZIP_EXTENSION.length(), ZIP_EXTENSION, 0, ZIP_EXTENSION.length())) {
+            end -= ZIP_EXTENSION.length();
+        }
+        if (end - start != SHA1_HEX_LENGTH) {
+            return null;
+        }
+
+        final char[] hash = new char[SHA1_HEX_LENGTH];
+        for (int i = 0; i < SHA1_HEX_LENGTH; i++) {
+            final char c = Character.toLowerCase(path.charAt(start + i));
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return null;
+            }
+            hash[i] = c;
+        }
+        return new String(hash);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server.handler;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import team.unnamed.creative.BuiltResourcePack;
+
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * A {@link ResourcePackRequestHandler} that serves several resource-packs,
+ * each one at {@code /<hash>.zip} (or {@code /<hash>}), relative to the
+ * handler path, see {@link ResourcePackRequestHandler#hashRouting(boolean)}.
+ *
+ * <p>Requests for unknown hashes, or for paths that are not
+ * hash-addressed, are answered with {@code 404 Not Found}.</p>
+ *
+ * <p>Resource-packs can be registered and unregistered at any time,
+ * from any thread, while the server is running.</p>
+ *
+ * @since 1.8.2
+ */
+@ApiStatus.NonExtendable
+public interface HashRoutingResourcePackRequestHandler extends ResourcePackRequestHandler {
+    /**
+     * Registers the given resource-pack, so that it's served at
+     * {@code /<hash>.zip}. Replaces any resource-pack registered
+     * with the same hash.
+     *
+     * @param pack The resource-pack to register
+     * @since 1.8.2
+     */
+    void register(final @NotNull BuiltResourcePack pack);
+
+    /**
+     * Unregisters the resource-pack with the given hash, downloads
+     * already in progress are not affected.
+     *
+     * @param hash The resource-pack hash
+     * @return The unregistered resource-pack, null if there wasn't
+     * a resource-pack with the given hash
+     * @since 1.8.2
+     */
+    @Nullable BuiltResourcePack unregister(final @NotNull String hash);
+
+    /**
+     * Gets the registered resource-pack with the given hash.
+     *
+     * @param hash The resource-pack hash
+     * @return The resource-pack, null if there isn't a
+     * resource-pack with the given hash
+     * @since 1.8.2
+     */
+    @Nullable BuiltResourcePack pack(final @NotNull String hash);
+
+    /**
+     * Returns the currently registered resource-packs.
+     *
+     * @return The registered resource-packs
+     * @since 1.8.2
+     */
+    @NotNull @Unmodifiable Collection<BuiltResourcePack> packs();
+
+    /**
+     * Returns the path, relative to the handler path, at which the
+     * given resource-pack is served, i.e. {@code <hash>.zip}.
+     *
+     * @param pack The resource-pack
+     * @return The relative path
+     * @since 1.8.2
+     */
+    static @NotNull String path(final @NotNull BuiltResourcePack pack) {
+        return pack.hash().toLowerCase(Locale.ROOT) + ".zip";
+    }
+}
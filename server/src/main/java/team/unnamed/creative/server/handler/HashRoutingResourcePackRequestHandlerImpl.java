@@ -0,0 +1,110 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server.handler;
+
+import com.sun.net.httpserver.HttpExchange;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.server.request.ResourcePackDownloadRequest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+final class HashRoutingResourcePackRequestHandlerImpl implements HashRoutingResourcePackRequestHandler {
+    private final boolean validOnly;
+
+    // lowercase hash -> handler, reads are lock-free
+    private final Map<String, FixedResourcePackRequestHandler> handlers = new ConcurrentHashMap<>();
+
+    HashRoutingResourcePackRequestHandlerImpl(final boolean validOnly) {
+        this.validOnly = validOnly;
+    }
+
+    @Override
+    public void onRequest(final @Nullable ResourcePackDownloadRequest request, final @NotNull HttpExchange exchange) throws IOException {
+        if (request == null && validOnly) {
+            FixedResourcePackRequestHandler.sendNotMinecraftClient(exchange);
+            return;
+        }
+
+        final String hash = HashPaths.requestedHash(exchange);
+        final FixedResourcePackRequestHandler handler = hash == null ? null : handlers.get(hash);
+        if (handler == null) {
+            // unknown pack, no body
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        handler.onRequest(request, exchange);
+    }
+
+    @Override
+    public void register(final @NotNull BuiltResourcePack pack) {
+        requireNonNull(pack, "pack");
+        handlers.put(key(pack.hash()), new FixedResourcePackRequestHandler(pack, false));
+    }
+
+    @Override
+    public @Nullable BuiltResourcePack unregister(final @NotNull String hash) {
+        final FixedResourcePackRequestHandler handler = handlers.remove(key(hash));
+        return handler == null ? null : handler.pack();
+    }
+
+    @Override
+    public @Nullable BuiltResourcePack pack(final @NotNull String hash) {
+        final FixedResourcePackRequestHandler handler = handlers.get(key(hash));
+        return handler == null ? null : handler.pack();
+    }
+
+    @Override
+    public @NotNull @Unmodifiable Collection<BuiltResourcePack> packs() {
+        final List<BuiltResourcePack> packs = new ArrayList<>(handlers.size());
+        for (final FixedResourcePackRequestHandler handler : handlers.values()) {
+            packs.add(handler.pack());
+        }
+        return Collections.unmodifiableList(packs);
+    }
+
+    private static @NotNull String key(final @NotNull String hash) {
+        return requireNonNull(hash, "hash").toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "HashRoutingResourcePackRequestHandler{" +
+                "packs=" + handlers.size() +
+                ", validOnly=" + validOnly +
+                '}';
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server.handler;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.FileBuiltResourcePack;
+import team.unnamed.creative.server.util.ZeroCopyOutput;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents the content of a {@link BuiltResourcePack}
+ * that can be sent to multiple clients.
+ */
+interface PackContent {
+    /**
+     * Creates a {@link PackContent} that reads the pack data on
+     * every request, or streams it from its file if the pack is
+     * a {@link FileBuiltResourcePack}.
+     *
+     * @param pack The resource-pack
+     * @return The pack content
+     */
+    static @NotNull PackContent of(final @NotNull BuiltResourcePack pack) {
+        requireNonNull(pack, "pack");
+        if (pack instanceof FileBuiltResourcePack) {
+            final FileBuiltResourcePack filePack = (FileBuiltResourcePack) pack;
+            return () -> {
+                final FileChannel channel = FileChannel.open(filePack.path(), StandardOpenOption.READ);
+                try {
+                    return new FileOpened(filePack.path(), channel);
+                } catch (final IOException e) {
+                    channel.close();
+                    throw e;
+                }
+            };
+        } else {
+            return () -> new BufferOpened(ByteBuffer.wrap(pack.data().toByteArray()));
+        }
+    }
+
+    /**
+     * Creates a {@link PackContent} that materializes the pack
+     * data once, then shares it (read-only) with all the requests.
+     *
+     * @param pack   The resource-pack
+     * @param direct Whether to store the data off-heap, in a direct buffer
+     * @return The pack content
+     * @throws IOException If reading the pack data fails
+     */
+    static @NotNull PackContent buffered(final @NotNull BuiltResourcePack pack, final boolean direct) throws IOException {
+        requireNonNull(pack, "pack");
+        final byte[] bytes = pack.data().toByteArray();
+        final ByteBuffer shared;
+        if (direct) {
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes);
+            buffer.flip();
+            shared = buffer.asReadOnlyBuffer();
+        } else {
+            // not wrapped as read-only so its array can be accessed,
+            // but it is never modified
+            shared = ByteBuffer.wrap(bytes);
+        }
+        return () -> new BufferOpened(shared.duplicate());
+    }
+
+    /**
+     * Opens the content for a single request.
+     *
+     * @return The opened content, must be closed after use
+     * @throws IOException If opening the content fails
+     */
+    @NotNull Opened open() throws IOException;
+
+    /**
+     * Represents a {@link PackContent} opened for a single request.
+     */
+    interface Opened extends Closeable {
+        /**
+         * Returns the content length, in bytes.
+         *
+         * @return The content length
+         */
+        long length();
+
+        /**
+         * Writes a range of the content to the given output stream.
+         *
+         * @param output The output stream
+         * @param offset The range start, inclusive
+         * @param length The range length
+         * @throws IOException If writing fails
+         */
+        void writeTo(final @NotNull OutputStream output, final long offset, final long length) throws IOException;
+
+        @Override
+        default void close() throws IOException {
+        }
+    }
+
+    final class BufferOpened implements Opened {
+        private final ByteBuffer buffer;
+
+        BufferOpened(final @NotNull ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public long length() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public void writeTo(final @NotNull OutputStream output, final long offset, final long length) throws IOException {
+            final ByteBuffer slice = buffer.duplicate();
+            slice.position(slice.position() + (int) offset);
+            slice.limit(slice.position() + (int) length);
+            if (output instanceof ZeroCopyOutput) {
+                // shared with the output, never modified
+                ((ZeroCopyOutput) output).writeShared(slice);
+            } else if (slice.hasArray()) {
+                // heap buffer, write directly from its array, no copies
+                output.write(slice.array(), slice.arrayOffset() + slice.position(), slice.remaining());
+            } else {
+                // direct buffer, copied to the stream in small chunks
+                final WritableByteChannel channel = Channels.newChannel(output);
+                while (slice.hasRemaining()) {
+                    channel.write(slice);
+                }
+            }
+        }
+    }
+
+    final class FileOpened implements Opened {
+        private final Path path;
+        private final FileChannel channel;
+        private final long length;
+
+        FileOpened(final @NotNull Path path, final @NotNull FileChannel channel) throws IOException {
+            this.path = path;
+            this.channel = channel;
+            this.length = channel.size();
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public void writeTo(final @NotNull OutputStream output, final long offset, final long length) throws IOException {
+            if (output instanceof ZeroCopyOutput) {
+                // the output sends the file by itself
+                ((ZeroCopyOutput) output).transferFile(path, offset, length);
+                return;
+            }
+            final WritableByteChannel target = Channels.newChannel(output);
+            long position = offset;
+            final long end = offset + length;
+            while (position < end) {
+                position += channel.transferTo(position, end - position, target);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
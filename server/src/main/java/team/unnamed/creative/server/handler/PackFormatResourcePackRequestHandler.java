@@ -0,0 +1,163 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server.handler;
+
+import com.sun.net.httpserver.HttpExchange;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.metadata.pack.PackFormat;
+import team.unnamed.creative.server.request.ResourcePackDownloadRequest;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+
+import static java.util.Objects.requireNonNull;
+
+final class PackFormatResourcePackRequestHandler implements ResourcePackRequestHandler {
+    private final IntFunction<? extends BuiltResourcePack> builder;
+    private final PackFormat supportedFormats;
+    private final boolean validOnly;
+
+    // access-ordered, so the least recently requested built variant is evicted
+    private final VariantCache variants;
+
+    PackFormatResourcePackRequestHandler(
+            final @NotNull IntFunction<? extends BuiltResourcePack> builder,
+            final @NotNull PackFormat supportedFormats,
+            final int maxCachedPacks,
+            final boolean validOnly
+    ) {
+        if (maxCachedPacks < 1) {
+            throw new IllegalArgumentException("maxCachedPacks must be at least 1, got " + maxCachedPacks);
+        }
+        this.builder = requireNonNull(builder, "builder");
+        this.supportedFormats = requireNonNull(supportedFormats, "supportedFormats");
+        this.validOnly = validOnly;
+        this.variants = new VariantCache(maxCachedPacks);
+    }
+
+    @Override
+    public void onRequest(final @Nullable ResourcePackDownloadRequest request, final @NotNull HttpExchange exchange) throws IOException {
+        if (request == null && validOnly) {
+            FixedResourcePackRequestHandler.sendNotMinecraftClient(exchange);
+            return;
+        }
+
+        // the pack format is sent by the client, only a known set of formats
+        // can be built and cached, unknown clients get the newest one
+        final int packFormat = request == null ? supportedFormats.max() : clamp(request.packFormat());
+        final ResourcePackRequestHandler variant;
+        try {
+            variant = variant(packFormat).join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException("Failed to build resource-pack for pack format " + packFormat, cause);
+        }
+
+        // validity was already checked
+        variant.onRequest(request, exchange);
+    }
+
+    private int clamp(final int packFormat) {
+        return Math.max(supportedFormats.min(), Math.min(supportedFormats.max(), packFormat));
+    }
+
+    private @NotNull CompletableFuture<ResourcePackRequestHandler> variant(final int packFormat) {
+        final CompletableFuture<ResourcePackRequestHandler> future;
+        synchronized (variants) {
+            final CompletableFuture<ResourcePackRequestHandler> existing = variants.get(packFormat);
+            if (existing != null) {
+                return existing;
+            }
+            future = new CompletableFuture<>();
+            variants.put(packFormat, future);
+        }
+
+        // build outside the lock, concurrent requests for the
+        // same pack format will wait for this build
+        try {
+            final BuiltResourcePack pack = requireNonNull(builder.apply(packFormat), "Built resource-pack is null");
+            // data is read once and shared by every request for this variant
+            future.complete(ResourcePackRequestHandler.buffered(pack, false, false));
+            synchronized (variants) {
+                variants.evictBuilt();
+            }
+        } catch (final Throwable e) {
+            synchronized (variants) {
+                // don't cache failures, next request will try again
+                variants.remove(packFormat, future);
+            }
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private static final class VariantCache extends LinkedHashMap<Integer, CompletableFuture<ResourcePackRequestHandler>> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+
+        VariantCache(final int maxSize) {
+            super(16, 0.75F, true);
+            this.maxSize = maxSize;
+        }
+
+        // only built variants count towards the limit, evicting a variant
+        // that is still being built would make the next requests build it again
+        void evictBuilt() {
+            int built = 0;
+            for (final CompletableFuture<ResourcePackRequestHandler> variant : values()) {
+                if (variant.isDone()) {
+                    built++;
+                }
+            }
+            final Iterator<CompletableFuture<ResourcePackRequestHandler>> iterator = values().iterator();
+            while (built > maxSize && iterator.hasNext()) {
+                if (iterator.next().isDone()) {
+                    iterator.remove();
+                    built--;
+                }
+            }
+        }
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "PackFormatResourcePackRequestHandler{" +
+                "builder=" + builder +
+                ", supportedFormats=" + supportedFormats +
+                ", validOnly=" + validOnly +
+                '}';
+    }
+}
@@ -28,9 +28,11 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.metadata.pack.PackFormat;
 import team.unnamed.creative.server.request.ResourcePackDownloadRequest;
 
 import java.io.IOException;
+import java.util.function.IntFunction;
 
 /**
  * Responsible for handling resource-pack download requests.
@@ -47,6 +49,10 @@ public interface ResourcePackRequestHandler {
      * Creates a new {@link ResourcePackRequestHandler} instance
      * that will always return the given resource-pack.
      *
+     * <p>If the given pack is a {@link team.unnamed.creative.FileBuiltResourcePack},
+     * it is sent directly from its file, without loading it
+     * into memory.</p>
+     *
      * @param pack      The resource-pack to return
      * @param validOnly Whether to only return the resource-pack
      *                  if the request is valid (has all the values
@@ -72,6 +78,106 @@ public interface ResourcePackRequestHandler {
         return fixed(pack, false);
     }
 
+    /**
+     * Creates a new {@link ResourcePackRequestHandler} instance
+     * that will always return the given resource-pack.
+     *
+     * <p>Unlike {@link #fixed(BuiltResourcePack, boolean)}, the
+     * resource-pack data is read only once, here, and then shared
+     * by all the requests, so no copies are made per request.</p>
+     *
+     * @param pack      The resource-pack to return
+     * @param validOnly Whether to only return the resource-pack
+     *                  if the request is valid (has all the values
+     *                  that a Minecraft vanilla client would send)
+     * @param direct    Whether to store the resource-pack data in
+     *                  a direct (off-heap) buffer
+     * @return The new handler instance
+     * @throws IOException If reading the resource-pack data fails
+     * @since 1.8.2
+     */
+    @Contract("_, _, _ -> new")
+    static @NotNull ResourcePackRequestHandler buffered(final @NotNull BuiltResourcePack pack, final boolean validOnly, final boolean direct) throws IOException {
+        return new FixedResourcePackRequestHandler(pack, validOnly, PackContent.buffered(pack, direct));
+    }
+
+    /**
+     * Creates a new {@link ResourcePackRequestHandler} instance
+     * that returns a different resource-pack variant per requested
+     * {@link ResourcePackDownloadRequest#packFormat() pack format}.
+     *
+     * <p>The pack format sent by the client is clamped to the given
+     * range of supported formats, so that clients can't make the
+     * server build arbitrary variants. Variants are lazily built
+     * using the given function, which receives the clamped pack
+     * format (the {@link PackFormat#max() max} supported format if the
+     * request couldn't be parsed and {@code validOnly} is false), for
+     * example:</p>
+     * <pre>{@code
+     * ResourcePackRequestHandler.perPackFormat(packFormat -> MinecraftResourcePackWriter.builder()
+     *         .targetPackFormat(packFormat)
+     *         .build()
+     *         .build(resourcePack), PackFormat.format(34, 22, 46), 8, true);
+     * }</pre>
+     *
+     * <p>At most {@code maxCachedPacks} built variants are kept, the
+     * least recently requested ones are discarded, variants that are
+     * still being built are never discarded. Concurrent requests for
+     * the same pack format wait for a single build. Like in
+     * {@link #buffered(BuiltResourcePack, boolean, boolean)}, the data
+     * of every variant is read once and shared by all its requests.</p>
+     *
+     * @param builder          The resource-pack builder function
+     * @param supportedFormats The supported pack formats, only its
+     *                         {@link PackFormat#min() min} and {@link PackFormat#max() max}
+     *                         formats are used
+     * @param maxCachedPacks   The maximum amount of cached variants
+     * @param validOnly        Whether to only return resource-packs
+     *                         if the request is valid (has all the values
+     *                         that a Minecraft vanilla client would send)
+     * @return The new handler instance
+     * @since 1.8.2
+     */
+    @Contract("_, _, _, _ -> new")
+    static @NotNull ResourcePackRequestHandler perPackFormat(final @NotNull IntFunction<? extends BuiltResourcePack> builder, final @NotNull PackFormat supportedFormats, final int maxCachedPacks, final boolean validOnly) {
+        return new PackFormatResourcePackRequestHandler(builder, supportedFormats, maxCachedPacks, validOnly);
+    }
+
+    /**
+     * Creates a new {@link SwappableResourcePackRequestHandler} instance
+     * that returns the given resource-pack, until it is replaced using
+     * {@link SwappableResourcePackRequestHandler#swap(BuiltResourcePack)}.
+     *
+     * @param pack         The initial resource-pack to return
+     * @param validOnly    Whether to only return the resource-pack
+     *                     if the request is valid (has all the values
+     *                     that a Minecraft vanilla client would send)
+     * @param keepPrevious The number of replaced resource-packs that
+     *                     can still be requested by hash
+     * @return The new handler instance
+     * @since 1.8.2
+     */
+    @Contract("_, _, _ -> new")
+    static @NotNull SwappableResourcePackRequestHandler swappable(final @NotNull BuiltResourcePack pack, final boolean validOnly, final int keepPrevious) {
+        return new SwappableResourcePackRequestHandlerImpl(pack, validOnly, keepPrevious);
+    }
+
+    /**
+     * Creates a new {@link HashRoutingResourcePackRequestHandler} instance,
+     * without registered resource-packs, that serves every registered
+     * resource-pack at {@code /<hash>.zip}.
+     *
+     * @param validOnly Whether to only return the resource-packs
+     *                  if the request is valid (has all the values
+     *                  that a Minecraft vanilla client would send)
+     * @return The new handler instance
+     * @since 1.8.2
+     */
+    @Contract("_ -> new")
+    static @NotNull HashRoutingResourcePackRequestHandler hashRouting(final boolean validOnly) {
+        return new HashRoutingResourcePackRequestHandlerImpl(validOnly);
+    }
+
     /**
      * Handles a resource pack request, the resulting resource
      * pack is written to {@link HttpExchange#getResponseBody()}
@@ -0,0 +1,80 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server.handler;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+import team.unnamed.creative.BuiltResourcePack;
+
+import java.util.Collection;
+
+/**
+ * A {@link ResourcePackRequestHandler} that serves a resource-pack
+ * which can be atomically replaced while the server is running,
+ * see {@link ResourcePackRequestHandler#swappable(BuiltResourcePack, boolean, int)}.
+ *
+ * <p>Downloads that already started when the resource-pack is
+ * swapped finish with the old resource-pack.</p>
+ *
+ * <p>Requests to {@code /<hash>.zip} (or {@code /<hash>}), relative
+ * to the handler path, are answered with the resource-pack with the
+ * given hash, if it is the current one or one of the last previous
+ * ones, so that clients that received the URL of the previous
+ * resource-pack can still download it.</p>
+ *
+ * @since 1.8.2
+ */
+@ApiStatus.NonExtendable
+public interface SwappableResourcePackRequestHandler extends ResourcePackRequestHandler {
+    /**
+     * Returns the resource-pack currently served.
+     *
+     * @return The current resource-pack
+     * @since 1.8.2
+     */
+    @NotNull BuiltResourcePack pack();
+
+    /**
+     * Atomically replaces the served resource-pack.
+     *
+     * <p>The replaced resource-pack is kept servable by its hash
+     * if this handler keeps previous resource-packs.</p>
+     *
+     * @param pack The new resource-pack
+     * @return The replaced resource-pack
+     * @since 1.8.2
+     */
+    @NotNull BuiltResourcePack swap(final @NotNull BuiltResourcePack pack);
+
+    /**
+     * Returns the resource-packs that can be requested by hash:
+     * the current resource-pack, and then the previous ones, from
+     * the most to the least recent.
+     *
+     * @return The servable resource-packs
+     * @since 1.8.2
+     */
+    @NotNull @Unmodifiable Collection<BuiltResourcePack> servablePacks();
+}
@@ -0,0 +1,145 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server.handler;
+
+import com.sun.net.httpserver.HttpExchange;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.server.request.ResourcePackDownloadRequest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Objects.requireNonNull;
+
+final class SwappableResourcePackRequestHandlerImpl implements SwappableResourcePackRequestHandler {
+    private final boolean validOnly;
+    private final int keepPrevious;
+
+    // immutable snapshot, replaced on swap
+    private final AtomicReference<State> state;
+
+    SwappableResourcePackRequestHandlerImpl(final @NotNull BuiltResourcePack pack, final boolean validOnly, final int keepPrevious) {
+        if (keepPrevious < 0) {
+            throw new IllegalArgumentException("keepPrevious must be non-negative, got " + keepPrevious);
+        }
+        this.validOnly = validOnly;
+        this.keepPrevious = keepPrevious;
+        this.state = new AtomicReference<>(new State(Collections.singletonList(
+                new FixedResourcePackRequestHandler(requireNonNull(pack, "pack"), false)
+        )));
+    }
+
+    @Override
+    public void onRequest(final @Nullable ResourcePackDownloadRequest request, final @NotNull HttpExchange exchange) throws IOException {
+        if (request == null && validOnly) {
+            FixedResourcePackRequestHandler.sendNotMinecraftClient(exchange);
+            return;
+        }
+
+        // read once, so that a concurrent swap doesn't affect this download
+        final State state = this.state.get();
+        FixedResourcePackRequestHandler handler = null;
+
+        final String requestedHash = HashPaths.requestedHash(exchange);
+        if (requestedHash != null) {
+            handler = state.find(requestedHash);
+        }
+        if (handler == null) {
+            handler = state.handlers.get(0);
+        }
+        handler.onRequest(request, exchange);
+    }
+
+    @Override
+    public @NotNull BuiltResourcePack pack() {
+        return state.get().handlers.get(0).pack();
+    }
+
+    @Override
+    public @NotNull BuiltResourcePack swap(final @NotNull BuiltResourcePack pack) {
+        final FixedResourcePackRequestHandler handler = new FixedResourcePackRequestHandler(requireNonNull(pack, "pack"), false);
+        State previous;
+        State next;
+        do {
+            previous = state.get();
+            final List<FixedResourcePackRequestHandler> handlers = new ArrayList<>(keepPrevious + 1);
+            handlers.add(handler);
+            for (final FixedResourcePackRequestHandler old : previous.handlers) {
+                if (handlers.size() > keepPrevious) {
+                    break;
+                }
+                if (!old.pack().hash().equals(pack.hash())) {
+                    handlers.add(old);
+                }
+            }
+            next = new State(Collections.unmodifiableList(handlers));
+        } while (!state.compareAndSet(previous, next));
+        return previous.handlers.get(0).pack();
+    }
+
+    @Override
+    public @NotNull @Unmodifiable Collection<BuiltResourcePack> servablePacks() {
+        final List<FixedResourcePackRequestHandler> handlers = state.get().handlers;
+        final List<BuiltResourcePack> packs = new ArrayList<>(handlers.size());
+        for (final FixedResourcePackRequestHandler handler : handlers) {
+            packs.add(handler.pack());
+        }
+        return Collections.unmodifiableList(packs);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "SwappableResourcePackRequestHandler{" +
+                "pack=" + pack() +
+                ", validOnly=" + validOnly +
+                ", keepPrevious=" + keepPrevious +
+                '}';
+    }
+
+    private static final class State {
+        // current first, then previous ones
+        private final List<FixedResourcePackRequestHandler> handlers;
+
+        State(final @NotNull List<FixedResourcePackRequestHandler> handlers) {
+            this.handlers = handlers;
+        }
+
+        @Nullable FixedResourcePackRequestHandler find(final @NotNull String hash) {
+            // linear search, there are only a few
+            for (final FixedResourcePackRequestHandler handler : handlers) {
+                if (handler.pack().hash().equalsIgnoreCase(hash)) {
+                    return handler;
+                }
+            }
+            return null;
+        }
+    }
+}
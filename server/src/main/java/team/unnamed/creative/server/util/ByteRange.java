@@ -0,0 +1,190 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server.util;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents a single range of bytes requested using the
+ * HTTP {@code Range} header, see RFC 9110, section 14.
+ */
+@ApiStatus.Internal
+public final class ByteRange {
+    /**
+     * Returned by {@link #parse(String, long)} when the requested
+     * range can't be satisfied, the server should respond with
+     * {@code 416 Range Not Satisfiable}.
+     */
+    public static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    private static final String UNIT_PREFIX = "bytes=";
+
+    private final long start;
+    private final long end;
+
+    private ByteRange(final long start, final long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Parses the given {@code Range} header value for a content with
+     * the given length.
+     *
+     * <p>Only single byte ranges are supported, {@code null} is returned
+     * if the header is absent, malformed, uses another unit or requests
+     * multiple ranges, meaning that the range should be ignored and the
+     * full content should be sent.</p>
+     *
+     * @param header        The Range header value
+     * @param contentLength The full content length
+     * @return The requested range, {@link #UNSATISFIABLE} or {@code null}
+     */
+    public static @Nullable ByteRange parse(final @Nullable String header, final long contentLength) {
+        if (header == null || !header.regionMatches(true, 0, UNIT_PREFIX, 0, UNIT_PREFIX.length())) {
+            return null;
+        }
+
+        final String spec = header.substring(UNIT_PREFIX.length()).trim();
+        if (spec.indexOf(',') != -1) {
+            // multiple ranges, not supported
+            return null;
+        }
+
+        final int dash = spec.indexOf('-');
+        if (dash == -1) {
+            return null;
+        }
+
+        final String rawStart = spec.substring(0, dash).trim();
+        final String rawEnd = spec.substring(dash + 1).trim();
+        final long start;
+        final long end;
+
+        try {
+            if (rawStart.isEmpty()) {
+                // suffix range: "bytes=-N", the last N bytes
+                if (rawEnd.isEmpty()) {
+                    return null;
+                }
+                final long suffixLength = parseNonNegative(rawEnd);
+                if (suffixLength == 0 || contentLength == 0) {
+                    return UNSATISFIABLE;
+                }
+                start = Math.max(0, contentLength - suffixLength);
+                end = contentLength - 1;
+            } else {
+                start = parseNonNegative(rawStart);
+                if (rawEnd.isEmpty()) {
+                    end = contentLength - 1;
+                } else {
+                    final long requestedEnd = parseNonNegative(rawEnd);
+                    if (requestedEnd < start) {
+                        return null;
+                    }
+                    end = Math.min(requestedEnd, contentLength - 1);
+                }
+                if (start >= contentLength) {
+                    return UNSATISFIABLE;
+                }
+            }
+        } catch (final NumberFormatException ignored) {
+            return null;
+        }
+
+        return new ByteRange(start, end);
+    }
+
+    private static long parseNonNegative(final @NotNull String value) {
+        final long parsed = Long.parseLong(value);
+        if (parsed < 0 || value.charAt(0) == '+') {
+            throw new NumberFormatException("Not a non-negative number: " + value);
+        }
+        return parsed;
+    }
+
+    /**
+     * Returns the position of the first byte of this range.
+     *
+     * @return The range start, inclusive
+     */
+    public long start() {
+        return start;
+    }
+
+    /**
+     * Returns the position of the last byte of this range.
+     *
+     * @return The range end, inclusive
+     */
+    public long end() {
+        return end;
+    }
+
+    /**
+     * Returns the number of bytes in this range.
+     *
+     * @return The range length
+     */
+    public long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * Returns the {@code Content-Range} header value for this
+     * range, for a content with the given length.
+     *
+     * @param contentLength The full content length
+     * @return The Content-Range header value
+     */
+    public @NotNull String contentRange(final long contentLength) {
+        if (this == UNSATISFIABLE) {
+            return "bytes */" + contentLength;
+        }
+        return "bytes " + start + '-' + end + '/' + contentLength;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "ByteRange{" +
+                "start=" + start +
+                ", end=" + end +
+                '}';
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final ByteRange that = (ByteRange) o;
+        return start == that.start && end == that.end;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(start) + Long.hashCode(end);
+    }
+}
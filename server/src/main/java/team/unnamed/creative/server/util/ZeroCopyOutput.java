@@ -0,0 +1,65 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server.util;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * Implemented by response {@link java.io.OutputStream}s that can
+ * send shared buffers and file regions without copying them, e.g.
+ * the ones created by the NIO server backend.
+ *
+ * <p>Handlers check for this interface and fall back to the
+ * regular {@link java.io.OutputStream} methods otherwise.</p>
+ */
+@ApiStatus.Internal
+public interface ZeroCopyOutput {
+    /**
+     * Writes the remaining bytes of the given buffer.
+     *
+     * <p>The buffer may be retained and written later, so its content
+     * must never be modified. Its position and limit are not changed.</p>
+     *
+     * @param buffer The buffer to write
+     * @throws IOException If writing fails
+     */
+    void writeShared(final @NotNull ByteBuffer buffer) throws IOException;
+
+    /**
+     * Writes a region of the given file.
+     *
+     * <p>The file may be read later, so it must not be modified.</p>
+     *
+     * @param path     The file path
+     * @param position The region start, inclusive
+     * @param count    The region length
+     * @throws IOException If writing fails
+     */
+    void transferFile(final @NotNull Path path, final long position, final long count) throws IOException;
+}
@@ -0,0 +1,157 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.base.Writable;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackWriter;
+import team.unnamed.creative.server.handler.ResourcePackRequestHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class BandwidthThrottleTest {
+
+    private static final int PORT = 7275;
+
+    @Test
+    @DisplayName("Test that a single connection is throttled")
+    void test_per_connection() throws IOException {
+        BandwidthThrottle throttle = BandwidthThrottle.throttle(0, 200 * 1024);
+        long start = System.nanoTime();
+        write(throttle, 100 * 1024);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 100 KB at 200 KB/s, minus the initial burst
+        Assertions.assertTrue(elapsed >= 400, "Took " + elapsed + "ms");
+        Assertions.assertEquals(100 * 1024, throttle.bytesSent());
+        Assertions.assertEquals(0, throttle.activeTransfers());
+    }
+
+    @Test
+    @DisplayName("Test that the global bandwidth is shared fairly")
+    void test_global_fairness() throws Exception {
+        BandwidthThrottle throttle = BandwidthThrottle.throttle(200 * 1024, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            long start = System.nanoTime();
+            Future<Long> first = executor.submit(() -> {
+                write(throttle, 50 * 1024);
+                return System.nanoTime() - start;
+            });
+            Future<Long> second = executor.submit(() -> {
+                write(throttle, 50 * 1024);
+                return System.nanoTime() - start;
+            });
+            long firstElapsed = TimeUnit.NANOSECONDS.toMillis(first.get(1, TimeUnit.MINUTES));
+            long secondElapsed = TimeUnit.NANOSECONDS.toMillis(second.get(1, TimeUnit.MINUTES));
+
+            // both share the bandwidth, so both end at nearly the same time
+            Assertions.assertTrue(Math.max(firstElapsed, secondElapsed) >= 400, "Took " + firstElapsed + "ms and " + secondElapsed + "ms");
+            Assertions.assertTrue(Math.abs(firstElapsed - secondElapsed) < 150, "Took " + firstElapsed + "ms and " + secondElapsed + "ms");
+            Assertions.assertEquals(100 * 1024, throttle.bytesSent());
+            Assertions.assertEquals(0, throttle.queuedTransfers());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Test that a bucket idle for a long time doesn't overflow")
+    void test_long_idle_bucket() throws IOException {
+        // 100 Mbit/s, idle for 800 seconds
+        TokenBucket bucket = new TokenBucket(100_000_000L / 8);
+        bucket.lastRefill -= TimeUnit.SECONDS.toNanos(800);
+
+        long start = System.nanoTime();
+        bucket.acquire(bucket.chunkSize());
+        bucket.acquire(bucket.chunkSize());
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // the second chunk takes ~50ms at most
+        Assertions.assertTrue(elapsed < 1000, "Took " + elapsed + "ms");
+    }
+
+    @Test
+    @DisplayName("Test that throttled downloads are correct")
+    void test_http_download() throws IOException {
+        byte[] data = new byte[64 * 1024];
+        new Random(7275).nextBytes(data);
+        BuiltResourcePack pack = MinecraftResourcePackWriter.minecraft().build(resourcePack -> {
+            resourcePack.packMeta(8, "Throttled resource pack!");
+            resourcePack.unknownFile("data.bin", Writable.bytes(data));
+        });
+        byte[] expected = pack.data().toByteArray();
+
+        BandwidthThrottle throttle = BandwidthThrottle.throttle(1024 * 1024, 512 * 1024);
+        ResourcePackServer server = ResourcePackServer.server()
+                .address(new InetSocketAddress(PORT))
+                .handler(ResourcePackRequestHandler.fixed(pack))
+                .throttle(throttle)
+                .build();
+        server.start();
+
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + PORT + "/").openConnection();
+            connection.setRequestMethod("GET");
+            try (InputStream input = connection.getInputStream()) {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                byte[] buf = new byte[1024];
+                int read;
+                while ((read = input.read(buf)) != -1) {
+                    output.write(buf, 0, read);
+                }
+                Assertions.assertArrayEquals(expected, output.toByteArray());
+            }
+            Assertions.assertEquals(expected.length, throttle.bytesSent());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static void write(BandwidthThrottle throttle, int length) throws IOException {
+        byte[] data = new byte[4096];
+        try (OutputStream output = throttle.start(new ByteArrayOutputStream())) {
+            for (int written = 0; written < length; written += data.length) {
+                output.write(data, 0, Math.min(data.length, length - written));
+            }
+        } finally {
+            throttle.finish();
+        }
+    }
+
+}
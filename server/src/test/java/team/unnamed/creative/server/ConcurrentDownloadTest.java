@@ -0,0 +1,132 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.base.Writable;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackWriter;
+import team.unnamed.creative.server.handler.ResourcePackRequestHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Downloads the same resource-pack from many threads at the
+ * same time, checking that the buffered handlers serve the
+ * shared data correctly. Throughput is measured by the
+ * {@code ServerBenchmark} JMH benchmark instead.
+ */
+class ConcurrentDownloadTest {
+
+    private static final int PORT = 7272;
+    private static final int CLIENTS = 4;
+    private static final int DOWNLOADS_PER_CLIENT = 2;
+
+    private static BuiltResourcePack resourcePack;
+    private static byte[] expected;
+
+    @BeforeAll
+    static void setup() throws IOException {
+        // random data so that it is not compressed
+        byte[] data = new byte[256 * 1024];
+        new Random(7270).nextBytes(data);
+        resourcePack = MinecraftResourcePackWriter.minecraft().build(pack -> {
+            pack.packMeta(8, "Concurrent download test!");
+            pack.unknownFile("data.bin", Writable.bytes(data));
+        });
+        expected = resourcePack.data().toByteArray();
+    }
+
+    @Test
+    @DisplayName("Test concurrent downloads using the buffered (heap) handler")
+    void test_buffered_heap() throws Exception {
+        downloadConcurrently(ResourcePackRequestHandler.buffered(resourcePack, false, false));
+    }
+
+    @Test
+    @DisplayName("Test concurrent downloads using the buffered (direct) handler")
+    void test_buffered_direct() throws Exception {
+        downloadConcurrently(ResourcePackRequestHandler.buffered(resourcePack, false, true));
+    }
+
+    private void downloadConcurrently(ResourcePackRequestHandler handler) throws Exception {
+        ExecutorService serverExecutor = Executors.newFixedThreadPool(CLIENTS);
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(CLIENTS);
+        ResourcePackServer server = ResourcePackServer.server()
+                .address(new InetSocketAddress(PORT))
+                .handler(handler)
+                .executor(serverExecutor)
+                .build();
+        server.start();
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                futures.add(clientExecutor.submit(() -> {
+                    for (int j = 0; j < DOWNLOADS_PER_CLIENT; j++) {
+                        Assertions.assertArrayEquals(expected, download());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            server.stop(0);
+            clientExecutor.shutdownNow();
+            serverExecutor.shutdownNow();
+        }
+    }
+
+    private static byte[] download() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + PORT + "/").openConnection();
+        connection.setRequestMethod("GET");
+        try (InputStream input = connection.getInputStream()) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(expected.length);
+            byte[] buf = new byte[8192];
+            int read;
+            while ((read = input.read(buf)) != -1) {
+                output.write(buf, 0, read);
+            }
+            return output.toByteArray();
+        }
+    }
+
+}
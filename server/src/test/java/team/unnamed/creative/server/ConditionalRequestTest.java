@@ -0,0 +1,65 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+
+class ConditionalRequestTest extends LocalHttpTestBase {
+
+    @Test
+    @DisplayName("Test that the pack hash is sent as ETag")
+    void test_etag() throws IOException {
+        HttpURLConnection connection = openMinecraft("/");
+
+        Assertions.assertEquals(200, connection.getResponseCode());
+        Assertions.assertEquals("\"" + resourcePack.hash() + "\"", connection.getHeaderField("ETag"));
+        Assertions.assertArrayEquals(resourcePack.data().toByteArray(), read(connection));
+    }
+
+    @Test
+    @DisplayName("Test that the pack is not sent again if the client has it")
+    void test_not_modified() throws IOException {
+        HttpURLConnection connection = openMinecraft("/");
+        connection.setRequestProperty("If-None-Match", "\"" + resourcePack.hash() + "\"");
+
+        Assertions.assertEquals(304, connection.getResponseCode());
+        Assertions.assertEquals("\"" + resourcePack.hash() + "\"", connection.getHeaderField("ETag"));
+    }
+
+    @Test
+    @DisplayName("Test that the pack is sent if the client has another pack")
+    void test_modified() throws IOException {
+        HttpURLConnection connection = openMinecraft("/");
+        connection.setRequestProperty("If-None-Match", "\"0000000000000000000000000000000000000000\"");
+
+        Assertions.assertEquals(200, connection.getResponseCode());
+        Assertions.assertArrayEquals(resourcePack.data().toByteArray(), read(connection));
+    }
+
+}
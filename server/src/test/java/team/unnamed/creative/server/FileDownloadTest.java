@@ -0,0 +1,110 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.FileBuiltResourcePack;
+import team.unnamed.creative.ResourcePack;
+import team.unnamed.creative.base.Writable;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class FileDownloadTest {
+
+    private static final int PORT = 7271;
+
+    private static Path file;
+    private static FileBuiltResourcePack resourcePack;
+    private static ResourcePackServer server;
+
+    @BeforeAll
+    static void setup() throws Exception {
+        ResourcePack pack = ResourcePack.resourcePack();
+        pack.packMeta(8, "File resource pack!");
+        for (int i = 0; i < 100; i++) {
+            pack.unknownFile("file_" + i + ".txt", Writable.stringUtf8("File number " + i));
+        }
+
+        file = Files.createTempFile("creative-pack", ".zip");
+        resourcePack = MinecraftResourcePackWriter.minecraft().buildToFile(file, pack);
+        server = ResourcePackServer.server()
+                .address(new InetSocketAddress(PORT))
+                .pack(resourcePack)
+                .build();
+        server.start();
+    }
+
+    @AfterAll
+    static void stopServer() throws IOException {
+        server.stop(0);
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("Test that the file-backed pack is the same as the in-memory pack")
+    void test_same_as_in_memory() throws IOException {
+        BuiltResourcePack inMemory = MinecraftResourcePackWriter.minecraft().build(pack -> {
+            pack.packMeta(8, "File resource pack!");
+            for (int i = 0; i < 100; i++) {
+                pack.unknownFile("file_" + i + ".txt", Writable.stringUtf8("File number " + i));
+            }
+        });
+        Assertions.assertEquals(inMemory.hash(), resourcePack.hash());
+        Assertions.assertArrayEquals(inMemory.data().toByteArray(), Files.readAllBytes(file));
+    }
+
+    @Test
+    @DisplayName("Test that a file-backed pack is downloaded using HTTP")
+    void test_http_download() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + PORT + "/").openConnection();
+        connection.setRequestMethod("GET");
+
+        try (InputStream input = connection.getInputStream()) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buf = new byte[1024];
+            int read;
+            while ((read = input.read(buf)) != -1) {
+                output.write(buf, 0, read);
+            }
+
+            Assertions.assertEquals("application/zip", connection.getContentType());
+            Assertions.assertEquals(Files.size(file), connection.getContentLengthLong());
+            Assertions.assertArrayEquals(Files.readAllBytes(file), output.toByteArray());
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.server.handler.HashRoutingResourcePackRequestHandler;
+import team.unnamed.creative.server.handler.ResourcePackRequestHandler;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+class HashRoutingDownloadTest {
+
+    private static final int PORT = 7278;
+
+    @Test
+    @DisplayName("Test that registered packs are served by hash")
+    void test_routing() throws IOException {
+        BuiltResourcePack survival = LocalHttp.build("Survival");
+        BuiltResourcePack creative = LocalHttp.build("Creative");
+
+        HashRoutingResourcePackRequestHandler handler = ResourcePackRequestHandler.hashRouting(true);
+        handler.register(survival);
+        handler.register(creative);
+
+        ResourcePackServer server = ResourcePackServer.server()
+                .address(new InetSocketAddress(PORT))
+                .path("/packs")
+                .handler(handler)
+                .build();
+        server.start();
+
+        try {
+            Assertions.assertEquals(survival.hash() + ".zip", HashRoutingResourcePackRequestHandler.path(survival));
+            Assertions.assertArrayEquals(survival.data().toByteArray(), LocalHttp.download(PORT, "/packs/" + HashRoutingResourcePackRequestHandler.path(survival)));
+            Assertions.assertArrayEquals(creative.data().toByteArray(), LocalHttp.download(PORT, "/packs/" + creative.hash()));
+            Assertions.assertArrayEquals(creative.data().toByteArray(), LocalHttp.download(PORT, "/packs/" + creative.hash().toUpperCase() + ".zip"));
+
+            // unknown hash and non hash-addressed paths
+            Assertions.assertEquals(404, LocalHttp.openMinecraft(PORT, "/packs/0000000000000000000000000000000000000000.zip").getResponseCode());
+            Assertions.assertEquals(404, LocalHttp.openMinecraft(PORT, "/packs/").getResponseCode());
+            Assertions.assertEquals(404, LocalHttp.openMinecraft(PORT, "/packs/survival.zip").getResponseCode());
+
+            Assertions.assertSame(survival, handler.unregister(survival.hash()));
+            Assertions.assertNull(handler.unregister(survival.hash()));
+            Assertions.assertNull(handler.pack(survival.hash()));
+            Assertions.assertEquals(1, handler.packs().size());
+            Assertions.assertEquals(404, LocalHttp.openMinecraft(PORT, "/packs/" + survival.hash() + ".zip").getResponseCode());
+            Assertions.assertArrayEquals(creative.data().toByteArray(), LocalHttp.download(PORT, "/packs/" + creative.hash() + ".zip"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/**
+ * HTTP client helpers shared by the server tests, every
+ * test class runs its servers on its own local port.
+ */
+final class LocalHttp {
+
+    private LocalHttp() {
+        throw new UnsupportedOperationException("Can't instantiate utility class");
+    }
+
+    static BuiltResourcePack build(String description) {
+        return MinecraftResourcePackWriter.minecraft().build(resourcePack ->
+                resourcePack.packMeta(8, description));
+    }
+
+    static HttpURLConnection open(int port, String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + path).openConnection();
+        connection.setRequestMethod("GET");
+        return connection;
+    }
+
+    static HttpURLConnection openMinecraft(int port, String path) throws IOException {
+        return openMinecraft(port, path, 8);
+    }
+
+    static HttpURLConnection openMinecraft(int port, String path, int packFormat) throws IOException {
+        HttpURLConnection connection = open(port, path);
+        connection.setRequestProperty("X-Minecraft-UUID", "30b9e3deb4b64d37943af5747f710ca6");
+        connection.setRequestProperty("X-Minecraft-Username", "Yusshu");
+        connection.setRequestProperty("X-Minecraft-Pack-Format", Integer.toString(packFormat));
+        connection.setRequestProperty("X-Minecraft-Version", "1.18.2");
+        connection.setRequestProperty("X-Minecraft-Version-ID", "1.18.2");
+        return connection;
+    }
+
+    static byte[] download(int port, String path) throws IOException {
+        return read(openMinecraft(port, path));
+    }
+
+    static byte[] read(HttpURLConnection connection) throws IOException {
+        return read(connection.getInputStream());
+    }
+
+    static byte[] read(InputStream input) throws IOException {
+        try (InputStream in = input) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            stream(in, output);
+            return output.toByteArray();
+        }
+    }
+
+    static void stream(InputStream input, OutputStream output) throws IOException {
+        byte[] buf = new byte[8192];
+        int read;
+        while ((read = input.read(buf)) != -1) {
+            output.write(buf, 0, read);
+        }
+    }
+
+    static String streamToString(InputStream input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        stream(input, output);
+        return output.toString();
+    }
+
+}
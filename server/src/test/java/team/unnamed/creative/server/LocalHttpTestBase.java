@@ -28,13 +28,11 @@ import org.junit.jupiter.api.BeforeAll;
 import team.unnamed.creative.BuiltResourcePack;
 import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackWriter;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.InetSocketAddress;
-import java.net.URL;
 
 class LocalHttpTestBase {
 
@@ -60,22 +58,23 @@ class LocalHttpTestBase {
     }
 
     HttpURLConnection open(String path) throws IOException {
-        return (HttpURLConnection) new URL("http://localhost:" + PORT + path)
-                .openConnection();
+        return LocalHttp.open(PORT, path);
+    }
+
+    HttpURLConnection openMinecraft(String path) throws IOException {
+        return LocalHttp.openMinecraft(PORT, path);
+    }
+
+    byte[] read(HttpURLConnection connection) throws IOException {
+        return LocalHttp.read(connection);
     }
 
     void stream(InputStream input, OutputStream output) throws IOException {
-        byte[] buf = new byte[1024];
-        int read;
-        while ((read = input.read(buf)) != -1) {
-            output.write(buf, 0, read);
-        }
+        LocalHttp.stream(input, output);
     }
 
     String streamToString(InputStream input) throws IOException {
-        ByteArrayOutputStream output = new ByteArrayOutputStream();
-        stream(input, output);
-        return output.toString();
+        return LocalHttp.streamToString(input);
     }
 
 }
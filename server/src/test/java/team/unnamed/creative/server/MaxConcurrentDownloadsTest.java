@@ -0,0 +1,155 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.server.handler.ResourcePackRequestHandler;
+
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+class MaxConcurrentDownloadsTest {
+
+    private static final int PORT = 7274;
+
+    @Test
+    @DisplayName("Test that downloads over the limit are rejected with 503")
+    void test_busy() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        byte[] response = "Slow download\n".getBytes(StandardCharsets.UTF_8);
+
+        ResourcePackRequestHandler handler = (request, exchange) -> {
+            entered.countDown();
+            try {
+                release.await(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(response);
+            }
+        };
+
+        ExecutorService executor = ServerExecutors.bounded(4, 16);
+        ResourcePackServer server = ResourcePackServer.server()
+                .address(new InetSocketAddress(PORT))
+                .handler(handler)
+                .executor(executor)
+                .maxConcurrentDownloads(1, 3)
+                .build();
+        server.start();
+
+        try {
+            Future<Integer> slow = executor.submit(() -> open().getResponseCode());
+            Assertions.assertTrue(entered.await(1, TimeUnit.MINUTES));
+
+            HttpURLConnection rejected = open();
+            Assertions.assertEquals(503, rejected.getResponseCode());
+            Assertions.assertEquals("3", rejected.getHeaderField("Retry-After"));
+
+            release.countDown();
+            Assertions.assertEquals(200, slow.get(1, TimeUnit.MINUTES));
+
+            // permit was released
+            Assertions.assertEquals(200, open().getResponseCode());
+        } finally {
+            release.countDown();
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Test that requests rejected by the executor are answered with 503")
+    void test_executor_rejected() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        byte[] response = "Slow download\n".getBytes(StandardCharsets.UTF_8);
+
+        ResourcePackRequestHandler handler = (request, exchange) -> {
+            try {
+                release.await(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(response);
+            }
+        };
+
+        // a single thread and a single queued request
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ServerExecutors.bounded(1, 1);
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(2);
+        ResourcePackServer server = ResourcePackServer.server()
+                .address(new InetSocketAddress(PORT))
+                .handler(handler)
+                .executor(executor)
+                .build();
+        server.start();
+
+        try {
+            Future<Integer> running = clientExecutor.submit(() -> open().getResponseCode());
+            while (executor.getActiveCount() < 1) {
+                Thread.sleep(10);
+            }
+            Future<Integer> queued = clientExecutor.submit(() -> open().getResponseCode());
+            while (executor.getQueue().size() < 1) {
+                Thread.sleep(10);
+            }
+
+            HttpURLConnection rejected = open();
+            Assertions.assertEquals(503, rejected.getResponseCode());
+            Assertions.assertEquals("5", rejected.getHeaderField("Retry-After"));
+
+            release.countDown();
+            Assertions.assertEquals(200, running.get(1, TimeUnit.MINUTES));
+            Assertions.assertEquals(200, queued.get(1, TimeUnit.MINUTES));
+        } finally {
+            release.countDown();
+            server.stop(0);
+            clientExecutor.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+
+    private static HttpURLConnection open() throws Exception {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + PORT + "/").openConnection();
+        connection.setRequestMethod("GET");
+        return connection;
+    }
+
+}
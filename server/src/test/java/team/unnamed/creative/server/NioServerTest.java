@@ -0,0 +1,268 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.FileBuiltResourcePack;
+import team.unnamed.creative.ResourcePack;
+import team.unnamed.creative.base.Writable;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackWriter;
+import team.unnamed.creative.server.handler.ResourcePackRequestHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class NioServerTest {
+
+    private static final int PORT = 7279;
+
+    private static final String MINECRAFT_HEADERS = "X-Minecraft-UUID: 30b9e3deb4b64d37943af5747f710ca6\r\n"
+            + "X-Minecraft-Username: Yusshu\r\n"
+            + "X-Minecraft-Pack-Format: 8\r\n"
+            + "X-Minecraft-Version: 1.18.2\r\n"
+            + "X-Minecraft-Version-ID: 1.18.2\r\n";
+
+    private static Path file;
+    private static FileBuiltResourcePack filePack;
+    private static BuiltResourcePack memoryPack;
+
+    @BeforeAll
+    static void setup() throws IOException {
+        // incompressible, bigger than the socket buffers
+        byte[] noise = new byte[2 * 1024 * 1024];
+        new Random(7).nextBytes(noise);
+
+        ResourcePack pack = ResourcePack.resourcePack();
+        pack.packMeta(8, "NIO resource pack!");
+        pack.unknownFile("noise.bin", Writable.bytes(noise));
+
+        file = Files.createTempFile("creative-nio-pack", ".zip");
+        filePack = MinecraftResourcePackWriter.minecraft().buildToFile(file, pack);
+        memoryPack = MinecraftResourcePackWriter.minecraft().build(pack);
+    }
+
+    @AfterAll
+    static void cleanup() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("Test that file, buffered and copied packs are downloaded")
+    void test_download() throws IOException {
+        List<ResourcePackRequestHandler> handlers = new ArrayList<>();
+        handlers.add(ResourcePackRequestHandler.fixed(filePack, true));
+        handlers.add(ResourcePackRequestHandler.buffered(memoryPack, true, false));
+        handlers.add(ResourcePackRequestHandler.buffered(memoryPack, true, true));
+        handlers.add(ResourcePackRequestHandler.fixed(memoryPack, true));
+
+        byte[] expected = Files.readAllBytes(file);
+        for (ResourcePackRequestHandler handler : handlers) {
+            ResourcePackServer server = nioServer(handler, null);
+            server.start();
+            try {
+                // twice, the second one may reuse the connection
+                for (int i = 0; i < 2; i++) {
+                    HttpURLConnection connection = LocalHttp.openMinecraft(PORT, "/");
+                    Assertions.assertEquals(200, connection.getResponseCode());
+                    Assertions.assertEquals("application/zip", connection.getContentType());
+                    Assertions.assertEquals(expected.length, connection.getContentLengthLong());
+                    Assertions.assertArrayEquals(expected, LocalHttp.read(connection));
+                }
+
+                HttpURLConnection range = LocalHttp.openMinecraft(PORT, "/");
+                range.setRequestProperty("Range", "bytes=100-199");
+                Assertions.assertEquals(206, range.getResponseCode());
+                byte[] expectedRange = new byte[100];
+                System.arraycopy(expected, 100, expectedRange, 0, 100);
+                Assertions.assertArrayEquals(expectedRange, LocalHttp.read(range));
+
+                HttpURLConnection invalid = LocalHttp.open(PORT, "/");
+                Assertions.assertEquals(400, invalid.getResponseCode());
+            } finally {
+                server.stop(0);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test that pipelined requests are answered in the same connection")
+    void test_keep_alive() throws IOException {
+        ResourcePackServer server = nioServer(ResourcePackRequestHandler.buffered(memoryPack, true, false), null);
+        server.start();
+        try (Socket socket = new Socket("localhost", PORT)) {
+            String request = "GET / HTTP/1.1\r\nHost: localhost\r\n" + MINECRAFT_HEADERS + "\r\n";
+            OutputStream output = socket.getOutputStream();
+            output.write((request + request).getBytes(StandardCharsets.ISO_8859_1));
+            output.write(("GET / HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n" + MINECRAFT_HEADERS + "\r\n")
+                    .getBytes(StandardCharsets.ISO_8859_1));
+            output.flush();
+
+            // the server closes the connection after the third response
+            String head = "HTTP/1.1 200 OK\r\n";
+            byte[] responses = LocalHttp.read(socket.getInputStream());
+            String text = new String(responses, StandardCharsets.ISO_8859_1);
+            int count = 0;
+            for (int index = text.indexOf(head); index != -1; index = text.indexOf(head, index + 1)) {
+                count++;
+            }
+            Assertions.assertEquals(3, count);
+            Assertions.assertTrue(responses.length > memoryPack.data().toByteArray().length * 3);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("Test that malformed requests are rejected")
+    void test_malformed() throws IOException {
+        ResourcePackServer server = nioServer(ResourcePackRequestHandler.fixed(memoryPack, true), null);
+        server.start();
+        try (Socket socket = new Socket("localhost", PORT)) {
+            socket.getOutputStream().write("NOT HTTP\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+            String response = new String(LocalHttp.read(socket.getInputStream()), StandardCharsets.ISO_8859_1);
+            Assertions.assertTrue(response.startsWith("HTTP/1.1 400 "), response);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("Test that many concurrent downloads are served by few threads")
+    void test_concurrent() throws Exception {
+        ServerMetrics metrics = ServerMetrics.metrics();
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(32);
+        ResourcePackServer server = nioServer(ResourcePackRequestHandler.fixed(filePack, true), metrics);
+        server.start();
+
+        try {
+            List<Future<byte[]>> downloads = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                downloads.add(clientExecutor.submit(() -> LocalHttp.download(PORT, "/")));
+            }
+            byte[] expected = Files.readAllBytes(file);
+            for (Future<byte[]> download : downloads) {
+                Assertions.assertArrayEquals(expected, download.get(1, TimeUnit.MINUTES));
+            }
+            Assertions.assertEquals(64, metrics.requests());
+            Assertions.assertEquals(64L * expected.length, metrics.bytesWritten());
+        } finally {
+            server.stop(0);
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Test that downloads count as active until they are sent")
+    void test_max_concurrent_downloads_slow_client() throws Exception {
+        // much bigger than the socket buffers, which may grow up to a few MB
+        byte[] noise = new byte[32 * 1024 * 1024];
+        new Random(8).nextBytes(noise);
+        ResourcePack pack = ResourcePack.resourcePack();
+        pack.packMeta(8, "Big NIO resource pack!");
+        pack.unknownFile("noise.bin", Writable.bytes(noise));
+        BuiltResourcePack bigPack = MinecraftResourcePackWriter.minecraft().build(pack);
+        Path bigFile = Files.createTempFile("creative-nio-big-pack", ".zip");
+
+        ServerMetrics metrics = ServerMetrics.metrics();
+        List<ResourcePackRequestHandler> handlers = new ArrayList<>();
+        handlers.add(ResourcePackRequestHandler.fixed(MinecraftResourcePackWriter.minecraft().buildToFile(bigFile, pack), true));
+        handlers.add(ResourcePackRequestHandler.buffered(bigPack, true, false));
+
+        for (ResourcePackRequestHandler handler : handlers) {
+            ResourcePackServer server = ResourcePackServer.server()
+                    .address(new InetSocketAddress(PORT))
+                    .backend(ResourcePackServer.Backend.NIO)
+                    .handler(handler)
+                    .listener(metrics)
+                    .maxConcurrentDownloads(1, 3)
+                    .build();
+            server.start();
+
+            try (Socket slow = new Socket()) {
+                // the pack doesn't fit in the socket buffers, so the
+                // server can't finish sending it until the client reads
+                slow.setReceiveBufferSize(4096);
+                slow.connect(new InetSocketAddress("localhost", PORT));
+                slow.getOutputStream().write(("GET / HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n" + MINECRAFT_HEADERS + "\r\n")
+                        .getBytes(StandardCharsets.ISO_8859_1));
+                InputStream slowInput = slow.getInputStream();
+                Assertions.assertTrue(slowInput.read() != -1);
+
+                // the handler returned already, but the download is not done
+                Thread.sleep(200);
+                Assertions.assertEquals(1, metrics.activeRequests());
+                HttpURLConnection rejected = LocalHttp.openMinecraft(PORT, "/");
+                Assertions.assertEquals(503, rejected.getResponseCode());
+                Assertions.assertEquals("3", rejected.getHeaderField("Retry-After"));
+
+                // finish the slow download, then the permit is released
+                LocalHttp.read(slowInput);
+                int code = 503;
+                for (int i = 0; i < 100 && code == 503; i++) {
+                    HttpURLConnection connection = LocalHttp.openMinecraft(PORT, "/");
+                    code = connection.getResponseCode();
+                    if (code == 503) {
+                        Thread.sleep(20);
+                    } else {
+                        LocalHttp.read(connection);
+                    }
+                }
+                Assertions.assertEquals(200, code);
+            } finally {
+                server.stop(0);
+            }
+        }
+        Files.deleteIfExists(bigFile);
+        Assertions.assertEquals(0, metrics.activeRequests());
+    }
+
+    private static ResourcePackServer nioServer(ResourcePackRequestHandler handler, ResourcePackServerListener listener) throws IOException {
+        return ResourcePackServer.server()
+                .address(new InetSocketAddress(PORT))
+                .backend(ResourcePackServer.Backend.NIO)
+                .handler(handler)
+                .listener(listener)
+                .build();
+    }
+
+}
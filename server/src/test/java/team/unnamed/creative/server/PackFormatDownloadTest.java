@@ -0,0 +1,211 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.metadata.pack.PackFormat;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackWriter;
+import team.unnamed.creative.server.handler.ResourcePackRequestHandler;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class PackFormatDownloadTest {
+
+    private static final int PORT = 7273;
+    private static final PackFormat SUPPORTED_FORMATS = PackFormat.format(8, 8, 9);
+
+    private final AtomicInteger builds = new AtomicInteger();
+    private final Map<Integer, BuiltResourcePack> built = new ConcurrentHashMap<>();
+
+    private BuiltResourcePack build(int packFormat) {
+        builds.incrementAndGet();
+        try {
+            // slow build, so that requests are concurrent
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        BuiltResourcePack pack = MinecraftResourcePackWriter.minecraft().build(resourcePack ->
+                resourcePack.packMeta(packFormat, "Pack for format " + packFormat));
+        built.put(packFormat, pack);
+        return pack;
+    }
+
+    @Test
+    @DisplayName("Test that concurrent requests build each pack format once")
+    void test_concurrent_builds() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(16);
+        ResourcePackServer server = ResourcePackServer.server()
+                .address(new InetSocketAddress(PORT))
+                .handler(ResourcePackRequestHandler.perPackFormat(this::build, SUPPORTED_FORMATS, 4, true))
+                .executor(executor)
+                .build();
+        server.start();
+
+        try {
+            List<Future<byte[]>> format8 = new ArrayList<>();
+            List<Future<byte[]>> format9 = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                format8.add(clientExecutor.submit(() -> download(8)));
+                format9.add(clientExecutor.submit(() -> download(9)));
+            }
+
+            for (Future<byte[]> future : format8) {
+                byte[] downloaded = future.get(1, TimeUnit.MINUTES);
+                Assertions.assertArrayEquals(built.get(8).data().toByteArray(), downloaded);
+            }
+            for (Future<byte[]> future : format9) {
+                byte[] downloaded = future.get(1, TimeUnit.MINUTES);
+                Assertions.assertArrayEquals(built.get(9).data().toByteArray(), downloaded);
+            }
+            Assertions.assertEquals(2, builds.get());
+        } finally {
+            server.stop(0);
+            clientExecutor.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Test that the least recently requested pack formats are discarded")
+    void test_bounded_cache() throws Exception {
+        ResourcePackServer server = ResourcePackServer.server()
+                .address(new InetSocketAddress(PORT))
+                .handler(ResourcePackRequestHandler.perPackFormat(this::build, SUPPORTED_FORMATS, 1, true))
+                .build();
+        server.start();
+
+        try {
+            download(8);
+            download(8);
+            Assertions.assertEquals(1, builds.get());
+            download(9);
+            download(8);
+            Assertions.assertEquals(3, builds.get());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("Test that variants being built are not discarded")
+    void test_bounded_cache_concurrent_builds() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(16);
+        ResourcePackServer server = ResourcePackServer.server()
+                .address(new InetSocketAddress(PORT))
+                .handler(ResourcePackRequestHandler.perPackFormat(this::build, SUPPORTED_FORMATS, 1, true))
+                .executor(executor)
+                .build();
+        server.start();
+
+        try {
+            List<Future<byte[]>> downloads = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                final int packFormat = 8 + (i % 2);
+                downloads.add(clientExecutor.submit(() -> download(packFormat)));
+                Thread.sleep(20);
+            }
+            for (Future<byte[]> future : downloads) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+            Assertions.assertEquals(2, builds.get());
+
+            // only one of them is kept once built
+            download(9);
+            int buildCount = builds.get();
+            Assertions.assertTrue(buildCount <= 3);
+            download(9);
+            Assertions.assertEquals(buildCount, builds.get());
+            download(8);
+            Assertions.assertEquals(buildCount + 1, builds.get());
+        } finally {
+            server.stop(0);
+            clientExecutor.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Test that unsupported pack formats are clamped to the supported ones")
+    void test_unsupported_formats() throws Exception {
+        ResourcePackServer server = ResourcePackServer.server()
+                .address(new InetSocketAddress(PORT))
+                .handler(ResourcePackRequestHandler.perPackFormat(this::build, SUPPORTED_FORMATS, 4, true))
+                .build();
+        server.start();
+
+        try {
+            Assertions.assertArrayEquals(download(8), download(-5));
+            Assertions.assertArrayEquals(download(9), download(1000));
+            Assertions.assertArrayEquals(download(9), download(Integer.MAX_VALUE));
+            Assertions.assertEquals(2, builds.get());
+            Assertions.assertEquals(built.keySet(), new HashSet<>(Arrays.asList(8, 9)));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("Test that requests without a pack format get the newest supported one")
+    void test_invalid_requests() throws Exception {
+        ResourcePackServer server = ResourcePackServer.server()
+                .address(new InetSocketAddress(PORT))
+                .handler(ResourcePackRequestHandler.perPackFormat(this::build, SUPPORTED_FORMATS, 4, false))
+                .build();
+        server.start();
+
+        try {
+            HttpURLConnection connection = LocalHttp.open(PORT, "/");
+            Assertions.assertEquals(200, connection.getResponseCode());
+            Assertions.assertArrayEquals(download(9), LocalHttp.read(connection));
+            Assertions.assertEquals(1, builds.get());
+            Assertions.assertEquals(built.keySet(), new HashSet<>(Arrays.asList(9)));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static byte[] download(int packFormat) throws IOException {
+        return LocalHttp.read(LocalHttp.openMinecraft(PORT, "/", packFormat));
+    }
+
+}
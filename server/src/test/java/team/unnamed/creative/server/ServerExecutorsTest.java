@@ -0,0 +1,65 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerExecutorsTest {
+
+    @Test
+    @DisplayName("Test that the bounded executor runs tasks in daemon threads")
+    void test_bounded() throws Exception {
+        ExecutorService executor = ServerExecutors.bounded(2, 4);
+        try {
+            assertTrue(executor.submit(() -> Thread.currentThread().isDaemon()).get(1, TimeUnit.MINUTES));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThrows(IllegalArgumentException.class, () -> ServerExecutors.bounded(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> ServerExecutors.bounded(2, 0));
+    }
+
+    @Test
+    @DisplayName("Test that the virtual thread executor is only available on Java 21+")
+    void test_virtual_threads() throws Exception {
+        if (!ServerExecutors.virtualThreadsAvailable()) {
+            assertThrows(UnsupportedOperationException.class, ServerExecutors::virtualThreadPerRequest);
+            return;
+        }
+
+        ExecutorService executor = ServerExecutors.virtualThreadPerRequest();
+        try {
+            assertEquals("", executor.submit(() -> Thread.currentThread().getName()).get(1, TimeUnit.MINUTES));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
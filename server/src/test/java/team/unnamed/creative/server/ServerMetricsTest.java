@@ -0,0 +1,124 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.serialize.minecraft.MinecraftResourcePackWriter;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+class ServerMetricsTest {
+
+    private static final int PORT = 7276;
+
+    private static final ServerMetrics metrics = ServerMetrics.metrics();
+    private static final List<CompletedRequest> completed = new CopyOnWriteArrayList<>();
+
+    private static BuiltResourcePack resourcePack;
+    private static ResourcePackServer server;
+
+    @BeforeAll
+    static void setup() throws Exception {
+        resourcePack = MinecraftResourcePackWriter.minecraft().build(resourcePack ->
+                resourcePack.packMeta(8, "Resource pack!"));
+        server = ResourcePackServer.server()
+                .address(new InetSocketAddress(PORT))
+                .pack(resourcePack, true)
+                .listener(ResourcePackServerListener.compose(
+                        metrics,
+                        ResourcePackServerListener.jfr(),
+                        new ResourcePackServerListener() {
+                            @Override
+                            public void onRequestFinish(@NotNull CompletedRequest request, @NotNull HttpExchange exchange) {
+                                completed.add(request);
+                            }
+                        }
+                ))
+                .build();
+        server.start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Test that requests are recorded")
+    void test_metrics() throws IOException {
+        HttpURLConnection valid = LocalHttp.openMinecraft(PORT, "/");
+        Assertions.assertEquals(200, valid.getResponseCode());
+        LocalHttp.read(valid.getInputStream());
+
+        HttpURLConnection invalid = LocalHttp.open(PORT, "/");
+        Assertions.assertEquals(400, invalid.getResponseCode());
+        LocalHttp.read(invalid.getErrorStream());
+
+        // wait for the server to finish
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (completed.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.yield();
+        }
+
+        Assertions.assertEquals(2, metrics.requests());
+        Assertions.assertEquals(0, metrics.activeRequests());
+        Assertions.assertEquals(1, metrics.invalidRequests());
+        Assertions.assertEquals(0, metrics.failedRequests());
+        Assertions.assertEquals(1, metrics.responses(2));
+        Assertions.assertEquals(1, metrics.responses(4));
+
+        long histogramTotal = 0;
+        for (long count : metrics.latencyHistogram()) {
+            histogramTotal += count;
+        }
+        Assertions.assertEquals(2, histogramTotal);
+        Assertions.assertTrue(metrics.latencyPercentileMillis(0.5) >= 1);
+
+        CompletedRequest download = completed.get(0);
+        Assertions.assertEquals(200, download.statusCode());
+        Assertions.assertEquals(8, download.packFormat());
+        Assertions.assertEquals(resourcePack.hash(), download.packHash());
+        Assertions.assertEquals(resourcePack.data().toByteArray().length, download.bytesWritten());
+        Assertions.assertNull(download.failure());
+
+        CompletedRequest rejected = completed.get(1);
+        Assertions.assertEquals(400, rejected.statusCode());
+        Assertions.assertEquals(-1, rejected.packFormat());
+        Assertions.assertNull(rejected.request());
+
+        Assertions.assertEquals(download.bytesWritten() + rejected.bytesWritten(), metrics.bytesWritten());
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.server.handler.ResourcePackRequestHandler;
+import team.unnamed.creative.server.handler.SwappableResourcePackRequestHandler;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+
+class SwappableDownloadTest {
+
+    private static final int PORT = 7277;
+
+    @Test
+    @DisplayName("Test that swapped packs are served, and previous ones by hash")
+    void test_swap() throws IOException {
+        BuiltResourcePack first = LocalHttp.build("First");
+        BuiltResourcePack second = LocalHttp.build("Second");
+        BuiltResourcePack third = LocalHttp.build("Third");
+
+        SwappableResourcePackRequestHandler handler = ResourcePackRequestHandler.swappable(first, true, 1);
+        ResourcePackServer server = ResourcePackServer.server()
+                .address(new InetSocketAddress(PORT))
+                .handler(handler)
+                .build();
+        server.start();
+
+        try {
+            Assertions.assertArrayEquals(first.data().toByteArray(), LocalHttp.download(PORT, "/"));
+
+            Assertions.assertSame(first, handler.swap(second));
+            Assertions.assertSame(second, handler.pack());
+            Assertions.assertEquals(Arrays.asList(second, first), handler.servablePacks());
+            Assertions.assertArrayEquals(second.data().toByteArray(), LocalHttp.download(PORT, "/"));
+            Assertions.assertArrayEquals(first.data().toByteArray(), LocalHttp.download(PORT, "/" + first.hash() + ".zip"));
+            Assertions.assertArrayEquals(second.data().toByteArray(), LocalHttp.download(PORT, "/" + second.hash()));
+
+            // only one previous pack is kept, unknown hashes get the current pack
+            handler.swap(third);
+            Assertions.assertEquals(Arrays.asList(third, second), handler.servablePacks());
+            Assertions.assertArrayEquals(third.data().toByteArray(), LocalHttp.download(PORT, "/" + first.hash() + ".zip"));
+            Assertions.assertArrayEquals(second.data().toByteArray(), LocalHttp.download(PORT, "/" + second.hash() + ".zip"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("Test that swapping to an already kept pack doesn't duplicate it")
+    void test_swap_back() {
+        BuiltResourcePack first = LocalHttp.build("First");
+        BuiltResourcePack second = LocalHttp.build("Second");
+
+        SwappableResourcePackRequestHandler handler = ResourcePackRequestHandler.swappable(first, true, 2);
+        handler.swap(second);
+        handler.swap(first);
+        Assertions.assertEquals(Arrays.asList(first, second), handler.servablePacks());
+    }
+
+}
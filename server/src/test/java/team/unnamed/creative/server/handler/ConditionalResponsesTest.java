@@ -0,0 +1,52 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server.handler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.BuiltResourcePack;
+import team.unnamed.creative.base.Writable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalResponsesTest {
+    @Test
+    @DisplayName("Test that entity tags are created from the pack hash")
+    void test_entity_tag() {
+        final BuiltResourcePack pack = BuiltResourcePack.of(Writable.EMPTY, "abc123");
+        assertEquals("\"abc123\"", ConditionalResponses.entityTag(pack));
+    }
+
+    @Test
+    @DisplayName("Test that If-None-Match values are correctly matched")
+    void test_matches_any() {
+        assertTrue(ConditionalResponses.matchesAny("\"abc\"", "\"abc\""));
+        assertTrue(ConditionalResponses.matchesAny("W/\"abc\"", "\"abc\""));
+        assertTrue(ConditionalResponses.matchesAny("\"xyz\", \"abc\"", "\"abc\""));
+        assertTrue(ConditionalResponses.matchesAny("*", "\"abc\""));
+        assertFalse(ConditionalResponses.matchesAny(null, "\"abc\""));
+        assertFalse(ConditionalResponses.matchesAny("\"xyz\"", "\"abc\""));
+        assertFalse(ConditionalResponses.matchesAny("abc", "\"abc\""));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of creative, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2025 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.creative.server.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteRangeTest {
+    @Test
+    @DisplayName("Test that valid byte ranges are correctly parsed")
+    void test_valid() {
+        assertRange(0, 99, ByteRange.parse("bytes=0-99", 1000));
+        assertRange(500, 999, ByteRange.parse("bytes=500-", 1000));
+        assertRange(900, 999, ByteRange.parse("bytes=-100", 1000));
+        assertRange(0, 999, ByteRange.parse("bytes=-5000", 1000));
+        assertRange(990, 999, ByteRange.parse("bytes=990-5000", 1000));
+        assertRange(10, 10, ByteRange.parse("Bytes= 10-10", 1000));
+        assertEquals("bytes 0-99/1000", ByteRange.parse("bytes=0-99", 1000).contentRange(1000));
+    }
+
+    @Test
+    @DisplayName("Test that unsupported or malformed byte ranges are ignored")
+    void test_ignored() {
+        assertNull(ByteRange.parse(null, 1000));
+        assertNull(ByteRange.parse("items=0-99", 1000));
+        assertNull(ByteRange.parse("bytes=0-99,200-299", 1000));
+        assertNull(ByteRange.parse("bytes=abc-def", 1000));
+        assertNull(ByteRange.parse("bytes=100-50", 1000));
+        assertNull(ByteRange.parse("bytes=-", 1000));
+        assertNull(ByteRange.parse("bytes=+5-10", 1000));
+        assertNull(ByteRange.parse("bytes=100", 1000));
+    }
+
+    @Test
+    @DisplayName("Test that unsatisfiable byte ranges are detected")
+    void test_unsatisfiable() {
+        assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=1000-", 1000));
+        assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=5000-6000", 1000));
+        assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=-0", 1000));
+        assertEquals("bytes */1000", ByteRange.UNSATISFIABLE.contentRange(1000));
+    }
+
+    private static void assertRange(final long start, final long end, final ByteRange range) {
+        assertNotNull(range);
+        assertEquals(start, range.start());
+        assertEquals(end, range.end());
+        assertEquals(end - start + 1, range.length());
+    }
+}